@@ -0,0 +1,4 @@
+-- 게시글 FULLTEXT(ngram) 검색 인덱스 (post.search.engine=mysql 사용 시 배포 전에 한 번 실행)
+-- 큰 테이블에서는 인덱스 생성 중 post 테이블 쓰기가 지연될 수 있으므로 트래픽이 적은 시간에 실행
+
+ALTER TABLE post ADD FULLTEXT INDEX ft_post_title_description (title, description) WITH PARSER ngram;
@@ -2,8 +2,10 @@ package org.ssafy.ssafymarket;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class SsafymarketApplication {
 
     public static void main(String[] args) {
@@ -2,6 +2,12 @@ package org.ssafy.ssafymarket.config;
 
 import io.minio.MinioClient;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -19,6 +25,18 @@ public class MinioConfig {
 	@Value("${minio.secret-key}")
 	private String secretKey;
 
+	@Value("${minio.upload.concurrency:8}")
+	private int uploadConcurrency;
+
+	@Value("${minio.upload.queue-capacity:100}")
+	private int uploadQueueCapacity;
+
+	@Value("${minio.variant.threads:2}")
+	private int variantThreads;
+
+	@Value("${minio.variant.queue-capacity:1000}")
+	private int variantQueueCapacity;
+
 	@Bean
 	public MinioClient minioClient() {
 		return MinioClient.builder()
@@ -26,4 +44,34 @@ public class MinioConfig {
 			.credentials(accessKey, secretKey)
 			.build();
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 이미지 업로드 전용 스레드 풀 (동시 업로드 수 제한)
+	 * 대기열이 가득 차면 요청 스레드가 직접 업로드
+	 */
+	@Bean
+	public ExecutorService minioUploadExecutor() {
+		AtomicInteger sequence = new AtomicInteger();
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(uploadConcurrency, uploadConcurrency,
+			60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(uploadQueueCapacity),
+			r -> new Thread(r, "minio-upload-" + sequence.incrementAndGet()),
+			new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	/**
+	 * 썸네일/축소 이미지 생성 전용 스레드 풀 (디코딩이 무거우므로 적은 수로 제한)
+	 * 대기열이 가득 차면 거부 (변형이 없으면 원본 URL로 응답)
+	 */
+	@Bean
+	public ExecutorService imageVariantExecutor() {
+		AtomicInteger sequence = new AtomicInteger();
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(variantThreads, variantThreads,
+			60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(variantQueueCapacity),
+			r -> new Thread(r, "image-variant-" + sequence.incrementAndGet()),
+			new ThreadPoolExecutor.AbortPolicy());
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+}
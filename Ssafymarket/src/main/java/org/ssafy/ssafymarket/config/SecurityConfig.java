@@ -99,6 +99,8 @@ public class SecurityConfig {
 				.requestMatchers(HttpMethod.DELETE, "/api/posts/**").authenticated()
 				// 조회만 공개로 둘 거면 GET 허용
 				.requestMatchers(HttpMethod.GET, "/api/posts/**").permitAll()
+				// 이미지 서빙 (MinIO 객체)
+				.requestMatchers(HttpMethod.GET, "/images/**").permitAll()
 				.requestMatchers("/api/user/**").authenticated()
 				.requestMatchers("/api/admin/**").hasRole("ADMIN")
 				.anyRequest().authenticated()
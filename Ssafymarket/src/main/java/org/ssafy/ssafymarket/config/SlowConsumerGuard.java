@@ -0,0 +1,268 @@
+package org.ssafy.ssafymarket.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 느린 WebSocket 수신자(slow consumer) 감지 및 처리
+ * - 세션별로 발신 채널에 들어간 프레임 수와 실제 소켓 전송 완료 수를 비교해 밀린 양(backlog)을 추적
+ * - 바이트 기준 버퍼 상한은 Spring의 send-buffer-size-limit / send-time-limit 설정으로 함께 적용
+ * - backlog가 drop-threshold를 넘으면 중요하지 않은 프레임(입장 알림, 읽음/접속 상태 알림)부터 버림
+ * - backlog가 disconnect-threshold를 넘거나 한 번의 전송이 disconnect-send-time-ms 이상 걸리면 연결 종료
+ *   (세션별 버퍼가 끝없이 커져 힙을 차지하지 않도록 함, 클라이언트는 재연결 후 seq 동기화로 복구)
+ * - 세션별 전송 통계 제공
+ */
+@Slf4j
+@Component
+public class SlowConsumerGuard implements ChannelInterceptor, WebSocketHandlerDecoratorFactory {
+
+    /**
+     * 버려도 되는 프레임 표시용 STOMP 헤더 (값: low)
+     */
+    public static final String PRIORITY_HEADER = "x-chat-priority";
+    public static final String PRIORITY_LOW = "low";
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final int dropThreshold;
+    private final int disconnectThreshold;
+    private final long disconnectSendTimeMs;
+    private final List<String> lowPriorityDestinations;
+
+    private final Map<String, SessionStats> sessions = new ConcurrentHashMap<>();
+    private final LongAdder droppedTotal = new LongAdder();
+    private final LongAdder disconnectedTotal = new LongAdder();
+
+    public SlowConsumerGuard(@Value("${chat.slow-consumer.drop-threshold:200}") int dropThreshold,
+                             @Value("${chat.slow-consumer.disconnect-threshold:1000}") int disconnectThreshold,
+                             @Value("${chat.slow-consumer.disconnect-send-time-ms:10000}") long disconnectSendTimeMs,
+                             @Value("${chat.slow-consumer.low-priority-destinations:/user/queue/read,/user/queue/presence}")
+                             List<String> lowPriorityDestinations) {
+        this.dropThreshold = dropThreshold;
+        this.disconnectThreshold = disconnectThreshold;
+        this.disconnectSendTimeMs = disconnectSendTimeMs;
+        this.lowPriorityDestinations = lowPriorityDestinations;
+    }
+
+    /* ===================== 세션 등록 ===================== */
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                TrackedSession tracked = new TrackedSession(session);
+                sessions.put(session.getId(), tracked.stats);
+                super.afterConnectionEstablished(tracked);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessions.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    /* ===================== 발신 채널 ===================== */
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        SessionStats stats = sessionId == null ? null : sessions.get(sessionId);
+        if (stats == null) {
+            return message;
+        }
+        if (stats.closing.get()) {
+            return drop(stats);
+        }
+
+        long backlog = stats.backlog();
+        long sendingMs = stats.currentSendMillis();
+        if (backlog >= disconnectThreshold || sendingMs >= disconnectSendTimeMs) {
+            disconnect(stats, backlog, sendingMs);
+            return drop(stats);
+        }
+        if (backlog >= dropThreshold && isLowPriority(message)) {
+            return drop(stats);
+        }
+
+        stats.enqueuedFrames.incrementAndGet();
+        return message;
+    }
+
+    private Message<?> drop(SessionStats stats) {
+        stats.dropped.increment();
+        droppedTotal.increment();
+        return null;
+    }
+
+    private boolean isLowPriority(Message<?> message) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        if (PRIORITY_LOW.equals(accessor.getFirstNativeHeader(PRIORITY_HEADER))) {
+            return true;
+        }
+        // 사용자 목적지는 /queue/read-user{sessionId} 형태로 바뀌므로 원래 목적지(/user/queue/read)로 비교
+        Object original = accessor.getHeader(SimpMessageHeaderAccessor.ORIGINAL_DESTINATION);
+        String destination = original instanceof String ? (String) original : accessor.getDestination();
+        if (destination == null) {
+            return false;
+        }
+        for (String pattern : lowPriorityDestinations) {
+            if (PATH_MATCHER.match(pattern, destination)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 연결 종료 (전송이 막힌 스레드와 별개로 종료해 발신 스레드가 함께 멈추지 않게 함)
+     */
+    private void disconnect(SessionStats stats, long backlog, long sendingMs) {
+        if (!stats.closing.compareAndSet(false, true)) {
+            return;
+        }
+        disconnectedTotal.increment();
+        log.warn("느린 WebSocket 수신자 연결 종료 - sessionId: {}, userId: {}, 밀린 프레임: {}, 전송 중 {}ms",
+                stats.sessionId, stats.userId, backlog, sendingMs);
+        CompletableFuture.runAsync(() -> {
+            try {
+                stats.session.close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (IOException e) {
+                log.debug("느린 수신자 연결 종료 실패 - sessionId: {}", stats.sessionId, e);
+            }
+        });
+    }
+
+    /* ===================== 통계 ===================== */
+
+    /**
+     * 전체 요약 + 밀린 양이 많은 순으로 limit개 세션 통계 (관리자 조회용)
+     */
+    public Map<String, Object> getStats(int limit) {
+        // 정렬 중 값이 바뀌지 않도록 먼저 스냅샷을 만든 뒤 정렬
+        List<Map<String, Object>> snapshot = new ArrayList<>(sessions.size());
+        for (SessionStats session : sessions.values()) {
+            snapshot.add(session.toMap());
+        }
+        snapshot.sort(Comparator.comparingLong((Map<String, Object> m) -> (Long) m.get("backlogFrames")).reversed());
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("sessionCount", snapshot.size());
+        stats.put("dropThreshold", dropThreshold);
+        stats.put("disconnectThreshold", disconnectThreshold);
+        stats.put("disconnectSendTimeMs", disconnectSendTimeMs);
+        stats.put("droppedTotal", droppedTotal.sum());
+        stats.put("disconnectedTotal", disconnectedTotal.sum());
+        stats.put("sessions", snapshot.subList(0, Math.min(limit, snapshot.size())));
+        return stats;
+    }
+
+    /**
+     * 세션별 발신 통계
+     */
+    private static final class SessionStats {
+
+        private final String sessionId;
+        private final String userId;
+        private final WebSocketSession session;
+        private final AtomicBoolean closing = new AtomicBoolean();
+
+        private final AtomicLong enqueuedFrames = new AtomicLong();
+        private final AtomicLong sentFrames = new AtomicLong();
+        private final AtomicLong sentBytes = new AtomicLong();
+        private final LongAdder dropped = new LongAdder();
+        private final LongAdder sendNanos = new LongAdder();
+        private final AtomicLong maxSendNanos = new AtomicLong();
+        // 진행 중인 전송 시작 시각 (0이면 전송 중 아님)
+        private volatile long sendStartedAt;
+
+        SessionStats(WebSocketSession session) {
+            this.sessionId = session.getId();
+            this.session = session;
+            Object studentId = session.getAttributes().get("studentId");
+            this.userId = studentId == null ? null : studentId.toString();
+        }
+
+        // 채널을 거치지 않고 바로 전송되는 프레임(ERROR 등)이 있으므로 음수가 되지 않게 함
+        long backlog() {
+            return Math.max(0, enqueuedFrames.get() - sentFrames.get());
+        }
+
+        long currentSendMillis() {
+            long started = sendStartedAt;
+            return started == 0 ? 0 : (System.nanoTime() - started) / 1_000_000;
+        }
+
+        Map<String, Object> toMap() {
+            long frames = sentFrames.get();
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("sessionId", sessionId);
+            map.put("userId", userId);
+            map.put("backlogFrames", backlog());
+            map.put("sentFrames", frames);
+            map.put("sentBytes", sentBytes.get());
+            map.put("droppedFrames", dropped.sum());
+            map.put("avgSendMs", frames == 0 ? 0.0 : sendNanos.sum() / 1_000_000.0 / frames);
+            map.put("maxSendMs", maxSendNanos.get() / 1_000_000.0);
+            map.put("currentSendMs", currentSendMillis());
+            map.put("closing", closing.get());
+            return map;
+        }
+    }
+
+    /**
+     * 실제 소켓 전송 시간/완료 수를 기록하는 세션 (Spring이 세션별로 한 번에 하나씩 호출)
+     */
+    private static final class TrackedSession extends WebSocketSessionDecorator {
+
+        private final SessionStats stats;
+
+        TrackedSession(WebSocketSession session) {
+            super(session);
+            this.stats = new SessionStats(session);
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            long started = System.nanoTime();
+            stats.sendStartedAt = started;
+            try {
+                super.sendMessage(message);
+            } finally {
+                long elapsed = System.nanoTime() - started;
+                stats.sendStartedAt = 0;
+                stats.sentFrames.incrementAndGet();
+                stats.sentBytes.addAndGet(message.getPayloadLength());
+                stats.sendNanos.add(elapsed);
+                stats.maxSendNanos.accumulateAndGet(elapsed, Math::max);
+            }
+        }
+    }
+}
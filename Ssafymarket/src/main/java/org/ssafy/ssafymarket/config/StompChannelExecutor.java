@@ -0,0 +1,252 @@
+package org.ssafy.ssafymarket.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * STOMP 채널(clientInbound/clientOutbound) 전용 실행기
+ * - platform: 크기가 정해진 스레드 풀 / virtual: 가상 스레드 (JDK 21 이상)
+ * - 처리 중 + 대기 작업 수를 max-size + queue-capacity로 제한하고, 초과 시 rejection 정책 적용
+ *   (caller-runs: 보낸 스레드가 직접 처리해 해당 연결의 수신을 늦춤 / abort: 메시지 거부)
+ * - 연결/구독 프레임과 우선 목적지(읽음 처리 등)는 별도 control 레인에서 처리해
+ *   채팅 전송이 몰려도 밀리지 않도록 함
+ * - 레인별 대기 작업 수, 대기/처리 시간 통계 제공
+ */
+@Slf4j
+public class StompChannelExecutor implements Executor, DisposableBean {
+
+    public enum Type { PLATFORM, VIRTUAL }
+
+    public enum Rejection { CALLER_RUNS, ABORT }
+
+    /**
+     * 레인 설정
+     * @param maxSize 최대 동시 처리 수 (platform: 최대 스레드 수, virtual: 동시 실행 상한)
+     * @param queueCapacity 처리 대기 가능한 작업 수
+     */
+    public record LaneSettings(Type type, int coreSize, int maxSize, int queueCapacity, Rejection rejection) {
+    }
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final String name;
+    private final Lane main;
+    private final Lane control;
+    private final List<String> priorityDestinations;
+
+    /**
+     * @param control null이면 모든 메시지를 main 레인에서 처리
+     * @param priorityDestinations control 레인에서 처리할 목적지 패턴 (Ant 형식)
+     */
+    public StompChannelExecutor(String name, LaneSettings main, LaneSettings control, List<String> priorityDestinations) {
+        this.name = name;
+        this.main = new Lane(name, main);
+        this.control = control == null ? null : new Lane(name + "-control", control);
+        this.priorityDestinations = priorityDestinations;
+        log.info("STOMP {} 채널 실행기 - main: {}, control: {}", name, main, control);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (control != null && isPriority(task)) {
+            control.execute(task);
+        } else {
+            main.execute(task);
+        }
+    }
+
+    /**
+     * 연결/구독/해제 프레임과 우선 목적지 메시지 여부
+     */
+    private boolean isPriority(Runnable task) {
+        if (!(task instanceof MessageHandlingRunnable handling)) {
+            return false;
+        }
+        Message<?> message = handling.getMessage();
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        if (type != null && type != SimpMessageType.MESSAGE) {
+            return true;
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (destination == null) {
+            return false;
+        }
+        for (String pattern : priorityDestinations) {
+            if (PATH_MATCHER.match(pattern, destination)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 레인별 통계 (관리자 조회용)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("main", main.stats());
+        if (control != null) {
+            stats.put("control", control.stats());
+        }
+        return stats;
+    }
+
+    @Override
+    public void destroy() {
+        main.shutdown();
+        if (control != null) {
+            control.shutdown();
+        }
+    }
+
+    /**
+     * 하나의 실행기 + 통계
+     */
+    private static final class Lane {
+
+        private final String name;
+        private final LaneSettings settings;
+        private final Executor executor;
+        private final int maxInFlight;
+
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicInteger active = new AtomicInteger();
+        private final LongAdder submitted = new LongAdder();
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder callerRuns = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder waitNanos = new LongAdder();
+        private final LongAdder runNanos = new LongAdder();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+        private final AtomicLong maxRunNanos = new AtomicLong();
+
+        Lane(String name, LaneSettings settings) {
+            this.name = name;
+            this.settings = settings;
+            this.maxInFlight = settings.maxSize() + settings.queueCapacity();
+            this.executor = createExecutor(name, settings);
+        }
+
+        private static Executor createExecutor(String name, LaneSettings settings) {
+            if (settings.type() == Type.VIRTUAL) {
+                try {
+                    return new VirtualThreadTaskExecutor("stomp-" + name + "-");
+                } catch (UnsupportedOperationException e) {
+                    log.warn("가상 스레드를 지원하지 않는 JDK - STOMP {} 채널은 platform 풀 사용", name);
+                }
+            }
+            ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+            pool.setThreadNamePrefix("stomp-" + name + "-");
+            pool.setCorePoolSize(settings.coreSize());
+            pool.setMaxPoolSize(settings.maxSize());
+            pool.setQueueCapacity(settings.queueCapacity());
+            pool.setAllowCoreThreadTimeOut(true);
+            // 초과분은 Lane에서 정책대로 처리하므로 풀은 거부만 함
+            pool.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+            pool.initialize();
+            return pool;
+        }
+
+        void execute(Runnable task) {
+            submitted.increment();
+            if (queued.get() + active.get() >= maxInFlight) {
+                overflow(task);
+                return;
+            }
+
+            long enqueuedAt = System.nanoTime();
+            queued.incrementAndGet();
+            try {
+                executor.execute(() -> {
+                    queued.decrementAndGet();
+                    run(task, enqueuedAt);
+                });
+            } catch (RejectedExecutionException e) {
+                queued.decrementAndGet();
+                overflow(task);
+            }
+        }
+
+        private void overflow(Runnable task) {
+            if (settings.rejection() == Rejection.CALLER_RUNS) {
+                callerRuns.increment();
+                run(task, System.nanoTime());
+                return;
+            }
+            rejected.increment();
+            log.warn("STOMP {} 채널 포화로 메시지 거부 - 처리 중: {}, 대기: {}", name, active.get(), queued.get());
+            throw new RejectedExecutionException("STOMP " + name + " 채널이 포화 상태입니다");
+        }
+
+        private void run(Runnable task, long enqueuedAt) {
+            long started = System.nanoTime();
+            record(waitNanos, maxWaitNanos, started - enqueuedAt);
+            active.incrementAndGet();
+            try {
+                task.run();
+            } catch (RuntimeException | Error e) {
+                failed.increment();
+                throw e;
+            } finally {
+                active.decrementAndGet();
+                completed.increment();
+                record(runNanos, maxRunNanos, System.nanoTime() - started);
+            }
+        }
+
+        private void record(LongAdder total, AtomicLong max, long nanos) {
+            total.add(nanos);
+            max.accumulateAndGet(nanos, Math::max);
+        }
+
+        Map<String, Object> stats() {
+            long done = completed.sum();
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("type", executor instanceof VirtualThreadTaskExecutor ? "virtual" : "platform");
+            stats.put("maxSize", settings.maxSize());
+            stats.put("queueCapacity", settings.queueCapacity());
+            stats.put("rejection", settings.rejection().name().toLowerCase().replace('_', '-'));
+            stats.put("active", active.get());
+            stats.put("queued", queued.get());
+            stats.put("submitted", submitted.sum());
+            stats.put("completed", done);
+            stats.put("failed", failed.sum());
+            stats.put("callerRuns", callerRuns.sum());
+            stats.put("rejected", rejected.sum());
+            stats.put("avgWaitMs", done == 0 ? 0.0 : waitNanos.sum() / 1_000_000.0 / done);
+            stats.put("maxWaitMs", maxWaitNanos.get() / 1_000_000.0);
+            stats.put("avgRunMs", done == 0 ? 0.0 : runNanos.sum() / 1_000_000.0 / done);
+            stats.put("maxRunMs", maxRunNanos.get() / 1_000_000.0);
+            return stats;
+        }
+
+        void shutdown() {
+            // 가상 스레드 실행기는 종료할 풀이 없음
+            if (executor instanceof ThreadPoolTaskExecutor pool) {
+                pool.shutdown();
+            }
+        }
+    }
+}
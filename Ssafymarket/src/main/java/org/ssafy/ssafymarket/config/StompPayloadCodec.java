@@ -0,0 +1,178 @@
+package org.ssafy.ssafymarket.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * STOMP 메시지 본문 형식 협상 (JSON 기본, CBOR/Smile 선택)
+ * - 클라이언트가 CONNECT 프레임에 x-chat-format: cbor | smile 헤더를 보내면 그 세션으로 가는 MESSAGE 본문을 바이너리로 변환
+ *   (채팅 메시지, 읽음/새 메시지 알림 등 서버가 JSON으로 만든 본문 전부)
+ * - 바이너리 프레임은 SockJS로 보낼 수 없으므로 순수 WebSocket 엔드포인트(/ws/native)로 연결한 세션에만 적용, 그 외는 JSON 유지
+ * - 브로커는 구독자마다 같은 본문 배열을 넘기므로 본문 단위로 변환 결과를 캐시해 메시지당 형식별로 한 번만 변환
+ * - 변환된 프레임은 content-type: application/octet-stream(바이너리 프레임) + x-chat-format 헤더로 전달
+ * - 클라이언트 → 서버 SEND 프레임도 content-type: application/cbor | application/x-jackson-smile 본문을 받을 수 있음
+ */
+@Slf4j
+@Component
+public class StompPayloadCodec implements ChannelInterceptor, HandshakeInterceptor {
+
+    /**
+     * 형식 협상/표시용 STOMP 헤더 (값: json | cbor | smile)
+     */
+    public static final String FORMAT_HEADER = "x-chat-format";
+
+    private static final String BINARY_FRAMES_ATTRIBUTE = "chatBinaryFrames";
+    private static final MimeType CBOR_TYPE = new MimeType("application", "cbor");
+    private static final MimeType SMILE_TYPE = new MimeType("application", "x-jackson-smile");
+
+    private enum Format {
+        JSON, CBOR, SMILE
+    }
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.cbor().build();
+    private final ObjectMapper smileMapper = Jackson2ObjectMapperBuilder.smile().build();
+
+    private final Map<String, Format> sessionFormats = new ConcurrentHashMap<>();
+    // 본문 배열(동일 객체) → 변환 결과
+    private final Cache<byte[], byte[]> cborPayloads = Caffeine.newBuilder().weakKeys().maximumSize(1000).build();
+    private final Cache<byte[], byte[]> smilePayloads = Caffeine.newBuilder().weakKeys().maximumSize(1000).build();
+
+    public StompPayloadCodec(ObjectMapper objectMapper) {
+        this.jsonMapper = objectMapper;
+    }
+
+    /**
+     * 클라이언트 → 서버 CBOR/Smile 본문 변환기 (content-type이 정확히 일치할 때만 사용해 기본 JSON 변환에 영향 없음)
+     */
+    public List<MessageConverter> binaryConverters() {
+        MappingJackson2MessageConverter cbor = new MappingJackson2MessageConverter(CBOR_TYPE);
+        cbor.setObjectMapper(cborMapper);
+        cbor.setStrictContentTypeMatch(true);
+        MappingJackson2MessageConverter smile = new MappingJackson2MessageConverter(SMILE_TYPE);
+        smile.setObjectMapper(smileMapper);
+        smile.setStrictContentTypeMatch(true);
+        return List.of(cbor, smile);
+    }
+
+    /* ===================== 핸드셰이크 (/ws/native) ===================== */
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        attributes.put(BINARY_FRAMES_ATTRIBUTE, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+
+    /* ===================== 채널 ===================== */
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (type == null || sessionId == null) {
+            return message;
+        }
+        switch (type) {
+            case CONNECT -> negotiate(message, sessionId);
+            case DISCONNECT -> sessionFormats.remove(sessionId);
+            case MESSAGE -> {
+                Format format = sessionFormats.get(sessionId);
+                if (format != null) {
+                    return encode(message, format);
+                }
+            }
+            default -> {
+            }
+        }
+        return message;
+    }
+
+    private void negotiate(Message<?> message, String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        String requested = accessor.getFirstNativeHeader(FORMAT_HEADER);
+        if (requested == null || requested.isBlank()) {
+            return;
+        }
+        Format format;
+        try {
+            format = Format.valueOf(requested.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            log.debug("지원하지 않는 STOMP 본문 형식 요청, JSON 사용 - sessionId: {}, 요청: {}", sessionId, requested);
+            return;
+        }
+        if (format == Format.JSON) {
+            return;
+        }
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes == null || !Boolean.TRUE.equals(attributes.get(BINARY_FRAMES_ATTRIBUTE))) {
+            log.debug("SockJS 연결은 바이너리 프레임 미지원, JSON 사용 - sessionId: {}", sessionId);
+            return;
+        }
+        sessionFormats.put(sessionId, format);
+        log.debug("STOMP 본문 형식 - sessionId: {}, format: {}", sessionId, format);
+    }
+
+    private Message<?> encode(Message<?> message, Format format) {
+        if (!(message.getPayload() instanceof byte[] payload) || payload.length == 0) {
+            return message;
+        }
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        MimeType contentType = accessor.getContentType();
+        if (contentType == null || !MimeTypeUtils.APPLICATION_JSON.isCompatibleWith(contentType)) {
+            return message;
+        }
+
+        byte[] encoded;
+        try {
+            encoded = format == Format.CBOR
+                    ? cborPayloads.get(payload, p -> transcode(p, cborMapper))
+                    : smilePayloads.get(payload, p -> transcode(p, smileMapper));
+        } catch (IllegalStateException e) {
+            log.warn("STOMP 본문 변환 실패, JSON으로 전송 - format: {}, {}", format, e.getMessage());
+            return message;
+        }
+
+        // octet-stream이어야 STOMP 핸들러가 바이너리 WebSocket 프레임으로 보냄
+        accessor.setContentType(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        accessor.setNativeHeader(FORMAT_HEADER, format.name().toLowerCase());
+        return MessageBuilder.createMessage(encoded, accessor.getMessageHeaders());
+    }
+
+    private byte[] transcode(byte[] json, ObjectMapper target) {
+        try {
+            return target.writeValueAsBytes(jsonMapper.readTree(json));
+        } catch (IOException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+}
@@ -1,18 +1,111 @@
 package org.ssafy.ssafymarket.config;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+import java.util.List;
+
+@Slf4j
 @Configuration
 @EnableWebSocketMessageBroker
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final HttpHandshakeInterceptor httpHandshakeInterceptor;
+    private final SlowConsumerGuard slowConsumerGuard;
+    private final StompPayloadCodec stompPayloadCodec;
+
+    /**
+     * simple: 애플리케이션 메모리 브로커 (단일 서버)
+     * relay: 외부 STOMP 브로커(RabbitMQ STOMP, ActiveMQ Artemis 등)로 중계 (다중 서버)
+     */
+    @Value("${chat.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${chat.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${chat.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${chat.broker.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${chat.broker.relay.passcode:guest}")
+    private String relayPasscode;
+
+    @Value("${chat.broker.relay.virtual-host:}")
+    private String relayVirtualHost;
+
+    /**
+     * STOMP 채널 실행기 설정
+     * type: platform(크기 제한 스레드 풀) | virtual(가상 스레드, JDK 21 이상)
+     * rejection: caller-runs(보낸 스레드가 직접 처리 → 수신 속도 조절) | abort(메시지 거부)
+     */
+    @Value("${chat.channel.inbound.type:platform}")
+    private String inboundType;
+
+    @Value("${chat.channel.inbound.core-size:16}")
+    private int inboundCoreSize;
+
+    @Value("${chat.channel.inbound.max-size:32}")
+    private int inboundMaxSize;
+
+    @Value("${chat.channel.inbound.queue-capacity:2000}")
+    private int inboundQueueCapacity;
+
+    @Value("${chat.channel.inbound.rejection:caller-runs}")
+    private String inboundRejection;
+
+    @Value("${chat.channel.inbound.control.core-size:2}")
+    private int controlCoreSize;
+
+    @Value("${chat.channel.inbound.control.max-size:8}")
+    private int controlMaxSize;
+
+    @Value("${chat.channel.inbound.control.queue-capacity:1000}")
+    private int controlQueueCapacity;
+
+    @Value("${chat.channel.inbound.priority-destinations:/app/chat/read/**,/app/chat/enter/**,/app/presence/**}")
+    private List<String> priorityDestinations;
+
+    @Value("${chat.channel.outbound.type:platform}")
+    private String outboundType;
+
+    @Value("${chat.channel.outbound.core-size:16}")
+    private int outboundCoreSize;
+
+    @Value("${chat.channel.outbound.max-size:32}")
+    private int outboundMaxSize;
+
+    @Value("${chat.channel.outbound.queue-capacity:5000}")
+    private int outboundQueueCapacity;
+
+    @Value("${chat.channel.outbound.rejection:caller-runs}")
+    private String outboundRejection;
+
+    /**
+     * 세션별 발신 버퍼 상한 (초과 시 Spring이 연결 종료)
+     */
+    @Value("${chat.websocket.send-time-limit-ms:15000}")
+    private int sendTimeLimitMs;
+
+    @Value("${chat.websocket.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${chat.websocket.message-size-limit:65536}")
+    private int messageSizeLimit;
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -20,12 +113,96 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .setAllowedOriginPatterns("*")
                 .addInterceptors(httpHandshakeInterceptor)
                 .withSockJS(); // SockJS fallback 지원
+        // 순수 WebSocket 엔드포인트 (바이너리 프레임 가능: CONNECT 시 x-chat-format: cbor | smile 협상)
+        registry.addEndpoint("/ws/native")
+                .setAllowedOriginPatterns("*")
+                .addInterceptors(httpHandshakeInterceptor, stompPayloadCodec);
+        // 같은 세션에서 보낸 프레임은 보낸 순서대로 처리 (채팅방 레인에 들어가는 순서 보장)
+        registry.setPreserveReceiveOrder(true);
     }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/topic", "/queue"); // 메시지 브로커
+        if ("relay".equalsIgnoreCase(brokerMode)) {
+            // 구독/사용자 목적지를 외부 브로커에 두어 어느 서버에 연결된 사용자에게도 전달
+            StompBrokerRelayRegistration relay = registry.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode)
+                    // 서버 간 사용자 세션 정보 공유 (convertAndSendToUser가 다른 서버의 세션도 찾음)
+                    .setUserRegistryBroadcast("/topic/simp-user-registry")
+                    // 이 서버에서 찾지 못한 사용자 목적지는 다른 서버가 처리하도록 방송
+                    .setUserDestinationBroadcast("/topic/unresolved-user-destination");
+            if (!relayVirtualHost.isBlank()) {
+                relay.setVirtualHost(relayVirtualHost);
+            }
+            log.info("STOMP 브로커 릴레이 사용 - {}:{}", relayHost, relayPort);
+        } else {
+            registry.enableSimpleBroker("/topic", "/queue"); // 메시지 브로커
+        }
         registry.setApplicationDestinationPrefixes("/app"); // 클라이언트 → 서버 메시지 prefix
         registry.setUserDestinationPrefix("/user"); // 특정 사용자에게 메시지 전송
+        registry.setPreservePublishOrder(true); // 세션별로 브로드캐스트된 순서대로 전달
+    }
+
+    /**
+     * 클라이언트 → 서버 메시지 처리 (ChatService의 DB 작업 포함)
+     * 연결/구독 프레임과 읽음 처리 등은 control 레인에서 처리
+     */
+    @Bean
+    public StompChannelExecutor stompInboundExecutor() {
+        StompChannelExecutor.Type type = parse(StompChannelExecutor.Type.class, inboundType);
+        return new StompChannelExecutor("inbound",
+                new StompChannelExecutor.LaneSettings(type, inboundCoreSize, inboundMaxSize,
+                        inboundQueueCapacity, parse(StompChannelExecutor.Rejection.class, inboundRejection)),
+                new StompChannelExecutor.LaneSettings(type, controlCoreSize, controlMaxSize,
+                        controlQueueCapacity, StompChannelExecutor.Rejection.CALLER_RUNS),
+                priorityDestinations);
+    }
+
+    /**
+     * 서버 → 클라이언트 메시지 전송
+     */
+    @Bean
+    public StompChannelExecutor stompOutboundExecutor() {
+        return new StompChannelExecutor("outbound",
+                new StompChannelExecutor.LaneSettings(parse(StompChannelExecutor.Type.class, outboundType),
+                        outboundCoreSize, outboundMaxSize, outboundQueueCapacity,
+                        parse(StompChannelExecutor.Rejection.class, outboundRejection)),
+                null, List.of());
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.executor(stompInboundExecutor())
+                .interceptors(stompPayloadCodec); // 세션별 본문 형식 협상
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.executor(stompOutboundExecutor())
+                .interceptors(slowConsumerGuard, // 느린 수신자: 중요하지 않은 프레임 버림 / 연결 종료
+                        stompPayloadCodec);          // 협상된 세션은 JSON 본문을 CBOR/Smile로 변환
+    }
+
+    @Override
+    public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
+        messageConverters.addAll(stompPayloadCodec.binaryConverters());
+        return true; // 기본 변환기(JSON 등)도 등록
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit)
+                .addDecoratorFactory(slowConsumerGuard); // 세션별 전송 시간/밀린 프레임 추적
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String value) {
+        return Enum.valueOf(type, value.trim().toUpperCase().replace('-', '_'));
     }
 }
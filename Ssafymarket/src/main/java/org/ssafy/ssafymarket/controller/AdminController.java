@@ -3,12 +3,18 @@ package org.ssafy.ssafymarket.controller;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.ssafy.ssafymarket.config.SlowConsumerGuard;
+import org.ssafy.ssafymarket.config.StompChannelExecutor;
 import org.ssafy.ssafymarket.entity.TempUser;
 import org.ssafy.ssafymarket.entity.User;
+import org.ssafy.ssafymarket.minio.ImageCache;
 import org.ssafy.ssafymarket.service.AdminService;
+import org.ssafy.ssafymarket.service.ChatUnreadCountReconciler;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -18,6 +24,9 @@ import java.util.Map;
 @Tag(name = "관리자 회원 관리", description = "관리자 회원 관리 API")
 public class AdminController {
     private final AdminService adminService;
+    private final List<StompChannelExecutor> stompChannelExecutors;
+    private final SlowConsumerGuard slowConsumerGuard;
+    private final ImageCache imageCache;
 
 
     //승인 목록
@@ -58,4 +67,56 @@ public class AdminController {
 		return ResponseEntity.ok(Map.of("success",true,"message","거절 완료"));
 
 	}
+
+
+	//STOMP 채널 실행기 상태
+	@Operation(
+		summary = "STOMP 채널 실행기 상태",
+		description = "웹소켓 수신/발신 채널의 처리 중/대기 작업 수, 대기/처리 시간, 거부 횟수를 나타낸다."
+	)
+	@GetMapping("/websocket/channels")
+	public ResponseEntity<Map<String,Object>> getChannelStats() {
+		Map<String,Object> channels = new LinkedHashMap<>();
+		for (StompChannelExecutor executor : stompChannelExecutors) {
+			channels.put(executor.getName(), executor.getStats());
+		}
+		return ResponseEntity.ok(Map.of("success",true,"channels",channels));
+	}
+
+	//WebSocket 세션별 발신 통계
+	@Operation(
+		summary = "WebSocket 세션 발신 통계",
+		description = "느린 수신자 감지용. 세션별 밀린 프레임 수, 전송 시간, 버린 프레임 수를 밀린 프레임이 많은 순으로 나타낸다."
+	)
+	@GetMapping("/websocket/sessions")
+	public ResponseEntity<Map<String,Object>> getWebSocketSessionStats(@RequestParam(defaultValue = "50") int limit) {
+		if (limit < 1) {
+			return ResponseEntity.badRequest().body(Map.of("success",false,"message","limit은 1 이상이어야 합니다"));
+		}
+		return ResponseEntity.ok(Map.of("success",true,"stats",slowConsumerGuard.getStats(limit)));
+	}
+
+	//이미지 서빙 캐시 상태
+	@Operation(
+		summary = "이미지 서빙 캐시 상태",
+		description = "/images/** 서빙용 디스크/메모리 캐시의 항목 수와 사용 바이트를 나타낸다."
+	)
+	@GetMapping("/images/cache")
+	public ResponseEntity<Map<String,Object>> getImageCacheStats() {
+		return ResponseEntity.ok(Map.of("success",true,"cache",imageCache.getStats()));
+	}
+
+	//안읽은 메시지 수 보정
+	@Operation(
+		summary = "안읽은 메시지 수 보정",
+		description = "채팅방/사용자별 안읽은 메시지 수를 읽음 워터마크 기준으로 다시 계산한다. room_id 구간별로 나눠 실행하며 이미 실행 중이면 409."
+	)
+	@PostMapping("/chat/unread-count/reconcile")
+	public ResponseEntity<Map<String,Object>> reconcileUnreadCounts() {
+		try {
+			return ResponseEntity.ok(Map.of("success",true,"result",chatUnreadCountReconciler.reconcile()));
+		} catch (IllegalStateException e) {
+			return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("success",false,"message",e.getMessage()));
+		}
+	}
 }
@@ -13,9 +13,14 @@ import org.springframework.web.multipart.MultipartFile;
 import org.ssafy.ssafymarket.dto.ChatMessageDto;
 import org.ssafy.ssafymarket.dto.ChatRoomCreateRequest;
 import org.ssafy.ssafymarket.dto.ChatRoomDto;
+import org.ssafy.ssafymarket.dto.ImageUploadPresignRequest;
+import org.ssafy.ssafymarket.dto.PresenceDto;
 import org.ssafy.ssafymarket.minio.MinioService;
+import org.ssafy.ssafymarket.service.ChatRoomDispatcher;
+import org.ssafy.ssafymarket.service.ChatRoomMembershipCache;
 import org.ssafy.ssafymarket.service.ChatRoomService;
 import org.ssafy.ssafymarket.service.ChatService;
+import org.ssafy.ssafymarket.service.PresenceService;
 
 import java.util.HashMap;
 import java.util.List;
@@ -30,6 +35,9 @@ public class ChatRestController {
 
     private final ChatRoomService chatRoomService;
     private final ChatService chatService;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+    private final PresenceService presenceService;
+    private final ChatRoomDispatcher chatRoomDispatcher;
     private final MinioService minioService;
 
     /**
@@ -97,31 +105,100 @@ public class ChatRestController {
     /**
      * 채팅방 메시지 히스토리 조회
      * GET /api/chat/room/{roomId}/messages?page=0&size=50
+     * GET /api/chat/room/{roomId}/messages?before={messageId}&size=50  (이전 메시지, 최신순)
+     * GET /api/chat/room/{roomId}/messages?after={messageId}&size=50   (놓친 메시지, 오래된순)
      */
 	@Operation(
 		summary = "채팅방 메시지 히스토리 조회",
-		description = "roomId 기반으로 채팅방 메시지 조회."
+		description = "roomId 기반으로 채팅방 메시지 조회.\n"
+			+ "before: 해당 messageId 이전 메시지 (최신순)\n"
+			+ "after: 해당 messageId 이후 메시지 (오래된순, 재연결 시 동기화용)\n"
+			+ "결과가 size개면 마지막 messageId로 다시 요청"
 	)
     @GetMapping("/room/{roomId}/messages")
-    public ResponseEntity<List<ChatMessageDto>> getMessages(
+    public ResponseEntity<?> getMessages(
             @PathVariable Long roomId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) Long before,
+            @RequestParam(required = false) Long after,
             @AuthenticationPrincipal UserDetails userDetails) {
 
         String userId = userDetails.getUsername();
 
-        // 권한 확인
-        chatRoomService.getChatRoom(roomId, userId);
-
-        List<ChatMessageDto> messages = chatService.getMessages(roomId, page, size);
+        List<ChatMessageDto> messages;
+        try {
+            // 권한 확인 (참여자 캐시, DB 조회 없음)
+            chatRoomMembershipCache.requireParticipant(roomId, userId);
+
+            // 큐에 남은 메시지 저장 대기는 조회 트랜잭션 밖에서
+            chatService.awaitPendingMessages();
+            if (before != null || after != null) {
+                messages = chatService.getMessages(roomId, before, after, size);
+            } else {
+                messages = chatService.getMessages(roomId, page, size);
+            }
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of(
+                            "success", false,
+                            "message", e.getMessage()
+                    ));
+        }
 
-        log.info("메시지 히스토리 조회 - roomId: {}, page: {}, size: {}, count: {}",
-                roomId, page, size, messages.size());
+        log.info("메시지 히스토리 조회 - roomId: {}, page: {}, before: {}, after: {}, size: {}, count: {}",
+                roomId, page, before, after, size, messages.size());
 
         return ResponseEntity.ok(messages);
     }
 
+    /**
+     * 채팅방 메시지 순번 동기화
+     * GET /api/chat/room/{roomId}/messages/sync?afterSeq={seq}&size=100
+     */
+	@Operation(
+		summary = "채팅방 메시지 순번 동기화",
+		description = "afterSeq 이후의 메시지만 순번순으로 조회 (재연결 시 누락 구간 채우기).\n"
+			+ "lastSeq: 채팅방 마지막 순번, hasMore가 true면 마지막 seq로 다시 요청"
+	)
+    @GetMapping("/room/{roomId}/messages/sync")
+    public ResponseEntity<Map<String, Object>> syncMessages(
+            @PathVariable Long roomId,
+            @RequestParam(defaultValue = "0") long afterSeq,
+            @RequestParam(defaultValue = "100") int size,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        String userId = userDetails.getUsername();
+
+        try {
+            if (size < 1 || size > 500) {
+                throw new IllegalArgumentException("size는 1 이상 500 이하여야 합니다");
+            }
+            chatRoomMembershipCache.requireParticipant(roomId, userId);
+
+            chatService.awaitPendingMessages();
+            long lastSeq = chatService.getLastSeq(roomId);
+            List<ChatMessageDto> messages = chatService.getMessagesAfterSeq(roomId, afterSeq, size);
+            boolean hasMore = !messages.isEmpty() && messages.get(messages.size() - 1).getSeq() < lastSeq;
+
+            log.info("메시지 순번 동기화 - roomId: {}, afterSeq: {}, count: {}, lastSeq: {}",
+                    roomId, afterSeq, messages.size(), lastSeq);
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("messages", messages);
+            response.put("lastSeq", lastSeq);
+            response.put("hasMore", hasMore);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("success", false, "message", e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(Map.of("success", false, "message", e.getMessage()));
+        }
+    }
+
     /**
      * 메시지 읽음 처리
      * PUT /api/chat/room/{roomId}/read
@@ -136,7 +213,12 @@ public class ChatRestController {
             @AuthenticationPrincipal UserDetails userDetails) {
 
         String userId = userDetails.getUsername();
-        chatService.markMessagesAsRead(roomId, userId);
+        // WebSocket 전송/읽음과 같은 채팅방 레인에서 실행 (완료까지 대기)
+        chatRoomDispatcher.call(roomId, () -> {
+            chatService.awaitPendingMessages();
+            chatService.markMessagesAsRead(roomId, userId);
+            return null;
+        });
 
         Map<String, Object> response = new HashMap<>();
         response.put("success", true);
@@ -188,6 +270,42 @@ public class ChatRestController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 내 채팅방 상대방 접속 상태 일괄 조회
+     * GET /api/chat/rooms/presence
+     */
+	@Operation(
+		summary = "채팅방 목록 상대방 접속 상태 조회",
+		description = "내 활성 채팅방마다 상대방의 접속 여부와 마지막 접속 시각을 한 번에 조회"
+	)
+    @GetMapping("/rooms/presence")
+    public ResponseEntity<List<PresenceDto>> getRoomPresence(
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        String userId = userDetails.getUsername();
+        return ResponseEntity.ok(presenceService.getRoomPresence(userId));
+    }
+
+    /**
+     * 사용자 접속 상태 일괄 조회
+     * GET /api/chat/presence?studentIds=2024001,2024002
+     */
+	@Operation(
+		summary = "사용자 접속 상태 일괄 조회",
+		description = "studentIds(최대 200명)의 접속 여부와 마지막 접속 시각 조회"
+	)
+    @GetMapping("/presence")
+    public ResponseEntity<?> getPresence(@RequestParam List<String> studentIds) {
+        if (studentIds.size() > 200) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of(
+                            "success", false,
+                            "message", "한 번에 최대 200명까지 조회할 수 있습니다"
+                    ));
+        }
+        return ResponseEntity.ok(presenceService.getPresence(studentIds));
+    }
+
     /**
      * 채팅방 나가기
      * DELETE /api/chat/room/{roomId}
@@ -291,4 +409,42 @@ public class ChatRestController {
                     ));
         }
     }
+
+    /**
+     * 채팅 이미지 직접 업로드용 presigned URL 발급 (1개)
+     */
+	@Operation(
+		summary = "채팅 이미지 업로드 URL 발급",
+		description = "서버를 거치지 않는 직접 업로드\n"
+			+ "1. 이 API로 uploadUrl/objectKey 발급 (files: [{ contentType, size }])\n"
+			+ "2. 클라이언트가 uploadUrl로 formData 필드와 file을 multipart/form-data POST\n"
+			+ "3. WebSocket으로 메시지 전송: { messageType: \"IMAGE\", imageKey: \"objectKey\", content: \"\" }"
+	)
+    @PostMapping("/upload-image/presign")
+    public ResponseEntity<Map<String, Object>> presignChatImageUpload(
+            @RequestBody ImageUploadPresignRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        try {
+            List<Map<String, Object>> uploads =
+                    minioService.presignImageUploads(userDetails.getUsername(), request.getFiles(), 1);
+            return ResponseEntity.ok(Map.of(
+                    "success", true,
+                    "upload", uploads.get(0)
+            ));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of(
+                            "success", false,
+                            "message", e.getMessage()
+                    ));
+        } catch (Exception e) {
+            log.error("채팅 이미지 업로드 URL 발급 실패", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of(
+                            "success", false,
+                            "message", "업로드 URL 발급 실패: " + e.getMessage()
+                    ));
+        }
+    }
 }
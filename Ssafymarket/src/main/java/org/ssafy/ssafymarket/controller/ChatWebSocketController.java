@@ -2,17 +2,33 @@ package org.ssafy.ssafymarket.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.messaging.handler.annotation.SendTo;
+import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
+import org.ssafy.ssafymarket.config.SlowConsumerGuard;
 import org.ssafy.ssafymarket.dto.ChatMessageDto;
 import org.ssafy.ssafymarket.dto.ChatMessageRequest;
+import org.ssafy.ssafymarket.dto.PresenceDto;
 import org.ssafy.ssafymarket.entity.ChatMessage;
+import org.ssafy.ssafymarket.minio.MinioService;
+import org.ssafy.ssafymarket.service.ChatEventCoalescer;
+import org.ssafy.ssafymarket.service.ChatMessageWriteBehind;
+import org.ssafy.ssafymarket.service.ChatRoomDispatcher;
+import org.ssafy.ssafymarket.service.ChatRoomMembershipCache;
 import org.ssafy.ssafymarket.service.ChatService;
+import org.ssafy.ssafymarket.service.PresenceService;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Controller
@@ -21,16 +37,22 @@ public class ChatWebSocketController {
 
     private final ChatService chatService;
     private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectProvider<ChatMessageWriteBehind> writeBehindProvider;
+    private final PresenceService presenceService;
+    private final ChatEventCoalescer chatEventCoalescer;
+    private final ChatRoomDispatcher chatRoomDispatcher;
+    private final MinioService minioService;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
 
     /**
      * 채팅 메시지 전송
      * 클라이언트 → /app/chat/send/{roomId}
      * 브로드캐스트 → /topic/room/{roomId}
+     *
+     * 같은 채팅방의 메시지는 채팅방 레인에서 하나씩 저장/브로드캐스트해 전송 순서를 보장
      */
-
     @MessageMapping("/chat/send/{roomId}")
-    @SendTo("/topic/room/{roomId}")
-    public ChatMessageDto sendMessage(
+    public void sendMessage(
             @DestinationVariable Long roomId,
             @Payload ChatMessageRequest request,
             SimpMessageHeaderAccessor headerAccessor) {
@@ -48,18 +70,106 @@ public class ChatWebSocketController {
                 request.getMessageType() : ChatMessage.MessageType.CHAT;
 
         // 메시지 저장 및 전송 (imageUrl 포함)
-        ChatMessageDto message = chatService.sendMessage(
-                roomId,
-                senderId,
-                request.getContent(),
-                messageType,
-                request.getImageUrl()
-        );
+        // write-behind 모드면 ID만 할당해 큐에 넣고, 배치 커밋 후 writer 스레드가 큐 순서대로 브로드캐스트
+        // clientMessageId가 같은 재전송은 저장하지 않고 원래 메시지를 다시 브로드캐스트 (수신 측은 messageId로 중복 제거)
+        // 직접 업로드한 이미지는 참여자 확인 후 레인에서 확인 (재전송은 이미 옮긴 이미지를 그대로 사용)
+        // 처리 실패는 보낸 사용자에게 /user/queue/errors로 알리고, 이번에 옮긴 이미지는 삭제
+        String clientMessageId = request.getClientMessageId();
+        chatRoomDispatcher.execute(roomId, () -> {
+            MinioService.ConfirmedImage image = null;
+            String imageUrl = request.getImageUrl();
+            if (request.getImageKey() != null) {
+                chatRoomMembershipCache.requireActiveParticipant(roomId, senderId);
+                image = minioService.confirmUploadedChatImage(senderId, request.getImageKey());
+                imageUrl = image.imageUrl();
+            }
+            MinioService.ConfirmedImage confirmed = image;
+
+            ChatMessageWriteBehind writeBehind = writeBehindProvider.getIfAvailable();
+            if (writeBehind != null) {
+                CompletableFuture<ChatMessageDto> sent;
+                try {
+                    sent = writeBehind.send(roomId, senderId, request.getContent(), messageType, imageUrl,
+                            clientMessageId);
+                } catch (RuntimeException e) {
+                    minioService.discardConfirmedImage(confirmed);
+                    throw e;
+                }
+                sent.whenComplete((message, error) -> {
+                    if (error == null) {
+                        broadcast(roomId, message);
+                        return;
+                    }
+                    if (error instanceof DataIntegrityViolationException && clientMessageId != null) {
+                        // 캐시에서 빠진 재전송: 이미 저장된 원래 메시지를 다시 브로드캐스트
+                        chatService.findSentMessage(roomId, senderId, clientMessageId)
+                                .ifPresent(original -> broadcast(roomId, original));
+                        return;
+                    }
+                    log.warn("메시지 저장 실패로 전송 안 함 - roomId: {}, sender: {}", roomId, senderId, error);
+                    minioService.discardConfirmedImage(confirmed);
+                    sendError(senderId, roomId, clientMessageId, error);
+                });
+                return;
+            }
+
+            ChatMessageDto message;
+            try {
+                message = chatService.sendMessage(roomId, senderId, request.getContent(), messageType,
+                        imageUrl, clientMessageId);
+            } catch (DataIntegrityViolationException e) {
+                // 캐시에서 빠진 재전송 (재시작/다른 서버에서 저장됨)
+                if (clientMessageId == null) {
+                    minioService.discardConfirmedImage(confirmed);
+                    throw e;
+                }
+                message = chatService.findSentMessage(roomId, senderId, clientMessageId)
+                        .orElseThrow(() -> e);
+            } catch (RuntimeException e) {
+                minioService.discardConfirmedImage(confirmed);
+                throw e;
+            }
+            broadcast(roomId, message);
+        }, error -> sendError(senderId, roomId, clientMessageId, error));
 
         log.info("WebSocket 메시지 전송 - roomId: {}, sender: {}, type: {}, hasImage: {}",
-                roomId, senderId, messageType, request.getImageUrl() != null);
+                roomId, senderId, messageType, request.getImageKey() != null || request.getImageUrl() != null);
+    }
 
-        return message;
+    private void broadcast(Long roomId, ChatMessageDto message) {
+        messagingTemplate.convertAndSend("/topic/room/" + roomId, message);
+    }
+
+    /**
+     * 레인 밖(핸들러 자체)에서 실패한 검증 오류를 보낸 사용자에게 알림
+     * 클라이언트 구독 → /user/queue/errors
+     */
+    @MessageExceptionHandler({IllegalArgumentException.class, IllegalStateException.class})
+    public void handleException(RuntimeException e, SimpMessageHeaderAccessor headerAccessor) {
+        Map<String, Object> attributes = headerAccessor.getSessionAttributes();
+        String userId = attributes != null ? (String) attributes.get("studentId") : null;
+        if (userId == null) {
+            log.warn("WebSocket 요청 처리 실패 (미인증 세션): {}", e.getMessage());
+            return;
+        }
+        sendError(userId, null, null, e);
+    }
+
+    /**
+     * 채팅방 레인에서 실패한 요청을 보낸 사용자에게 알림
+     * 클라이언트 구독 → /user/queue/errors
+     */
+    private void sendError(String userId, Long roomId, String clientMessageId, Throwable error) {
+        // 검증 오류는 메시지를 그대로, 그 외는 내부 정보를 숨김
+        String message = error instanceof IllegalArgumentException || error instanceof IllegalStateException
+                ? error.getMessage()
+                : "요청 처리 중 오류가 발생했습니다";
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("success", false);
+        payload.put("roomId", roomId);
+        payload.put("clientMessageId", clientMessageId);
+        payload.put("message", message);
+        messagingTemplate.convertAndSendToUser(userId, "/queue/errors", payload);
     }
 
     /**
@@ -69,8 +179,7 @@ public class ChatWebSocketController {
      * 입장 메시지는 DB에 저장하지 않고 WebSocket으로만 브로드캐스트
      */
     @MessageMapping("/chat/enter/{roomId}")
-    @SendTo("/topic/room/{roomId}")
-    public ChatMessageDto enterChatRoom(
+    public void enterChatRoom(
             @DestinationVariable Long roomId,
             SimpMessageHeaderAccessor headerAccessor) {
 
@@ -91,9 +200,11 @@ public class ChatWebSocketController {
                 .sentAt(java.time.LocalDateTime.now())
                 .build();
 
-        log.info("사용자 채팅방 입장 (DB 저장 안 함) - roomId: {}, userId: {}", roomId, userId);
+        // 느린 수신자에게는 먼저 버려지는 프레임으로 표시
+        messagingTemplate.convertAndSend("/topic/room/" + roomId, enterMessage,
+                Map.of(SlowConsumerGuard.PRIORITY_HEADER, SlowConsumerGuard.PRIORITY_LOW));
 
-        return enterMessage;
+        log.info("사용자 채팅방 입장 (DB 저장 안 함) - roomId: {}, userId: {}", roomId, userId);
     }
 
     /**
@@ -112,8 +223,32 @@ public class ChatWebSocketController {
         }
 
         // 메시지 읽음 처리 (서비스에서 읽음 알림도 전송)
-        chatService.markMessagesAsRead(roomId, userId);
+        // 새 메시지마다 읽음 프레임을 보내는 클라이언트가 많아, 같은 채팅방 요청은 짧은 시간 모아서 한 번만 반영
+        // 전송과 같은 채팅방 레인에서 실행해 읽음 위치가 앞서 보낸 메시지 저장보다 먼저 계산되지 않게 함
+        chatEventCoalescer.requestRead(roomId, userId, () ->
+                chatRoomDispatcher.execute(roomId, () -> {
+                            chatService.awaitPendingMessages();
+                            chatService.markMessagesAsRead(roomId, userId);
+                        },
+                        error -> sendError(userId, roomId, null, error)));
+
+        log.debug("메시지 읽음 요청 - roomId: {}, userId: {}", roomId, userId);
+    }
+
+    /**
+     * 내 채팅방 상대방 접속 상태 일괄 조회
+     * 클라이언트 → /app/presence/rooms
+     * 응답 → /user/queue/presence
+     */
+    @MessageMapping("/presence/rooms")
+    @SendToUser("/queue/presence")
+    public List<PresenceDto> getRoomPresence(SimpMessageHeaderAccessor headerAccessor) {
+        String userId = (String) headerAccessor.getSessionAttributes().get("studentId");
+
+        if (userId == null) {
+            throw new IllegalStateException("인증되지 않은 사용자입니다");
+        }
 
-        log.info("메시지 읽음 처리 - roomId: {}, userId: {}", roomId, userId);
+        return presenceService.getRoomPresence(userId);
     }
 }
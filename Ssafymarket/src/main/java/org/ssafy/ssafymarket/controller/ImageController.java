@@ -0,0 +1,164 @@
+package org.ssafy.ssafymarket.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.ssafy.ssafymarket.minio.ImageCache;
+import org.ssafy.ssafymarket.minio.MinioService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이미지 서빙 (MinIO를 직접 노출하지 않음)
+ * 저장된 이미지 URL "bucket/images/uuid.jpg" → GET /images/images/uuid.jpg
+ * - 게시글/채팅이 참조하는 images/ 객체만, 업로드 허용 이미지 형식(jpeg/png/gif/webp)만 서빙
+ *   (inline + nosniff로 브라우저가 다른 형식으로 해석하지 않게 함)
+ * - 강한 ETag + Last-Modified 조건부 요청(304/412), 단일 Range 요청(206/416) 지원
+ * - images/ 객체는 서버가 새 UUID 키로 한 번만 쓰고 덮어쓰지 않으므로 1년 immutable 캐시
+ *   (클라이언트가 직접 쓸 수 있는 uploads/는 서빙하지 않음)
+ * - 디스크 캐시 파일은 Tomcat sendfile로 복사 없이 전송, 작은 객체는 메모리에서 전송
+ */
+@RestController
+@RequiredArgsConstructor
+public class ImageController {
+
+	private static final String PREFIX = "/images/";
+	private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+	private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+	private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+	private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+	private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+	private final ImageCache imageCache;
+	private final MinioService minioService;
+
+	@GetMapping("/images/**")
+	public void serveImage(HttpServletRequest request, HttpServletResponse response) throws IOException {
+		String path = request.getRequestURI().substring(request.getContextPath().length());
+		String objectName = path.startsWith(PREFIX) ? path.substring(PREFIX.length()) : "";
+
+		ImageCache.CachedImage image = imageCache.get(objectName);
+		if (image == null || !MinioService.isServableContentType(image.contentType())) {
+			response.sendError(HttpStatus.NOT_FOUND.value());
+			return;
+		}
+
+		response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "inline");
+		response.setHeader("X-Content-Type-Options", "nosniff");
+		response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+		// If-None-Match / If-Modified-Since → 304, If-Match / If-Unmodified-Since → 412 (ETag, Last-Modified 헤더도 설정)
+		long lastModified = image.lastModified() != null ? image.lastModified().toInstant().toEpochMilli() : -1;
+		if (new ServletWebRequest(request, response).checkNotModified(image.etag(), lastModified)) {
+			return;
+		}
+		response.setContentType(image.contentType());
+
+		long start = 0;
+		long end = image.length() - 1;
+		String range = request.getHeader(HttpHeaders.RANGE);
+		if (range != null && image.file() != null && rangeApplies(request, image)) {
+			List<HttpRange> ranges;
+			try {
+				ranges = HttpRange.parseRanges(range);
+			} catch (IllegalArgumentException e) {
+				ranges = List.of();
+			}
+			// 여러 구간 요청은 전체 응답 (RFC 9110: Range는 무시 가능)
+			if (ranges.size() == 1) {
+				HttpRange httpRange = ranges.get(0);
+				try {
+					start = httpRange.getRangeStart(image.length());
+					end = httpRange.getRangeEnd(image.length());
+				} catch (IllegalArgumentException e) {
+					response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + image.length());
+					response.sendError(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+					return;
+				}
+				response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+				response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + image.length());
+			}
+		}
+		long length = end - start + 1;
+		response.setContentLengthLong(length);
+
+		if ("HEAD".equals(request.getMethod())) {
+			return;
+		}
+		write(request, response, image, start, length);
+	}
+
+	/**
+	 * If-Range가 현재 ETag와 다르면 Range를 무시하고 전체 전송
+	 */
+	private boolean rangeApplies(HttpServletRequest request, ImageCache.CachedImage image) {
+		String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+		return ifRange == null || ifRange.equals(image.etag());
+	}
+
+	private void write(HttpServletRequest request, HttpServletResponse response,
+			ImageCache.CachedImage image, long start, long length) throws IOException {
+		// 메모리 계층
+		byte[] bytes = imageCache.memoryBytes(image);
+		if (bytes != null) {
+			response.getOutputStream().write(bytes, (int) start, (int) length);
+			return;
+		}
+
+		// 캐시하지 않는 큰 객체: MinIO에서 바로 전달 (Range 미적용)
+		if (image.file() == null) {
+			try (InputStream in = minioService.openObject(image.objectName())) {
+				in.transferTo(response.getOutputStream());
+			}
+			return;
+		}
+
+		// 디스크 계층: sendfile 지원 시 커널이 파일 → 소켓으로 직접 전송
+		// 축출된 파일은 유예 시간 뒤 삭제되므로 여기서 존재하면 Tomcat이 여는 시점에도 남아 있음
+		if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT)) && Files.isRegularFile(image.file())) {
+			request.setAttribute(SENDFILE_FILENAME, image.file().toAbsolutePath().toString());
+			request.setAttribute(SENDFILE_START, start);
+			request.setAttribute(SENDFILE_END, start + length);
+			return;
+		}
+		FileChannel channel;
+		try {
+			channel = FileChannel.open(image.file(), StandardOpenOption.READ);
+		} catch (NoSuchFileException e) {
+			// 이미 삭제된 캐시 파일: MinIO에서 해당 구간만 전달
+			try (InputStream in = minioService.openObject(image.objectName(), start, length)) {
+				in.transferTo(response.getOutputStream());
+			}
+			return;
+		}
+		try (channel) {
+			WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+			long position = start;
+			long remaining = length;
+			while (remaining > 0) {
+				long sent = channel.transferTo(position, remaining, out);
+				if (sent <= 0) {
+					break;
+				}
+				position += sent;
+				remaining -= sent;
+			}
+		}
+	}
+}
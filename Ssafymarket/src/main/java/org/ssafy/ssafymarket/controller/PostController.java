@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
@@ -23,6 +24,8 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.multipart.MultipartFile;
 
+import org.ssafy.ssafymarket.dto.ImageUploadPresignRequest;
+import org.ssafy.ssafymarket.dto.PostCreateRequest;
 import org.ssafy.ssafymarket.service.PostService;
 
 
@@ -58,17 +61,61 @@ public class PostController {
 		}
 	}
 
+	/**
+	 * 직접 업로드한 이미지로 게시글 생성
+	 * 1. POST /api/posts/images/presign 으로 업로드 URL 발급
+	 * 2. 클라이언트가 MinIO로 직접 POST (presigned POST 정책)
+	 * 3. objectKey 목록(imageKeys)과 게시글 정보를 JSON으로 전송
+	 */
+	@PostMapping(consumes = "application/json")
+	public ResponseEntity<Map<String, Object>> createPostWithUploadedImages(@RequestBody PostCreateRequest request) {
+		try {
+			Map<String, Object> body = postService.createPostWithUploadedImages(request);
+			return ResponseEntity.ok(body);
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest()
+				.body(Map.of("success", false, "message", e.getMessage()));
+		} catch (Exception e) {
+			log.error("게시글 생성 실패 - 서버 오류", e);
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+				.body(Map.of("success", false, "message", "서버 오류가 발생했습니다: " + e.getMessage()));
+		}
+	}
+
+	@PostMapping("/images/presign")
+	public ResponseEntity<Map<String, Object>> presignImageUploads(
+		@RequestBody ImageUploadPresignRequest request,
+		Authentication authentication
+	) {
+		try {
+			Map<String, Object> body = postService.presignImageUploads(authentication.getName(), request);
+			return ResponseEntity.ok(body);
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest()
+				.body(Map.of("success", false, "message", e.getMessage()));
+		} catch (Exception e) {
+			log.error("업로드 URL 발급 실패", e);
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+				.body(Map.of("success", false, "message", "업로드 URL 발급 실패: " + e.getMessage()));
+		}
+	}
+
 	@GetMapping
 	public ResponseEntity<Map<String, Object>> getAllPosts(
 		@RequestParam(defaultValue = "0") int page,
 		@RequestParam(defaultValue = "20") int size,
 		@RequestParam(defaultValue = "latest") String sort,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "false") boolean includeTotal,
 		Authentication authentication
 	) {
 		try {
 			String studentId = (authentication != null) ? authentication.getName() : null;
-			Map<String, Object> body = postService.getAllPosts(page, size, sort, studentId);
+			Map<String, Object> body = postService.getAllPosts(page, size, sort, cursor, includeTotal, studentId);
 			return ResponseEntity.ok(body);
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest()
+				.body(Map.of("success", false, "message", e.getMessage()));
 		} catch (Exception e) {
 			log.error("게시글 목록 조회 실패", e);
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -215,12 +262,17 @@ public class PostController {
 		@RequestParam(defaultValue = "0") int page,
 		@RequestParam(defaultValue = "20") int size,
 		@RequestParam(defaultValue = "latest") String sort,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "false") boolean includeTotal,
 		Authentication authentication
 	) {
 		try {
 			String studentId = (authentication != null) ? authentication.getName() : null;
-			Map<String, Object> body = postService.getPostsByCategory(name, page, size, sort, studentId);
+			Map<String, Object> body = postService.getPostsByCategory(name, page, size, sort, cursor, includeTotal, studentId);
 			return ResponseEntity.ok(body);
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest()
+				.body(Map.of("success", false, "message", e.getMessage()));
 		} catch (Exception e) {
 			log.error("카테고리별 조회 실패", e);
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -235,11 +287,13 @@ public class PostController {
 		@RequestParam(defaultValue = "0") int page,
 		@RequestParam(defaultValue = "20") int size,
 		@RequestParam(defaultValue = "latest") String sort,
+		@RequestParam(required = false) String cursor,
+		@RequestParam(defaultValue = "false") boolean includeTotal,
 		Authentication authentication
 	) {
 		try {
 			String studentId = (authentication != null) ? authentication.getName() : null;
-			Map<String, Object> body = postService.searchPosts(keyword, status, page, size, sort, studentId);
+			Map<String, Object> body = postService.searchPosts(keyword, status, page, size, sort, cursor, includeTotal, studentId);
 			return ResponseEntity.ok(body);
 		} catch (IllegalArgumentException e) {
 			return ResponseEntity.badRequest()
@@ -14,6 +14,7 @@ public class ChatMessageDto {
 
     private Long messageId;
     private Long roomId;
+    private Long seq;  // 채팅방 내 메시지 순번 (직전 순번 + 1이 아니면 중간 메시지 누락)
     private String senderId;
     private String senderName;
     private String content;
@@ -22,17 +23,21 @@ public class ChatMessageDto {
     private LocalDateTime sentAt;
     private Boolean isRead;
     private LocalDateTime readAt;
+    private String clientMessageId;  // 전송 시 클라이언트가 보낸 메시지 ID (낙관적 표시 메시지와 매칭)
+    private Long lastReadMessageId;  // 읽음 알림일 때 상대방이 읽은 마지막 메시지 ID
 
     // Entity to DTO
     public static ChatMessageDto fromEntity(ChatMessage message) {
         return ChatMessageDto.builder()
                 .messageId(message.getMessageId())
                 .roomId(message.getChatRoom().getRoomId())
+                .seq(message.getSeq())
                 .senderId(message.getSender().getStudentId())
                 .senderName(message.getSenderName())
                 .content(message.getContent())
                 .messageType(message.getMessageType())
                 .imageUrl(message.getImageUrl())
+                .clientMessageId(message.getClientMessageId())
                 .sentAt(message.getSentAt())
                 .isRead(message.getIsRead())
                 .readAt(message.getReadAt())
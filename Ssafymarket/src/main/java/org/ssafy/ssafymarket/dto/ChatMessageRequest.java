@@ -11,5 +11,7 @@ import org.ssafy.ssafymarket.entity.ChatMessage;
 public class ChatMessageRequest {
     private String content;
     private ChatMessage.MessageType messageType;
-    private String imageUrl;  // 이미지 URL (IMAGE 타입일 때 필수)
+    private String imageUrl;  // 이미지 URL (IMAGE 타입일 때 imageUrl 또는 imageKey 필수)
+    private String imageKey;  // presigned URL로 직접 업로드한 objectKey (서버가 확인 후 imageUrl로 변환)
+    private String clientMessageId;  // 클라이언트 생성 메시지 ID (선택, 재전송 시 같은 값이면 중복 저장하지 않음)
 }
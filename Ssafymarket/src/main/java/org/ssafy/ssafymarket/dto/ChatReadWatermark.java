@@ -0,0 +1,20 @@
+package org.ssafy.ssafymarket.dto;
+
+/**
+ * 채팅방 읽음 워터마크 (참여자별 마지막으로 읽은 메시지 ID)
+ */
+public record ChatReadWatermark(
+        Long buyerLastReadMessageId,
+        Long sellerLastReadMessageId
+) {
+
+    public static final ChatReadWatermark NONE = new ChatReadWatermark(0L, 0L);
+
+    /**
+     * 메시지를 상대방이 읽었는지 여부 (구매자가 보낸 메시지는 판매자의 워터마크로 판단)
+     */
+    public boolean isReadByCounterpart(long messageId, boolean sentByBuyer) {
+        Long watermark = sentByBuyer ? sellerLastReadMessageId : buyerLastReadMessageId;
+        return watermark != null && messageId <= watermark;
+    }
+}
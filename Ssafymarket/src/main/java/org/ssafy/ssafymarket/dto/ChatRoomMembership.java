@@ -0,0 +1,35 @@
+package org.ssafy.ssafymarket.dto;
+
+/**
+ * 채팅방 참여자 정보 (권한 확인/알림용 캐시 값)
+ *
+ * @param activity 1: 활성, 0: 비활성(나간 채팅방)
+ */
+public record ChatRoomMembership(
+        Long roomId,
+        String buyerId,
+        String sellerId,
+        Long postId,
+        String postTitle,
+        Integer activity
+) {
+
+    public boolean isActive() {
+        return activity != null && activity == 1;
+    }
+
+    public boolean isParticipant(String userId) {
+        return buyerId.equals(userId) || sellerId.equals(userId);
+    }
+
+    public boolean isBuyer(String userId) {
+        return buyerId.equals(userId);
+    }
+
+    /**
+     * 상대방 학번
+     */
+    public String counterpartOf(String userId) {
+        return isBuyer(userId) ? sellerId : buyerId;
+    }
+}
@@ -0,0 +1,27 @@
+package org.ssafy.ssafymarket.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 이미지 직접 업로드용 presigned URL 발급 요청
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImageUploadPresignRequest {
+
+    private List<FileSpec> files;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FileSpec {
+        private String contentType; // image/jpeg, image/png, image/gif, image/webp
+        private Long size;          // 바이트
+    }
+}
@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -16,5 +18,6 @@ public class PostCreateRequest {
 	private String category;    // 카테고리
 	private String description; // 상품 설명
 	private String imageUrl;    // 업로드된 이미지 경로 (MinIO 업로드 후 설정)
+	private List<String> imageKeys; // presigned URL로 직접 업로드한 objectKey 목록 (순서대로)
 }
 
@@ -0,0 +1,70 @@
+package org.ssafy.ssafymarket.dto;
+
+import org.ssafy.ssafymarket.entity.Post;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 게시글 목록 커서 (keyset 페이징 위치)
+ * - 마지막으로 받은 게시글의 (정렬값, createdAt, postId)
+ * - 클라이언트에는 불투명한 문자열(base64url)로 전달
+ *
+ * @param sort 커서를 만든 정렬 기준 (다른 정렬에 재사용 불가)
+ * @param sortValue 인기순: 좋아요 수, 가격순: 가격, 최신순: null
+ */
+public record PostCursor(
+	PostSort sort,
+	Integer sortValue,
+	LocalDateTime createdAt,
+	Long postId
+) {
+
+	private static final String VERSION = "1";
+
+	public static PostCursor of(PostSort sort, Post last) {
+		Integer sortValue = switch (sort) {
+			case POPULAR -> last.getLikeCount() != null ? last.getLikeCount() : 0;
+			case LOW_PRICE, HIGH_PRICE -> last.getPrice();
+			case LATEST -> null;
+		};
+		return new PostCursor(sort, sortValue, last.getCreatedAt(), last.getPostId());
+	}
+
+	public String encode() {
+		String raw = String.join("|",
+			VERSION,
+			sort.name(),
+			sortValue == null ? "" : sortValue.toString(),
+			createdAt.toString(),
+			postId.toString());
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 커서 문자열 해석
+	 * @param cursor 이전 응답의 nextCursor (빈 문자열이면 첫 페이지)
+	 * @param sort 현재 요청의 정렬 기준
+	 * @return 커서 위치, 첫 페이지면 null
+	 */
+	public static PostCursor decode(String cursor, PostSort sort) {
+		if (cursor == null || cursor.isBlank()) {
+			return null;
+		}
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			String[] parts = raw.split("\\|", -1);
+			if (parts.length != 5 || !VERSION.equals(parts[0]) || !sort.name().equals(parts[1])) {
+				throw new IllegalArgumentException("잘못된 커서입니다.");
+			}
+			Integer sortValue = parts[2].isEmpty() ? null : Integer.valueOf(parts[2]);
+			if (sort != PostSort.LATEST && sortValue == null) {
+				throw new IllegalArgumentException("잘못된 커서입니다.");
+			}
+			return new PostCursor(sort, sortValue, LocalDateTime.parse(parts[3]), Long.valueOf(parts[4]));
+		} catch (IllegalArgumentException | java.time.format.DateTimeParseException e) {
+			throw new IllegalArgumentException("잘못된 커서입니다.", e);
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package org.ssafy.ssafymarket.dto;
+
+/**
+ * 게시글 목록 정렬 기준
+ * - 모든 정렬은 (정렬값, createdAt, postId) 순으로 유일하게 정해져 커서 페이징에 사용 가능
+ */
+public enum PostSort {
+	LATEST(true),      // 최신순
+	POPULAR(true),     // 인기순 (좋아요 수)
+	LOW_PRICE(false),  // 낮은 가격순
+	HIGH_PRICE(true);  // 높은 가격순
+
+	private final boolean descending;
+
+	PostSort(boolean descending) {
+		this.descending = descending;
+	}
+
+	public boolean isDescending() {
+		return descending;
+	}
+
+	/**
+	 * 요청 파라미터(latest, popular, lowPrice, highPrice)를 정렬 기준으로 변환
+	 * 알 수 없는 값은 최신순
+	 */
+	public static PostSort from(String sort) {
+		if (sort == null) {
+			return LATEST;
+		}
+		return switch (sort.toLowerCase()) {
+			case "popular" -> POPULAR;
+			case "lowprice" -> LOW_PRICE;
+			case "highprice" -> HIGH_PRICE;
+			default -> LATEST;
+		};
+	}
+}
@@ -0,0 +1,19 @@
+package org.ssafy.ssafymarket.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PresenceDto {
+
+    private String studentId;
+    private Boolean online;
+    private Integer sessionCount;     // 이 서버에 연결된 WebSocket 세션 수
+    private LocalDateTime lastSeenAt; // 마지막 연결/해제 시각 (접속 기록 없으면 null)
+    private Long roomId;              // 채팅방 목록 조회 시 상대방이 속한 채팅방
+}
@@ -10,7 +10,15 @@ import java.time.LocalDateTime;
 @Table(name = "chat_message",
        indexes = {
            @Index(name = "idx_room_sent", columnList = "room_id, sent_at"),
-           @Index(name = "idx_room_unread", columnList = "room_id, is_read")
+           // 메시지 커서 페이징용 (messageId는 채팅방 안에서 전송 순서와 같음)
+           // 안읽은 수 계산도 (room_id, message_id > 읽음 워터마크) 범위로 처리
+           @Index(name = "idx_room_message", columnList = "room_id, message_id"),
+           // 채팅방 순번 기준 누락 메시지 조회 + 같은 순번 중복 방지
+           @Index(name = "uk_room_seq", columnList = "room_id, seq", unique = true),
+           // 재전송 중복 방지 (clientMessageId가 없는 메시지는 NULL이라 제약 없음)
+           @Index(name = "uk_room_sender_client_msg", columnList = "room_id, sender_id, client_message_id", unique = true),
+           // 이미지 서빙 시 참조 여부 확인용
+           @Index(name = "idx_chat_message_image", columnList = "image_url")
        })
 @Getter
 @Setter
@@ -28,6 +36,12 @@ public class ChatMessage {
     @JoinColumn(name = "room_id", nullable = false)
     private ChatRoom chatRoom;
 
+    /**
+     * 채팅방 내 메시지 순번 (1부터 빈 번호 없이 증가, 클라이언트 누락 감지/재동기화용)
+     */
+    @Column(name = "seq")
+    private Long seq;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "sender_id", referencedColumnName = "student_id", nullable = false)
     private User sender;
@@ -56,10 +70,20 @@ public class ChatMessage {
     @Column(name = "image_url", length = 500)
     private String imageUrl;
 
+    /**
+     * 클라이언트가 생성한 메시지 ID (재연결/재시도 시 중복 저장 방지)
+     */
+    @Column(name = "client_message_id", length = 64)
+    private String clientMessageId;
+
     @CreationTimestamp
     @Column(name = "sent_at", nullable = false, updatable = false)
     private LocalDateTime sentAt;
 
+    /**
+     * 읽음 여부/시각 (기존 데이터 호환용, 더 이상 갱신하지 않음)
+     * 읽음 상태는 ChatRoom의 읽음 워터마크(last_read_message_id)로 계산
+     */
     @Column(name = "is_read", nullable = false)
     @Builder.Default
     private Boolean isRead = false;
@@ -3,6 +3,7 @@ package org.ssafy.ssafymarket.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
@@ -14,6 +15,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@DynamicUpdate // 안읽은 수/최근 메시지는 원자적 UPDATE로 관리하므로, 엔티티 저장 시 변경된 컬럼만 갱신
 public class ChatRoom {
 
     @Id
@@ -55,6 +57,25 @@ public class ChatRoom {
     @Builder.Default
     private Integer unreadSeller = 0;
 
+    /**
+     * 구매자/판매자가 마지막으로 읽은 메시지 ID (읽음 워터마크)
+     * 상대방이 보낸 메시지 중 이 값 이하는 읽음, 초과는 안읽음으로 계산
+     */
+    @Column(name = "buyer_last_read_message_id")
+    @Builder.Default
+    private Long buyerLastReadMessageId = 0L;
+
+    @Column(name = "seller_last_read_message_id")
+    @Builder.Default
+    private Long sellerLastReadMessageId = 0L;
+
+    /**
+     * 채팅방 마지막 메시지 순번 (메시지 전송 시 원자적으로 1씩 증가해 ChatMessage.seq로 사용)
+     */
+    @Column(name = "last_seq")
+    @Builder.Default
+    private Long lastSeq = 0L;
+
     @Column(name = "activity", nullable = false)
     @Builder.Default
     private Integer activity = 1;  // 1: 활성, 0: 비활성(삭제됨)
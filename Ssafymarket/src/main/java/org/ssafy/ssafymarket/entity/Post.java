@@ -3,18 +3,31 @@ package org.ssafy.ssafymarket.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "post")
+@Table(
+    name = "post",
+    indexes = {
+        // 인기순 정렬용 (like_count DESC, created_at DESC 역방향 스캔)
+        @Index(name = "idx_post_like_created", columnList = "like_count, created_at"),
+        // 최신순/가격순 커서 페이징용 (InnoDB 보조 인덱스에 post_id가 포함되어 keyset 조건까지 인덱스로 처리)
+        @Index(name = "idx_post_created", columnList = "created_at"),
+        @Index(name = "idx_post_price_created", columnList = "price, created_at"),
+        // 이미지 서빙 시 참조 여부 확인용 (단일 이미지 시절 게시글)
+        @Index(name = "idx_post_image_url", columnList = "image_url")
+    }
+)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@DynamicUpdate // 좋아요 수는 원자적 UPDATE로 관리하므로, 엔티티 저장 시 변경된 컬럼만 갱신
 public class Post {
 
     @Id
@@ -42,7 +55,12 @@ public class Post {
     @Builder.Default
     private Integer chatRoomCount = 0;
 
-    @Column(name = "like_count")
+    /**
+     * 좋아요 수 (post_like 비정규화)
+     * - PostLikeService에서 원자적 증감, PostLikeCountReconciler가 주기적으로 보정
+     * - 엔티티 저장으로는 갱신하지 않음 (읽어 둔 값이 동시에 커밋된 증감을 덮어쓰지 않도록)
+     */
+    @Column(name = "like_count", nullable = false, updatable = false)
     @Builder.Default
     private Integer likeCount = 0;
 
@@ -78,12 +96,12 @@ public class Post {
     private List<PostImage> images = new ArrayList<>();
 
     /**
-     * 대표 이미지 URL 반환 (첫 번째 이미지)
+     * 대표 이미지 URL 반환 (첫 번째 이미지의 썸네일, 썸네일이 아직 없으면 원본)
      * @return 대표 이미지 URL, 없으면 null
      */
     public String getThumbnailUrl() {
         if (!images.isEmpty()) {
-            return images.get(0).getImageUrl();
+            return images.get(0).getDisplayThumbUrl();
         }
         // Fallback: 기존 imageUrl 사용 (마이그레이션 기간 동안)
         return imageUrl;
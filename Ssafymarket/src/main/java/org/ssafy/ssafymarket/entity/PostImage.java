@@ -10,7 +10,12 @@ import java.time.LocalDateTime;
 @Table(
     name = "post_image",
     indexes = {
-        @Index(name = "idx_post_order", columnList = "post_id, image_order")
+        @Index(name = "idx_post_order", columnList = "post_id, image_order"),
+        // 한 이미지 객체는 한 게시글에만 연결 (이미지 삭제 시 다른 게시글의 이미지가 함께 지워지지 않도록)
+        @Index(name = "uk_post_image_url", columnList = "image_url", unique = true),
+        // 이미지 서빙 시 참조 여부 확인용
+        @Index(name = "idx_post_image_thumb", columnList = "thumb_url"),
+        @Index(name = "idx_post_image_medium", columnList = "medium_url")
     }
 )
 @Getter
@@ -32,6 +37,17 @@ public class PostImage {
     @Column(name = "image_url", nullable = false, length = 500)
     private String imageUrl;
 
+    /**
+     * 축소 변형 이미지 URL (업로드 후 백그라운드에서 생성, 생성 전에는 null)
+     * - thumb: 목록/채팅방 타일용
+     * - medium: 모바일 상세 화면용
+     */
+    @Column(name = "thumb_url", length = 500)
+    private String thumbUrl;
+
+    @Column(name = "medium_url", length = 500)
+    private String mediumUrl;
+
     /**
      * 이미지 순서 (0부터 시작, 0이 대표 이미지)
      * - 0: 썸네일로 사용되는 대표 이미지
@@ -40,6 +56,13 @@ public class PostImage {
     @Column(name = "image_order", nullable = false)
     private Integer imageOrder;
 
+    /**
+     * 목록/채팅방 타일용 URL (썸네일이 아직 없으면 원본)
+     */
+    public String getDisplayThumbUrl() {
+        return thumbUrl != null ? thumbUrl : imageUrl;
+    }
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,27 @@
+package org.ssafy.ssafymarket.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 마지막 접속 시각
+ * - WebSocket 연결/해제 시각을 메모리에 모았다가 주기적으로 배치 저장 (PresenceService)
+ */
+@Entity
+@Table(name = "user_presence")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserPresence {
+
+    @Id
+    @Column(name = "student_id", length = 20)
+    private String studentId;
+
+    @Column(name = "last_seen_at", nullable = false)
+    private LocalDateTime lastSeenAt;
+}
@@ -0,0 +1,27 @@
+package org.ssafy.ssafymarket.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 사용자별 전체 안읽은 메시지 수
+ * - chat_room.unread_buyer / unread_seller 합계를 비정규화해 유지 (전송/읽음 처리 시 원자적 증감)
+ * - user 테이블과 분리해 프로필 저장 등 User 엔티티 저장이 카운터를 덮어쓰지 않게 함
+ */
+@Entity
+@Table(name = "user_unread_count")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserUnreadCount {
+
+    @Id
+    @Column(name = "student_id", length = 20)
+    private String studentId;
+
+    @Column(name = "unread_count", nullable = false)
+    @Builder.Default
+    private Integer unreadCount = 0;
+}
@@ -0,0 +1,282 @@
+package org.ssafy.ssafymarket.minio;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.ssafy.ssafymarket.util.TransactionHooks;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import io.minio.StatObjectResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 이미지 서빙용 2단계 LRU 캐시 (MinIO 원본은 변하지 않는 UUID 객체이므로 내용은 크기로만 축출)
+ * - 디스크: minio.serving.disk-cache-size 바이트까지 로컬 파일로 보관 (sendfile로 복사 없이 전송)
+ *   파일은 disk-cache-path 아래 캐시 전용 하위 디렉터리에 두고, 시작 시 이 캐시가 만든 이름의 파일만 정리
+ * - 메모리: memory-max-object-size 이하의 작은 객체(썸네일 등)는 바이트 배열로도 보관
+ * - 같은 객체를 동시에 요청해도 MinIO에서는 한 번만 내려받음 (내려받기는 캐시 잠금 밖, 요청 스레드에서 수행)
+ * - 축출된 파일은 evicted-file-grace-ms 뒤 삭제 (이미 응답에 배정된 sendfile/파일 전송이 끝까지 읽을 수 있도록)
+ * - disk-max-object-size보다 큰 객체는 캐시하지 않고 MinIO에서 바로 전달
+ * - 서빙 허용 여부(게시글/채팅 참조)는 캐시 적중 때도 확인하고, 결과(허용/거부)를 reference-ttl-ms 동안 보관
+ *   (인증 없는 GET마다 DB를 3번 조회하지 않도록, 삭제/참조 해제는 이 시간 안에 반영)
+ * - 이 서버에서 삭제한 이미지(ImageDeletedEvent)는 즉시와 커밋 후 두 번 모든 캐시에서 제거
+ */
+@Slf4j
+@Component
+public class ImageCache {
+
+	private static final String DIRECTORY_NAME = "ssafymarket-image-cache";
+	// 캐시가 만드는 파일 이름 (UUID, 내려받는 중이면 UUID.part)
+	private static final Pattern CACHE_FILE_NAME = Pattern.compile("[0-9a-f]{8}(-[0-9a-f]{4}){3}-[0-9a-f]{12}(\\.part)?");
+
+	private final MinioService minioService;
+	private final Path directory;
+	private final long diskMaxObjectSize;
+	private final long memoryMaxObjectSize;
+	private final long evictedFileGraceMs;
+
+	private final AsyncCache<String, CachedImage> disk;
+	private final Cache<String, byte[]> memory;
+	private final Cache<String, Boolean> servable;
+	private final ScheduledExecutorService fileCleaner;
+
+	public ImageCache(MinioService minioService,
+			@Value("${minio.serving.disk-cache-path:}") String diskCachePath,
+			@Value("${minio.serving.disk-cache-size:1073741824}") long diskCacheSize,
+			@Value("${minio.serving.disk-max-object-size:20971520}") long diskMaxObjectSize,
+			@Value("${minio.serving.memory-cache-size:67108864}") long memoryCacheSize,
+			@Value("${minio.serving.memory-max-object-size:1048576}") long memoryMaxObjectSize,
+			@Value("${minio.serving.evicted-file-grace-ms:60000}") long evictedFileGraceMs,
+			@Value("${minio.serving.reference-ttl-ms:30000}") long referenceTtlMs,
+			@Value("${minio.serving.reference-cache-size:100000}") long referenceCacheSize) throws IOException {
+		this.minioService = minioService;
+		Path base = diskCachePath.isBlank() ? Path.of(System.getProperty("java.io.tmpdir")) : Path.of(diskCachePath);
+		this.directory = base.resolve(DIRECTORY_NAME);
+		this.diskMaxObjectSize = diskMaxObjectSize;
+		this.memoryMaxObjectSize = memoryMaxObjectSize;
+		this.evictedFileGraceMs = evictedFileGraceMs;
+
+		// 색인은 메모리에만 있으므로 이전 실행에서 남은 캐시 파일은 정리
+		Files.createDirectories(directory);
+		clearCacheFiles();
+
+		this.fileCleaner = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread thread = new Thread(r, "image-cache-cleaner");
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.disk = Caffeine.newBuilder()
+			.maximumWeight(diskCacheSize)
+			.weigher((String key, CachedImage image) -> (int) Math.min(Integer.MAX_VALUE, image.length()))
+			.removalListener((String key, CachedImage image, RemovalCause cause) -> {
+				if (image != null && (cause.wasEvicted() || cause == RemovalCause.EXPLICIT)) {
+					deleteLater(image.file());
+				}
+			})
+			.buildAsync();
+		this.memory = Caffeine.newBuilder()
+			.maximumWeight(memoryCacheSize)
+			.weigher((String key, byte[] bytes) -> bytes.length)
+			.build();
+		this.servable = Caffeine.newBuilder()
+			.maximumSize(referenceCacheSize)
+			.expireAfterWrite(referenceTtlMs, TimeUnit.MILLISECONDS)
+			.build();
+		log.info("이미지 캐시 시작 - 디스크: {} ({} bytes), 메모리: {} bytes", directory, diskCacheSize, memoryCacheSize);
+	}
+
+	/**
+	 * 캐시된 이미지 조회 (없으면 MinIO에서 내려받아 캐시)
+	 * @return 객체가 없거나 서빙하지 않는 객체면 null
+	 */
+	public CachedImage get(String objectName) {
+		if (!servable.get(objectName, minioService::isServableImage)) {
+			return null;
+		}
+		CompletableFuture<CachedImage> cached = disk.getIfPresent(objectName);
+		if (cached != null) {
+			// 다른 요청이 내려받는 중이면 완료까지 대기
+			return await(cached);
+		}
+		StatObjectResponse stat = minioService.statImage(objectName).orElse(null);
+		if (stat == null) {
+			return null;
+		}
+		if (stat.size() > diskMaxObjectSize) {
+			// 캐시하지 않음 (file, bytes 모두 null → MinIO에서 직접 전달)
+			return CachedImage.of(stat, null);
+		}
+
+		// 자리만 먼저 선점하고 내려받기는 캐시 잠금 밖에서 수행 (다른 객체 조회를 막지 않음)
+		CompletableFuture<CachedImage> loading = new CompletableFuture<>();
+		CompletableFuture<CachedImage> existing = disk.asMap().putIfAbsent(objectName, loading);
+		if (existing != null) {
+			return await(existing);
+		}
+		try {
+			loading.complete(download(objectName, stat));
+		} catch (RuntimeException e) {
+			disk.asMap().remove(objectName, loading);
+			loading.completeExceptionally(e);
+			throw e;
+		}
+		return loading.join();
+	}
+
+	/**
+	 * 삭제된 이미지를 모든 캐시에서 제거
+	 * - 삭제 트랜잭션이 커밋되기 전 다른 요청이 아직 남은 참조로 다시 캐시할 수 있으므로 커밋 후 한 번 더 제거
+	 * - 디스크 파일은 전송 중인 응답을 위해 evicted-file-grace-ms 뒤 삭제
+	 */
+	@EventListener
+	public void onImageDeleted(ImageDeletedEvent event) {
+		Runnable task = () -> evict(event.objectName());
+		task.run();
+		TransactionHooks.afterCommit(task);
+	}
+
+	private void evict(String objectName) {
+		servable.invalidate(objectName);
+		disk.synchronous().invalidate(objectName);
+		memory.invalidate(objectName);
+	}
+
+	/**
+	 * 메모리에 있는 작은 객체의 바이트 (없으면 null)
+	 */
+	public byte[] memoryBytes(CachedImage image) {
+		if (image.file() == null || image.length() > memoryMaxObjectSize) {
+			return null;
+		}
+		return memory.get(image.objectName(), name -> {
+			try {
+				return Files.readAllBytes(image.file());
+			} catch (IOException e) {
+				// 디스크에서 축출된 직후라면 파일 전송 경로로 처리
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * 캐시 통계 (관리자 조회용)
+	 */
+	public Map<String, Object> getStats() {
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("directory", directory.toString());
+		stats.put("diskEntries", disk.synchronous().estimatedSize());
+		stats.put("diskBytes", disk.synchronous().policy().eviction().map(e -> e.weightedSize().orElse(0)).orElse(0L));
+		stats.put("memoryEntries", memory.estimatedSize());
+		stats.put("memoryBytes", memory.policy().eviction().map(e -> e.weightedSize().orElse(0)).orElse(0L));
+		stats.put("referenceEntries", servable.estimatedSize());
+		return stats;
+	}
+
+	private CachedImage download(String objectName, StatObjectResponse stat) {
+		Path temp = directory.resolve(UUID.randomUUID() + ".part");
+		Path target = directory.resolve(UUID.randomUUID().toString());
+		try (InputStream in = minioService.openObject(objectName)) {
+			Files.copy(in, temp);
+			Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			deleteQuietly(temp);
+			throw new UncheckedIOException("이미지 캐시 저장 실패: " + objectName, e);
+		}
+		log.debug("이미지 캐시 적재 - {}, {} bytes", objectName, stat.size());
+		return CachedImage.of(stat, target);
+	}
+
+	@PreDestroy
+	public void stop() {
+		fileCleaner.shutdownNow();
+	}
+
+	private static CachedImage await(CompletableFuture<CachedImage> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * 캐시 디렉터리에서 이 캐시가 만든 이름의 파일만 삭제 (하위 디렉터리, 다른 파일은 건드리지 않음)
+	 */
+	private void clearCacheFiles() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			files.filter(Files::isRegularFile)
+				.filter(path -> CACHE_FILE_NAME.matcher(path.getFileName().toString()).matches())
+				.forEach(this::deleteQuietly);
+		}
+	}
+
+	private void deleteLater(Path file) {
+		if (file == null) {
+			return;
+		}
+		try {
+			fileCleaner.schedule(() -> deleteQuietly(file), evictedFileGraceMs, TimeUnit.MILLISECONDS);
+		} catch (RuntimeException e) {
+			// 종료 중: 다음 시작 시 정리됨
+			log.debug("축출된 캐시 파일 삭제 예약 실패: {}", file);
+		}
+	}
+
+	private void deleteQuietly(Path file) {
+		if (file == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			log.warn("이미지 캐시 파일 삭제 실패: {}", file, e);
+		}
+	}
+
+	/**
+	 * 캐시된 이미지 메타데이터
+	 * @param file 디스크 캐시 파일 (캐시하지 않는 큰 객체는 null)
+	 */
+	public record CachedImage(
+		String objectName,
+		String etag,
+		String contentType,
+		long length,
+		ZonedDateTime lastModified,
+		Path file
+	) {
+		static CachedImage of(StatObjectResponse stat, Path file) {
+			// MinIO etag는 객체 내용의 해시이고 객체는 덮어쓰지 않으므로 강한 ETag로 사용
+			String etag = "\"" + stat.etag().replace("\"", "") + "\"";
+			String contentType = stat.contentType() != null ? stat.contentType() : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+			return new CachedImage(stat.object(), etag, contentType, stat.size(), stat.lastModified(), file);
+		}
+	}
+}
@@ -0,0 +1,8 @@
+package org.ssafy.ssafymarket.minio;
+
+/**
+ * MinIO 이미지 객체 삭제 이벤트 (이미지 서빙 캐시 무효화용)
+ * @param objectName 버킷 내 objectName (images/uuid.jpg)
+ */
+public record ImageDeletedEvent(String objectName) {
+}
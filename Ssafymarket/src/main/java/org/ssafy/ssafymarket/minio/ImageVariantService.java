@@ -0,0 +1,365 @@
+package org.ssafy.ssafymarket.minio;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.ssafy.ssafymarket.entity.PostImage;
+import org.ssafy.ssafymarket.repository.PostImageRepository;
+import org.ssafy.ssafymarket.util.TransactionHooks;
+import org.w3c.dom.NodeList;
+
+import io.minio.GetObjectArgs;
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+import io.minio.RemoveObjectArgs;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 이미지 축소 변형(thumb, medium) 생성
+ * - 게시글 저장 커밋 후 전용 스레드 풀에서 원본을 MinIO에서 읽어 JPEG로 축소 저장 (원본 옆: images/uuid_thumb.jpg)
+ * - 원본은 목표 크기에 맞춰 서브샘플링하며 디코딩해 큰 사진도 메모리를 적게 사용
+ * - JPEG EXIF 방향(Orientation) 태그를 적용해 변형은 항상 바로 선 이미지로 저장 (JPEG 저장 시 EXIF는 남기지 않음)
+ * - 생성된 URL은 PostImage.thumbUrl / mediumUrl에 기록, 생성 전에는 원본 URL로 응답
+ * - 대기열 포화/실패로 빠졌거나 기능 도입 전에 올라온 이미지는 minio.variant.backfill-cron 주기로 조금씩 다시 생성
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageVariantService {
+
+	private static final String VARIANT_CONTENT_TYPE = "image/jpeg";
+	private static final String JPEG_METADATA_FORMAT = "javax_imageio_jpeg_image_1.0";
+	private static final String APP1_MARKER = "225"; // 0xE1 (EXIF)
+	private static final int ORIENTATION_TAG = 0x0112;
+
+	private final MinioClient minioClient;
+	private final PostImageRepository postImageRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final ExecutorService imageVariantExecutor;
+
+	@Value("${minio.bucket}")
+	private String bucketName;
+
+	@Value("${minio.variant.thumb-size:320}")
+	private int thumbSize;
+
+	@Value("${minio.variant.medium-size:1080}")
+	private int mediumSize;
+
+	@Value("${minio.variant.jpeg-quality:0.8}")
+	private float jpegQuality;
+
+	@Value("${minio.variant.backfill-batch-size:100}")
+	private int backfillBatchSize;
+
+	// 백필이 마지막으로 요청한 imageId (끝까지 돌면 0부터 다시, 실패한 이미지는 다음 순회에서 재시도)
+	// 스케줄러 스레드에서만 사용
+	private long backfillCursor;
+
+	/**
+	 * 변형이 없는 이미지의 변형 생성 요청 (트랜잭션 안이면 커밋 후 실행)
+	 * 새 이미지의 ID는 flush 이후에 정해지므로 대상은 커밋 후에 고름
+	 * @param images 게시글 이미지 목록
+	 */
+	public void generateAfterCommit(List<PostImage> images) {
+		TransactionHooks.afterCommit(() -> submit(images));
+	}
+
+	private void submit(List<PostImage> images) {
+		List<Source> sources = images.stream()
+			.filter(image -> image.getImageId() != null && image.getThumbUrl() == null)
+			.map(image -> new Source(image.getImageId(), image.getImageUrl()))
+			.toList();
+		for (Source source : sources) {
+			try {
+				imageVariantExecutor.execute(() -> generate(source));
+			} catch (RejectedExecutionException e) {
+				log.warn("이미지 변형 생성 대기열 포화, 원본 사용 - imageId: {}", source.imageId());
+			}
+		}
+	}
+
+	/**
+	 * 변형이 없는 이미지를 한 번에 backfill-batch-size개까지 생성 요청
+	 * - 대기열이 가득 차면 멈추고 다음 실행에서 그 이미지부터 이어서 요청
+	 */
+	@Scheduled(cron = "${minio.variant.backfill-cron:0 */10 * * * *}")
+	public void backfillMissingVariants() {
+		List<Object[]> rows = postImageRepository.findMissingVariantsAfter(backfillCursor,
+			PageRequest.of(0, backfillBatchSize));
+		if (rows.isEmpty()) {
+			backfillCursor = 0L;
+			return;
+		}
+
+		int submitted = 0;
+		for (Object[] row : rows) {
+			Source source = new Source((Long) row[0], (String) row[1]);
+			try {
+				imageVariantExecutor.execute(() -> generate(source));
+			} catch (RejectedExecutionException e) {
+				log.debug("이미지 변형 생성 대기열 포화, 백필 중단 - imageId: {}", source.imageId());
+				break;
+			}
+			backfillCursor = source.imageId();
+			submitted++;
+		}
+		log.info("이미지 변형 백필 요청 - 요청 수: {}, 마지막 imageId: {}", submitted, backfillCursor);
+	}
+
+	private void generate(Source source) {
+		String objectName = objectName(source.imageUrl());
+		try {
+			BufferedImage medium;
+			try (InputStream in = minioClient.getObject(GetObjectArgs.builder()
+					.bucket(bucketName)
+					.object(objectName)
+					.build())) {
+				medium = readScaled(in, mediumSize);
+			}
+			if (medium == null) {
+				log.debug("지원하지 않는 이미지 형식, 변형 생략 - imageId: {}, {}", source.imageId(), objectName);
+				return;
+			}
+			BufferedImage thumb = resize(medium, thumbSize);
+
+			String base = objectName.contains(".") ? objectName.substring(0, objectName.lastIndexOf('.')) : objectName;
+			String mediumName = base + "_medium.jpg";
+			String thumbName = base + "_thumb.jpg";
+			putJpeg(mediumName, medium);
+			putJpeg(thumbName, thumb);
+
+			Integer updated = transactionTemplate.execute(status -> postImageRepository.updateVariantUrls(
+				source.imageId(), bucketName + "/" + thumbName, bucketName + "/" + mediumName));
+			if (updated == null || updated == 0) {
+				// 처리 중 이미지가 삭제됨
+				remove(mediumName);
+				remove(thumbName);
+				return;
+			}
+			log.info("이미지 변형 생성 완료 - imageId: {}, {} / {}", source.imageId(), thumbName, mediumName);
+		} catch (Exception e) {
+			log.warn("이미지 변형 생성 실패, 원본 사용 - imageId: {}, {}", source.imageId(), e.getMessage());
+		}
+	}
+
+	/**
+	 * 긴 변이 maxSize에 가깝도록 서브샘플링하며 디코딩 후 EXIF 방향 적용, 정확한 크기로 축소
+	 * @return 디코딩할 수 없는 형식이면 null
+	 */
+	private BufferedImage readScaled(InputStream in, int maxSize) throws IOException {
+		try (ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+			if (iis == null) {
+				return null;
+			}
+			Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+			if (!readers.hasNext()) {
+				return null;
+			}
+			ImageReader reader = readers.next();
+			try {
+				// EXIF 방향을 읽기 위해 메타데이터는 무시하지 않음
+				reader.setInput(iis, true, false);
+				int orientation = readOrientation(reader);
+				int longest = Math.max(reader.getWidth(0), reader.getHeight(0));
+				ImageReadParam param = reader.getDefaultReadParam();
+				int step = Math.max(1, longest / maxSize);
+				param.setSourceSubsampling(step, step, 0, 0);
+				return resize(applyOrientation(reader.read(0, param), orientation), maxSize);
+			} finally {
+				reader.dispose();
+			}
+		}
+	}
+
+	/**
+	 * JPEG APP1(EXIF) 세그먼트의 방향 값 (없거나 읽을 수 없으면 1 = 정상)
+	 */
+	private int readOrientation(ImageReader reader) {
+		try {
+			IIOMetadata metadata = reader.getImageMetadata(0);
+			if (metadata == null || !Arrays.asList(metadata.getMetadataFormatNames()).contains(JPEG_METADATA_FORMAT)) {
+				return 1;
+			}
+			IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree(JPEG_METADATA_FORMAT);
+			NodeList markers = root.getElementsByTagName("unknown");
+			for (int i = 0; i < markers.getLength(); i++) {
+				IIOMetadataNode marker = (IIOMetadataNode) markers.item(i);
+				if (APP1_MARKER.equals(marker.getAttribute("MarkerTag"))
+						&& marker.getUserObject() instanceof byte[] data) {
+					int orientation = exifOrientation(data);
+					if (orientation > 0) {
+						return orientation;
+					}
+				}
+			}
+		} catch (IOException | RuntimeException e) {
+			log.debug("EXIF 방향 읽기 실패, 원본 방향 사용: {}", e.getMessage());
+		}
+		return 1;
+	}
+
+	/**
+	 * APP1 세그먼트("Exif\0\0" + TIFF)의 IFD0에서 Orientation(0x0112) 값 추출
+	 * @return 1~8, 없거나 형식이 맞지 않으면 0
+	 */
+	static int exifOrientation(byte[] app1) {
+		if (app1.length < 14 || app1[0] != 'E' || app1[1] != 'x' || app1[2] != 'i' || app1[3] != 'f') {
+			return 0;
+		}
+		ByteOrder order;
+		if (app1[6] == 'I' && app1[7] == 'I') {
+			order = ByteOrder.LITTLE_ENDIAN;
+		} else if (app1[6] == 'M' && app1[7] == 'M') {
+			order = ByteOrder.BIG_ENDIAN;
+		} else {
+			return 0;
+		}
+		// 오프셋은 TIFF 헤더 기준
+		ByteBuffer tiff = ByteBuffer.wrap(app1, 6, app1.length - 6).slice().order(order);
+		long ifd = Integer.toUnsignedLong(tiff.getInt(4));
+		if (ifd + 2 > tiff.limit()) {
+			return 0;
+		}
+		int count = Short.toUnsignedInt(tiff.getShort((int) ifd));
+		for (int i = 0; i < count; i++) {
+			int entry = (int) ifd + 2 + i * 12;
+			if (entry + 12 > tiff.limit()) {
+				return 0;
+			}
+			if (Short.toUnsignedInt(tiff.getShort(entry)) == ORIENTATION_TAG) {
+				// SHORT 값은 값 필드 앞 2바이트에 저장
+				int value = Short.toUnsignedInt(tiff.getShort(entry + 8));
+				return value >= 1 && value <= 8 ? value : 0;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * EXIF 방향(2~8)에 맞춰 뒤집기/회전 (5~8은 가로세로가 바뀜)
+	 */
+	static BufferedImage applyOrientation(BufferedImage source, int orientation) {
+		int w = source.getWidth();
+		int h = source.getHeight();
+		AffineTransform transform = switch (orientation) {
+			case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);  // 좌우 반전
+			case 3 -> new AffineTransform(-1, 0, 0, -1, w, h); // 180도
+			case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);  // 상하 반전
+			case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);   // 전치
+			case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);  // 시계 방향 90도
+			case 7 -> new AffineTransform(0, -1, -1, 0, h, w); // 반대 전치
+			case 8 -> new AffineTransform(0, -1, 1, 0, 0, w);  // 반시계 방향 90도
+			default -> null;
+		};
+		if (transform == null) {
+			return source;
+		}
+		boolean swap = orientation >= 5;
+		BufferedImage oriented = new BufferedImage(swap ? h : w, swap ? w : h, BufferedImage.TYPE_INT_RGB);
+		Graphics2D g = oriented.createGraphics();
+		try {
+			g.setColor(Color.WHITE);
+			g.fillRect(0, 0, oriented.getWidth(), oriented.getHeight());
+			g.drawImage(source, transform, null);
+		} finally {
+			g.dispose();
+		}
+		return oriented;
+	}
+
+	/**
+	 * 긴 변이 maxSize 이하가 되도록 축소 (확대하지 않음), JPEG 저장을 위해 투명 영역은 흰색으로 채움
+	 */
+	private BufferedImage resize(BufferedImage source, int maxSize) {
+		double scale = Math.min(1.0, (double) maxSize / Math.max(source.getWidth(), source.getHeight()));
+		int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+		int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+		BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D g = resized.createGraphics();
+		try {
+			g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			g.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+		} finally {
+			g.dispose();
+		}
+		return resized;
+	}
+
+	private void putJpeg(String objectName, BufferedImage image) throws Exception {
+		ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (MemoryCacheImageOutputStream ios = new MemoryCacheImageOutputStream(out)) {
+			ImageWriteParam param = writer.getDefaultWriteParam();
+			param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+			param.setCompressionQuality(jpegQuality);
+			writer.setOutput(ios);
+			writer.write(null, new IIOImage(image, null, null), param);
+		} finally {
+			writer.dispose();
+		}
+
+		byte[] bytes = out.toByteArray();
+		minioClient.putObject(PutObjectArgs.builder()
+			.bucket(bucketName)
+			.object(objectName)
+			.stream(new ByteArrayInputStream(bytes), bytes.length, -1)
+			.contentType(VARIANT_CONTENT_TYPE)
+			.build());
+	}
+
+	private void remove(String objectName) {
+		try {
+			minioClient.removeObject(RemoveObjectArgs.builder()
+				.bucket(bucketName)
+				.object(objectName)
+				.build());
+		} catch (Exception e) {
+			log.warn("이미지 변형 삭제 실패: {}", objectName, e);
+		}
+	}
+
+	/**
+	 * 저장된 URL(bucket/objectName)에서 objectName 추출
+	 */
+	private String objectName(String imageUrl) {
+		String prefix = bucketName + "/";
+		return imageUrl.startsWith(prefix) ? imageUrl.substring(prefix.length()) : imageUrl;
+	}
+
+	private record Source(Long imageId, String imageUrl) {
+	}
+}
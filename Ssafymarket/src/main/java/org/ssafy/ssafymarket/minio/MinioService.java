@@ -1,28 +1,53 @@
 package org.ssafy.ssafymarket.minio;
 
 
-import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 import org.springframework.security.core.Authentication;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import org.ssafy.ssafymarket.config.MinioProperties;
+import org.ssafy.ssafymarket.dto.ImageUploadPresignRequest;
 import org.ssafy.ssafymarket.dto.PostCreateRequest;
 import org.ssafy.ssafymarket.entity.Post;
 import org.ssafy.ssafymarket.entity.User;
+import org.ssafy.ssafymarket.repository.ChatMessageRepository;
+import org.ssafy.ssafymarket.repository.PostImageRepository;
 import org.ssafy.ssafymarket.repository.PostRepository;
 import org.ssafy.ssafymarket.repository.UserRepository;
+import org.ssafy.ssafymarket.util.TransactionHooks;
 
 import io.minio.BucketExistsArgs;
+import io.minio.CopyObjectArgs;
+import io.minio.CopySource;
+import io.minio.Directive;
+import io.minio.GetObjectArgs;
 import io.minio.MakeBucketArgs;
 import io.minio.MinioClient;
+import io.minio.PostPolicy;
 import io.minio.PutObjectArgs;
 import io.minio.RemoveObjectArgs;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+import io.minio.errors.ErrorResponseException;
 import jakarta.annotation.PostConstruct;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -36,10 +61,40 @@ public class MinioService {
 	private final MinioClient minioClient;
 	private final PostRepository postRepository;
 	private final UserRepository userRepository;
+	private final PostImageRepository postImageRepository;
+	private final ChatMessageRepository chatMessageRepository;
+	private final ExecutorService minioUploadExecutor;
+	private final ImageVariantService imageVariantService;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Value("${minio.bucket}")
 	private String bucketName;
 
+	@Value("${minio.endpoint}")
+	private String endpoint;
+
+	// 멀티파트 업로드 파트 크기 (최소 5MB, 업로드당 메모리는 이 크기로 고정)
+	@Value("${minio.upload.part-size:5242880}")
+	private long partSize;
+
+	// 직접 업로드(presigned POST 정책) 유효 시간
+	@Value("${minio.presigned.expiry-seconds:300}")
+	private int presignedExpirySeconds;
+
+	// 직접 업로드 최대 파일 크기 (기존 업로드와 동일하게 10MB)
+	@Value("${minio.presigned.max-size:10485760}")
+	private long presignedMaxSize;
+
+	private static final Set<String> UPLOADABLE_IMAGE_TYPES =
+		Set.of("image/jpeg", "image/png", "image/gif", "image/webp");
+
+	// 시그니처 검사에 읽는 앞부분 길이 (WEBP: RIFF....WEBP)
+	private static final int SIGNATURE_LENGTH = 12;
+
+	// 발급한 업로드 파일 이름 (uploads/{studentId}/ 다음: uuid.ext)
+	private static final Pattern UPLOAD_FILE_NAME =
+		Pattern.compile("[0-9a-f]{8}(-[0-9a-f]{4}){3}-[0-9a-f]{12}\\.[a-z]{3,4}");
+
 	@PostConstruct
 	public void ensureBucket() throws Exception {
 		boolean exists = minioClient.bucketExists(BucketExistsArgs.builder().bucket(bucketName).build());
@@ -92,16 +147,31 @@ public class MinioService {
 		List<String> uploadedObjectNames = new ArrayList<>();
 
 		try {
-			// 각 파일을 MinIO에 업로드
-			for (int i = 0; i < files.size(); i++) {
-				MultipartFile file = files.get(i);
-				String objectName = uploadToMinio(file);
-				uploadedObjectNames.add(objectName);
+			// 각 파일을 MinIO에 병렬 업로드 (업로드 전용 스레드 풀)
+			List<CompletableFuture<String>> uploads = new ArrayList<>(files.size());
+			for (MultipartFile file : files) {
+				uploads.add(CompletableFuture.supplyAsync(() -> uploadToMinio(file), minioUploadExecutor));
+			}
 
-				// Post에 이미지 추가 (순서대로)
-				String imageUrl = bucketName + "/" + objectName;
-				post.addImage(imageUrl);
+			// 모든 업로드가 끝날 때까지 기다림 (실패가 있어도 나머지 업로드 결과를 받아야 보상 삭제 가능)
+			RuntimeException uploadFailure = null;
+			for (CompletableFuture<String> upload : uploads) {
+				try {
+					uploadedObjectNames.add(upload.join());
+				} catch (CompletionException e) {
+					if (uploadFailure == null) {
+						uploadFailure = e.getCause() instanceof RuntimeException cause ? cause : e;
+					}
+				}
+			}
+			if (uploadFailure != null) {
+				throw uploadFailure;
+			}
 
+			// Post에 이미지 추가 (요청 순서대로)
+			for (int i = 0; i < uploadedObjectNames.size(); i++) {
+				String objectName = uploadedObjectNames.get(i);
+				post.addImage(bucketName + "/" + objectName);
 				log.info("이미지 업로드 완료 [{}/{}]: {}", i + 1, files.size(), objectName);
 			}
 
@@ -109,6 +179,9 @@ public class MinioService {
 			Post savedPost = postRepository.save(post);
 			log.info("게시글 저장 완료 - postId: {}, 이미지 개수: {}", savedPost.getPostId(), savedPost.getImages().size());
 
+			// 커밋 후 썸네일/축소 이미지 생성
+			imageVariantService.generateAfterCommit(savedPost.getImages());
+
 			return savedPost.getPostId();
 
 		} catch (Exception ex) {
@@ -119,6 +192,275 @@ public class MinioService {
 		}
 	}
 
+	/**
+	 * 직접 업로드한 이미지로 게시글 생성 (서버는 objectKey 확인과 메타데이터 저장만 수행)
+	 * @param objectKeys presignImageUploads()로 발급받아 업로드를 마친 objectKey 목록 (순서대로)
+	 * @param newPost 게시글 정보
+	 * @return 생성된 게시글 ID
+	 */
+	@Transactional
+	public Long saveUploadedImages(List<String> objectKeys, PostCreateRequest newPost) {
+		if (objectKeys == null || objectKeys.isEmpty()) {
+			throw new IllegalArgumentException("최소 1개의 이미지가 필요합니다.");
+		}
+		if (objectKeys.size() > 10) {
+			throw new IllegalArgumentException("이미지는 최대 10개까지 업로드 가능합니다.");
+		}
+		if (new HashSet<>(objectKeys).size() != objectKeys.size()) {
+			throw new IllegalArgumentException("같은 이미지를 중복해서 사용할 수 없습니다.");
+		}
+
+		String studentId = SecurityContextHolder.getContext().getAuthentication().getName();
+		User writer = userRepository.findByStudentId(studentId)
+				.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자: " + studentId));
+
+		Post post = Post.builder()
+				.title(newPost.getTitle())
+				.price(newPost.getPrice())
+				.category(newPost.getCategory())
+				.description(newPost.getDescription())
+				.writer(writer)
+				.build();
+
+		// 게시글은 이번에 새로 옮긴 업로드만 사용 (이미 확인된 업로드는 다른 게시글/채팅 이미지이므로 거부)
+		// 게시글 저장이 롤백되면 옮긴 이미지는 삭제
+		List<String> confirmedObjectNames = new ArrayList<>();
+		deleteOnRollback(confirmedObjectNames);
+		for (String objectKey : objectKeys) {
+			ConfirmedImage image = confirmUploadedImage(studentId, objectKey);
+			if (!image.copied()) {
+				throw new IllegalArgumentException("이미 사용된 이미지입니다: " + objectKey);
+			}
+			confirmedObjectNames.add(objectNameOf(bucketName, image.imageUrl()));
+			post.addImage(image.imageUrl());
+		}
+
+		Post savedPost = postRepository.save(post);
+		log.info("게시글 저장 완료 (직접 업로드) - postId: {}, 이미지 개수: {}", savedPost.getPostId(), savedPost.getImages().size());
+
+		// 커밋 후 썸네일/축소 이미지 생성
+		imageVariantService.generateAfterCommit(savedPost.getImages());
+		return savedPost.getPostId();
+	}
+
+	/**
+	 * 이미지 직접 업로드용 presigned POST 정책 발급
+	 * - 정책에 objectKey, Content-Type, 크기 범위(1 ~ max-size)가 서명되어 MinIO가 업로드 시점에 검사
+	 * - 클라이언트는 uploadUrl로 formData 필드 + file 필드를 multipart/form-data로 POST한 뒤 objectKey로 게시글 생성/채팅 전송
+	 * @param studentId 업로드 사용자 (objectKey가 uploads/{studentId}/ 아래로 발급됨)
+	 * @param files 업로드할 파일의 content-type/크기
+	 * @param maxFiles 한 번에 발급할 수 있는 최대 개수
+	 * @return 파일별 objectKey, uploadUrl, formData, 만료 시각
+	 */
+	public List<Map<String, Object>> presignImageUploads(String studentId,
+			List<ImageUploadPresignRequest.FileSpec> files, int maxFiles) {
+		if (files == null || files.isEmpty()) {
+			throw new IllegalArgumentException("업로드할 파일 정보가 필요합니다.");
+		}
+		if (files.size() > maxFiles) {
+			throw new IllegalArgumentException("한 번에 최대 " + maxFiles + "개까지 업로드할 수 있습니다.");
+		}
+
+		String uploadUrl = endpoint.replaceAll("/+$", "") + "/" + bucketName;
+		List<Map<String, Object>> uploads = new ArrayList<>(files.size());
+		for (ImageUploadPresignRequest.FileSpec file : files) {
+			validateUploadableImage(file.getContentType(), file.getSize());
+			String contentType = file.getContentType().toLowerCase();
+			String objectKey = "uploads/%s/%s.%s".formatted(
+					studentId, UUID.randomUUID(), extFromContentTypeOrName(contentType, null));
+
+			Map<String, String> formData;
+			try {
+				PostPolicy policy = new PostPolicy(bucketName, ZonedDateTime.now().plusSeconds(presignedExpirySeconds));
+				policy.addEqualsCondition("key", objectKey);
+				policy.addEqualsCondition("Content-Type", contentType);
+				policy.addContentLengthRangeCondition(1, presignedMaxSize);
+				formData = new LinkedHashMap<>(minioClient.getPresignedPostFormData(policy));
+			} catch (Exception e) {
+				log.error("업로드 정책 발급 실패: {}", objectKey, e);
+				throw new RuntimeException("업로드 URL 발급 실패: " + e.getMessage(), e);
+			}
+			formData.put("key", objectKey);
+			formData.put("Content-Type", contentType);
+
+			Map<String, Object> upload = new LinkedHashMap<>();
+			upload.put("objectKey", objectKey);
+			upload.put("uploadUrl", uploadUrl);
+			upload.put("method", "POST");
+			upload.put("formData", formData);
+			upload.put("maxSize", presignedMaxSize);
+			upload.put("expiresAt", LocalDateTime.now().plusSeconds(presignedExpirySeconds));
+			uploads.add(upload);
+		}
+		log.info("presigned 업로드 정책 발급 - userId: {}, 개수: {}", studentId, uploads.size());
+		return uploads;
+	}
+
+	/**
+	 * 채팅 이미지용 업로드 확인 (같은 clientMessageId 재전송은 이미 옮긴 이미지를 그대로 사용)
+	 * 게시글에 쓰인 이미지는 채팅에서 다시 사용할 수 없음 (게시글 이미지 삭제 시 채팅 이미지가 깨지지 않도록)
+	 */
+	public ConfirmedImage confirmUploadedChatImage(String studentId, String objectKey) {
+		ConfirmedImage image = confirmUploadedImage(studentId, objectKey);
+		if (!image.copied() && postImageRepository.existsByAnyUrl(image.imageUrl())) {
+			throw new IllegalArgumentException("이미 사용된 이미지입니다: " + objectKey);
+		}
+		return image;
+	}
+
+	/**
+	 * 확인하며 새로 옮긴 이미지를 삭제 (확인 후 메시지/게시글 저장이 실패했을 때)
+	 * 이전에 옮겨져 다른 메시지가 참조할 수 있는 이미지는 삭제하지 않음
+	 */
+	public void discardConfirmedImage(ConfirmedImage image) {
+		if (image == null || !image.copied()) {
+			return;
+		}
+		compensateMinioUpload(List.of(objectNameOf(bucketName, image.imageUrl())));
+	}
+
+	/**
+	 * 직접 업로드된 이미지 확인 후 images/ 아래로 이동 (같은 키로 다시 호출해도 같은 결과)
+	 * - 발급 대상 사용자, 실제 크기/content-type, 파일 시그니처(매직 바이트)가 content-type과 맞는지 검사
+	 * - 통과하면 검사한 content-type으로 images/{업로드 UUID}.ext에 복사하고 uploads/ 객체는 삭제
+	 *   (이동 위치가 업로드 키에서 정해지므로 재시도는 이미 옮긴 이미지를 받고, 서빙되는 객체는 서버가 쓴 불변 객체만 남음)
+	 * - 제약을 어긴 객체는 삭제
+	 * @return 저장용 이미지 URL (bucket/images/uuid.ext), 이번 호출에서 복사했는지
+	 */
+	ConfirmedImage confirmUploadedImage(String studentId, String objectKey) {
+		String prefix = "uploads/" + studentId + "/";
+		if (objectKey == null || !objectKey.startsWith(prefix)
+				|| !isIssuedUploadFileName(objectKey.substring(prefix.length()))) {
+			throw new IllegalArgumentException("잘못된 이미지 키입니다: " + objectKey);
+		}
+		String objectName = "images/" + objectKey.substring(prefix.length());
+		String imageUrl = bucketName + "/" + objectName;
+
+		StatObjectResponse stat;
+		byte[] head;
+		try {
+			stat = minioClient.statObject(StatObjectArgs.builder()
+					.bucket(bucketName)
+					.object(objectKey)
+					.build());
+			try (InputStream in = minioClient.getObject(GetObjectArgs.builder()
+					.bucket(bucketName)
+					.object(objectKey)
+					.offset(0L)
+					.length((long) SIGNATURE_LENGTH)
+					.build())) {
+				head = in.readNBytes(SIGNATURE_LENGTH);
+			}
+		} catch (ErrorResponseException e) {
+			// 이미 옮겨진 업로드 (재시도)
+			if (objectExists(objectName)) {
+				return new ConfirmedImage(imageUrl, false);
+			}
+			throw new IllegalArgumentException("업로드되지 않은 이미지입니다: " + objectKey);
+		} catch (Exception e) {
+			log.error("MinIO 객체 조회 실패: {}", objectKey, e);
+			throw new RuntimeException("이미지 확인 실패: " + e.getMessage(), e);
+		}
+
+		String contentType;
+		try {
+			validateUploadableImage(stat.contentType(), stat.size());
+			contentType = stat.contentType().toLowerCase();
+			if (!matchesImageSignature(contentType, head)) {
+				throw new IllegalArgumentException("이미지 내용이 형식(" + contentType + ")과 맞지 않습니다.");
+			}
+		} catch (IllegalArgumentException e) {
+			compensateMinioUpload(List.of(objectKey));
+			throw e;
+		}
+
+		try {
+			minioClient.copyObject(CopyObjectArgs.builder()
+					.bucket(bucketName)
+					.object(objectName)
+					.source(CopySource.builder()
+						.bucket(bucketName)
+						.object(objectKey)
+						.build())
+					.metadataDirective(Directive.REPLACE)
+					.headers(Map.of("Content-Type", contentType))
+					.build());
+		} catch (Exception e) {
+			log.error("업로드 이미지 이동 실패: {} → {}", objectKey, objectName, e);
+			throw new RuntimeException("이미지 확인 실패: " + e.getMessage(), e);
+		}
+		compensateMinioUpload(List.of(objectKey));
+		log.info("업로드 이미지 확인 - {} → {}", objectKey, objectName);
+		return new ConfirmedImage(imageUrl, true);
+	}
+
+	/**
+	 * 발급한 업로드 키의 파일 이름 부분(uuid.ext)인지 (images/ 키를 여기서 만들므로 경로 문자는 허용하지 않음)
+	 */
+	static boolean isIssuedUploadFileName(String fileName) {
+		return UPLOAD_FILE_NAME.matcher(fileName).matches();
+	}
+
+	private boolean objectExists(String objectName) {
+		try {
+			minioClient.statObject(StatObjectArgs.builder()
+					.bucket(bucketName)
+					.object(objectName)
+					.build());
+			return true;
+		} catch (ErrorResponseException e) {
+			return false;
+		} catch (Exception e) {
+			log.error("MinIO 객체 조회 실패: {}", objectName, e);
+			throw new RuntimeException("이미지 확인 실패: " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 현재 트랜잭션이 롤백되면 목록의 객체를 삭제 (트랜잭션 밖이면 아무것도 하지 않음)
+	 * 목록은 등록 후에 채워도 됨
+	 */
+	private void deleteOnRollback(List<String> objectNames) {
+		TransactionHooks.afterRollback(() -> compensateMinioUpload(objectNames));
+	}
+
+	/**
+	 * 파일 앞부분이 content-type의 시그니처와 맞는지 (HTML/SVG 등을 이미지로 올리는 것 방지)
+	 */
+	static boolean matchesImageSignature(String contentType, byte[] head) {
+		return switch (contentType) {
+			case "image/jpeg" -> startsWith(head, 0, 0xFF, 0xD8, 0xFF);
+			case "image/png" -> startsWith(head, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A);
+			case "image/gif" -> startsWith(head, 0, 'G', 'I', 'F', '8');
+			case "image/webp" -> startsWith(head, 0, 'R', 'I', 'F', 'F') && startsWith(head, 8, 'W', 'E', 'B', 'P');
+			default -> false;
+		};
+	}
+
+	private static boolean startsWith(byte[] data, int offset, int... signature) {
+		if (data.length < offset + signature.length) {
+			return false;
+		}
+		for (int i = 0; i < signature.length; i++) {
+			if ((data[offset + i] & 0xFF) != signature[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void validateUploadableImage(String contentType, Long size) {
+		if (contentType == null || !UPLOADABLE_IMAGE_TYPES.contains(contentType.toLowerCase())) {
+			throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다: " + contentType);
+		}
+		if (size == null || size <= 0) {
+			throw new IllegalArgumentException("빈 파일은 업로드할 수 없습니다.");
+		}
+		if (size > presignedMaxSize) {
+			throw new IllegalArgumentException("파일 크기는 " + (presignedMaxSize / 1024 / 1024) + "MB를 초과할 수 없습니다.");
+		}
+	}
+
 	/**
 	 * 단일 이미지 저장 (하위 호환성을 위해 유지)
 	 * @deprecated saveImages() 사용 권장
@@ -139,22 +481,9 @@ public class MinioService {
 		User writer = userRepository.findByStudentId(studentId)
 			.orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자: " + studentId));
 
-		byte[] bytes;
-		try {
-			bytes = file.getBytes();
-		} catch (Exception e) {
-			throw new RuntimeException("파일 읽기 실패", e);
-		}
-
 		//업로드
-		try (ByteArrayInputStream is = new ByteArrayInputStream(bytes)) {
-			PutObjectArgs args = PutObjectArgs.builder()
-				.bucket(bucketName)
-				.object(objectName)
-				.stream(is, bytes.length, -1)
-				.contentType(contentType)
-				.build();
-			minioClient.putObject(args);
+		try {
+			putObject(file, objectName, contentType);
 			log.info("Saved image to MinIO: {}", objectName);
 		} catch (Exception e) {
 			log.error("MinIO 업로드 실패", e);
@@ -256,24 +585,30 @@ public class MinioService {
 		String objectName = "images/%s.%s".formatted(UUID.randomUUID(), ext);
 
 		try {
-			byte[] bytes = file.getBytes();
-			try (ByteArrayInputStream is = new ByteArrayInputStream(bytes)) {
-				PutObjectArgs args = PutObjectArgs.builder()
-						.bucket(bucketName)
-						.object(objectName)
-						.stream(is, bytes.length, -1)
-						.contentType(contentType)
-						.build();
-				minioClient.putObject(args);
-				log.debug("MinIO 업로드 성공: {}", objectName);
-				return objectName;
-			}
+			putObject(file, objectName, contentType);
+			log.debug("MinIO 업로드 성공: {}", objectName);
+			return objectName;
 		} catch (Exception e) {
 			log.error("MinIO 업로드 실패: {}", objectName, e);
 			throw new RuntimeException("MinIO 업로드 실패: " + e.getMessage(), e);
 		}
 	}
 
+	/**
+	 * 업로드 파일을 메모리에 올리지 않고 MinIO로 스트리밍
+	 * (multipart 임시 파일 → 파트 단위 전송, 크기를 알려 주므로 파트 버퍼 하나만 사용)
+	 */
+	private void putObject(MultipartFile file, String objectName, String contentType) throws Exception {
+		try (InputStream is = file.getInputStream()) {
+			minioClient.putObject(PutObjectArgs.builder()
+					.bucket(bucketName)
+					.object(objectName)
+					.stream(is, file.getSize(), partSize)
+					.contentType(contentType)
+					.build());
+		}
+	}
+
 	/**
 	 * MinIO 업로드 보상 삭제 (DB 저장 실패 시 롤백용)
 	 * @param objectNames 삭제할 objectName 리스트
@@ -286,6 +621,7 @@ public class MinioService {
 						.object(objectName)
 						.build());
 				log.warn("MinIO 보상 삭제 완료: {}", objectName);
+				eventPublisher.publishEvent(new ImageDeletedEvent(objectName));
 			} catch (Exception e) {
 				log.error("MinIO 보상 삭제 실패: {}", objectName, e);
 			}
@@ -312,15 +648,86 @@ public class MinioService {
 		};
 	}
 
+	/**
+	 * 서빙할 수 있는 이미지 형식인지 (업로드 허용 형식만, 변형은 image/jpeg)
+	 */
+	public static boolean isServableContentType(String contentType) {
+		return contentType != null && UPLOADABLE_IMAGE_TYPES.contains(contentType.toLowerCase());
+	}
+
+	/**
+	 * 이미지 서빙 허용 여부
+	 * - images/ 아래 객체 중 게시글 이미지(원본/변형) 또는 채팅 메시지가 참조하는 객체만
+	 * - uploads/(확인 전 직접 업로드)는 서빙하지 않음
+	 * @param objectName 버킷 내 objectName
+	 */
+	public boolean isServableImage(String objectName) {
+		if (objectName == null || objectName.contains("..") || !objectName.startsWith("images/")) {
+			return false;
+		}
+		String imageUrl = bucketName + "/" + objectName;
+		return postImageRepository.existsByAnyUrl(imageUrl)
+				|| chatMessageRepository.existsByImageUrl(imageUrl)
+				|| postRepository.existsByImageUrl(imageUrl);
+	}
+
+	/**
+	 * 이미지 객체 메타데이터 조회 (서빙 허용 여부는 isServableImage로 먼저 확인)
+	 * @return 없으면 empty
+	 */
+	public Optional<StatObjectResponse> statImage(String objectName) {
+		try {
+			return Optional.of(minioClient.statObject(StatObjectArgs.builder()
+					.bucket(bucketName)
+					.object(objectName)
+					.build()));
+		} catch (ErrorResponseException e) {
+			return Optional.empty();
+		} catch (Exception e) {
+			log.error("MinIO 객체 조회 실패: {}", objectName, e);
+			throw new RuntimeException("이미지 조회 실패: " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 객체 내용 스트림 (호출자가 닫아야 함)
+	 */
+	public InputStream openObject(String objectName) {
+		try {
+			return minioClient.getObject(GetObjectArgs.builder()
+					.bucket(bucketName)
+					.object(objectName)
+					.build());
+		} catch (Exception e) {
+			log.error("MinIO 객체 읽기 실패: {}", objectName, e);
+			throw new RuntimeException("이미지 읽기 실패: " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 객체 일부 구간 스트림 (호출자가 닫아야 함)
+	 */
+	public InputStream openObject(String objectName, long offset, long length) {
+		try {
+			return minioClient.getObject(GetObjectArgs.builder()
+					.bucket(bucketName)
+					.object(objectName)
+					.offset(offset)
+					.length(length)
+					.build());
+		} catch (Exception e) {
+			log.error("MinIO 객체 읽기 실패: {}", objectName, e);
+			throw new RuntimeException("이미지 읽기 실패: " + e.getMessage(), e);
+		}
+	}
+
 	/**
 	 * MinIO에서 파일 삭제
-	 * @param imageUrl 삭제할 이미지 URL (예: http://minio-url/bucket/filename.jpg)
+	 * @param imageUrl 삭제할 이미지 URL (저장 형식: bucket/images/uuid.jpg)
 	 */
 	public void deleteFile(String imageUrl) {
+		String objectName = objectNameOf(bucketName, imageUrl);
 		try {
-			// URL에서 파일명 추출 (마지막 / 이후 부분)
-			String objectName = imageUrl.substring(imageUrl.lastIndexOf('/') + 1);
-
 			minioClient.removeObject(
 				RemoveObjectArgs.builder()
 					.bucket(bucketName)
@@ -329,10 +736,36 @@ public class MinioService {
 			);
 
 			log.info("MinIO 파일 삭제 성공: {}", objectName);
+			// 서빙 캐시에 남은 사본 제거
+			eventPublisher.publishEvent(new ImageDeletedEvent(objectName));
 		} catch (Exception e) {
 			log.error("MinIO 파일 삭제 실패: {}", imageUrl, e);
 			throw new RuntimeException("파일 삭제 실패: " + e.getMessage(), e);
 		}
 	}
 
+	/**
+	 * 저장된 URL(bucket/objectName)에서 objectName 추출
+	 * 앞의 "bucket/"만 떼어내고 폴더(images/, uploads/)는 유지 (마지막 / 이후만 쓰면 다른 객체를 가리킴)
+	 */
+	static String objectNameOf(String bucketName, String imageUrl) {
+		String prefix = bucketName + "/";
+		if (imageUrl == null || !imageUrl.startsWith(prefix)) {
+			throw new IllegalArgumentException("이 버킷의 이미지 URL이 아닙니다: " + imageUrl);
+		}
+		String objectName = imageUrl.substring(prefix.length());
+		if (objectName.contains("..")
+				|| !(objectName.startsWith("images/") || objectName.startsWith("uploads/"))) {
+			throw new IllegalArgumentException("삭제할 수 없는 이미지 경로입니다: " + imageUrl);
+		}
+		return objectName;
+	}
+
+	/**
+	 * 확인된 업로드 이미지
+	 * @param imageUrl 저장용 이미지 URL (bucket/images/uuid.ext)
+	 * @param copied 이번 확인에서 uploads/ → images/로 옮겼는지 (false면 이전 확인에서 이미 옮김)
+	 */
+	public record ConfirmedImage(String imageUrl, boolean copied) {
+	}
 }
@@ -0,0 +1,68 @@
+package org.ssafy.ssafymarket.minio;
+
+import java.time.ZonedDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.minio.ListObjectsArgs;
+import io.minio.MinioClient;
+import io.minio.RemoveObjectArgs;
+import io.minio.Result;
+import io.minio.messages.Item;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 확인되지 않은 직접 업로드 정리
+ * - 확인(게시글 생성/채팅 전송)된 업로드는 images/로 옮겨지고 uploads/에서 삭제되므로,
+ *   uploads/ 아래에 minio.presigned.orphan-ttl-minutes보다 오래 남은 객체는 쓰이지 않은 업로드
+ * - minio.presigned.sweep-cron 주기로 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UploadedImageSweeper {
+
+	private static final String UPLOAD_PREFIX = "uploads/";
+
+	private final MinioClient minioClient;
+
+	@Value("${minio.bucket}")
+	private String bucketName;
+
+	@Value("${minio.presigned.orphan-ttl-minutes:1440}")
+	private long orphanTtlMinutes;
+
+	@Scheduled(cron = "${minio.presigned.sweep-cron:0 20 * * * *}")
+	public void sweep() {
+		ZonedDateTime cutoff = ZonedDateTime.now().minusMinutes(orphanTtlMinutes);
+		int removed = 0;
+		try {
+			for (Result<Item> result : minioClient.listObjects(ListObjectsArgs.builder()
+					.bucket(bucketName)
+					.prefix(UPLOAD_PREFIX)
+					.recursive(true)
+					.build())) {
+				Item item = result.get();
+				if (item.isDir() || item.lastModified() == null || item.lastModified().isAfter(cutoff)) {
+					continue;
+				}
+				minioClient.removeObject(RemoveObjectArgs.builder()
+					.bucket(bucketName)
+					.object(item.objectName())
+					.build());
+				removed++;
+			}
+		} catch (Exception e) {
+			log.error("미확인 업로드 정리 실패 - 삭제된 객체 수: {}", removed, e);
+			return;
+		}
+		if (removed > 0) {
+			log.info("미확인 업로드 정리 완료 - 삭제된 객체 수: {}", removed);
+		} else {
+			log.debug("미확인 업로드 정리 - 삭제할 객체 없음");
+		}
+	}
+}
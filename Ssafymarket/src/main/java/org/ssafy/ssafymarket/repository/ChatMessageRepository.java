@@ -9,39 +9,88 @@ import org.springframework.stereotype.Repository;
 import org.ssafy.ssafymarket.entity.ChatMessage;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
 
+    // 채팅 이미지로 전송된 URL인지 확인 (이미지 서빙 허용 여부)
+    boolean existsByImageUrl(String imageUrl);
+
     // 특정 채팅방의 메시지 조회 (최신순)
     List<ChatMessage> findByChatRoom_RoomIdOrderBySentAtDesc(Long roomId);
 
     // 특정 채팅방의 메시지 조회 (페이징)
     List<ChatMessage> findByChatRoom_RoomIdOrderBySentAtDesc(Long roomId, Pageable pageable);
 
-    // 안읽은 메시지 개수 조회
-    @Query("SELECT COUNT(m) FROM ChatMessage m " +
+    // 특정 채팅방의 최근 메시지 조회 (커서 페이징 첫 페이지, 최신순)
+    List<ChatMessage> findByChatRoom_RoomIdOrderByMessageIdDesc(Long roomId, Pageable pageable);
+
+    // 커서(messageId) 이전 메시지 조회 (위로 스크롤, 최신순)
+    @Query("SELECT m FROM ChatMessage m " +
            "WHERE m.chatRoom.roomId = :roomId " +
-           "AND m.sender.studentId != :userId " +
-           "AND m.isRead = false")
-    long countUnreadMessages(@Param("roomId") Long roomId, @Param("userId") String userId);
+           "AND m.messageId < :before " +
+           "ORDER BY m.messageId DESC")
+    List<ChatMessage> findBefore(@Param("roomId") Long roomId,
+                                 @Param("before") Long before,
+                                 Pageable pageable);
 
-    // 특정 채팅방의 안읽은 메시지를 읽음 처리
-    @Modifying
-    @Query("UPDATE ChatMessage m SET m.isRead = true, m.readAt = CURRENT_TIMESTAMP " +
+    // 커서(messageId) 이후 메시지 조회 (재연결 시 놓친 메시지 동기화, 오래된순)
+    @Query("SELECT m FROM ChatMessage m " +
+           "WHERE m.chatRoom.roomId = :roomId " +
+           "AND m.messageId > :after " +
+           "ORDER BY m.messageId ASC")
+    List<ChatMessage> findAfter(@Param("roomId") Long roomId,
+                                @Param("after") Long after,
+                                Pageable pageable);
+
+    // clientMessageId로 이미 저장된 메시지 조회 (재전송 중복 확인)
+    Optional<ChatMessage> findByChatRoom_RoomIdAndSender_StudentIdAndClientMessageId(
+            Long roomId, String senderId, String clientMessageId);
+
+    // 순번(seq) 이후 메시지 조회 (재연결 시 누락 구간만 채움, 순번순)
+    @Query("SELECT m FROM ChatMessage m " +
            "WHERE m.chatRoom.roomId = :roomId " +
+           "AND m.seq > :afterSeq " +
+           "ORDER BY m.seq ASC")
+    List<ChatMessage> findAfterSeq(@Param("roomId") Long roomId,
+                                   @Param("afterSeq") Long afterSeq,
+                                   Pageable pageable);
+
+    // 순번 도입 전 메시지에 예약된 구간의 순번 부여 (메시지 ID 순, 채팅방별 예약 구간의 앞에서부터)
+    @Modifying
+    @Query(value = "UPDATE chat_message m " +
+                   "JOIN (SELECT message_id, " +
+                   "      ROW_NUMBER() OVER (PARTITION BY room_id ORDER BY message_id) AS rn, " +
+                   "      COUNT(*) OVER (PARTITION BY room_id) AS cnt " +
+                   "      FROM chat_message WHERE seq IS NULL) t ON t.message_id = m.message_id " +
+                   "JOIN chat_room cr ON cr.room_id = m.room_id " +
+                   "SET m.seq = cr.last_seq - t.cnt + t.rn",
+           nativeQuery = true)
+    int assignSeqToLegacyMessages();
+
+    // 안읽은 메시지 개수 조회 (내 읽음 워터마크 이후의 상대방 메시지, (room_id, message_id) 인덱스 범위 조회)
+    @Query("SELECT COUNT(m) FROM ChatMessage m, ChatRoom cr " +
+           "WHERE cr.roomId = :roomId " +
+           "AND m.chatRoom.roomId = :roomId " +
            "AND m.sender.studentId != :userId " +
-           "AND m.isRead = false")
-    int markMessagesAsRead(@Param("roomId") Long roomId, @Param("userId") String userId);
+           "AND m.messageId > CASE WHEN cr.buyer.studentId = :userId " +
+           "THEN COALESCE(cr.buyerLastReadMessageId, 0) ELSE COALESCE(cr.sellerLastReadMessageId, 0) END")
+    long countUnreadMessages(@Param("roomId") Long roomId, @Param("userId") String userId);
+
+    // 채팅방의 가장 최근 메시지 ID (읽음 워터마크 위치)
+    @Query("SELECT MAX(m.messageId) FROM ChatMessage m WHERE m.chatRoom.roomId = :roomId")
+    Long findLastMessageId(@Param("roomId") Long roomId);
 
     // 특정 채팅방의 마지막 메시지 조회
     ChatMessage findTopByChatRoom_RoomIdOrderBySentAtDesc(Long roomId);
 
-    // 특정 사용자의 전체 안읽은 메시지 개수
+    // 특정 사용자의 전체 안읽은 메시지 개수 (채팅방별 읽음 워터마크 기준)
     @Query("SELECT COUNT(m) FROM ChatMessage m " +
            "JOIN m.chatRoom cr " +
            "WHERE (cr.buyer.studentId = :userId OR cr.seller.studentId = :userId) " +
            "AND m.sender.studentId != :userId " +
-           "AND m.isRead = false")
+           "AND m.messageId > CASE WHEN cr.buyer.studentId = :userId " +
+           "THEN COALESCE(cr.buyerLastReadMessageId, 0) ELSE COALESCE(cr.sellerLastReadMessageId, 0) END")
     long countTotalUnreadMessages(@Param("userId") String userId);
 }
@@ -1,11 +1,16 @@
 package org.ssafy.ssafymarket.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.ssafy.ssafymarket.dto.ChatReadWatermark;
+import org.ssafy.ssafymarket.dto.ChatRoomMembership;
 import org.ssafy.ssafymarket.entity.ChatRoom;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -43,6 +48,11 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     // 특정 게시글의 채팅방 개수
     long countByPost_PostId(Long postId);
 
+    // 게시글 목록의 채팅방 개수 일괄 조회 (postId, count)
+    @Query("SELECT cr.post.postId, COUNT(cr) FROM ChatRoom cr " +
+           "WHERE cr.post.postId IN :postIds GROUP BY cr.post.postId")
+    List<Object[]> countByPostIds(@Param("postIds") Collection<Long> postIds);
+
     // ID로 채팅방 조회 - Fetch Join으로 성능 최적화
     @Query("SELECT cr FROM ChatRoom cr " +
            "JOIN FETCH cr.post p " +
@@ -51,4 +61,127 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
            "JOIN FETCH p.writer " +
            "WHERE cr.roomId = :roomId AND cr.activity = 1")
     Optional<ChatRoom> findByIdWithFetch(@Param("roomId") Long roomId);
+
+    // 채팅방 참여자 정보 조회 (권한 확인 캐시용, 엔티티 로딩 없이 필요한 컬럼만)
+    @Query("SELECT new org.ssafy.ssafymarket.dto.ChatRoomMembership(" +
+           "cr.roomId, cr.buyer.studentId, cr.seller.studentId, p.postId, p.title, cr.activity) " +
+           "FROM ChatRoom cr JOIN cr.post p " +
+           "WHERE cr.roomId = :roomId")
+    Optional<ChatRoomMembership> findMembershipById(@Param("roomId") Long roomId);
+
+    // 사용자의 활성 채팅방과 상대방 학번 (roomId, counterpartId) - 접속 상태 일괄 조회용
+    @Query("SELECT cr.roomId, " +
+           "CASE WHEN cr.buyer.studentId = :userId THEN cr.seller.studentId ELSE cr.buyer.studentId END " +
+           "FROM ChatRoom cr " +
+           "WHERE (cr.buyer.studentId = :userId OR cr.seller.studentId = :userId) AND cr.activity = 1")
+    List<Object[]> findCounterpartsByUserId(@Param("userId") String userId);
+
+    // 메시지 전송 시 판매자 안읽은 수 증가 + 최근 메시지 갱신 (lastMessage가 null이면 기존 값 유지)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ChatRoom cr SET cr.unreadSeller = COALESCE(cr.unreadSeller, 0) + 1, " +
+           "cr.lastMessage = COALESCE(:lastMessage, cr.lastMessage), " +
+           "cr.lastMessageTime = COALESCE(:lastMessageTime, cr.lastMessageTime) " +
+           "WHERE cr.roomId = :roomId")
+    int incrementUnreadSeller(@Param("roomId") Long roomId,
+                              @Param("lastMessage") String lastMessage,
+                              @Param("lastMessageTime") LocalDateTime lastMessageTime);
+
+    // 메시지 전송 시 구매자 안읽은 수 증가 + 최근 메시지 갱신 (lastMessage가 null이면 기존 값 유지)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ChatRoom cr SET cr.unreadBuyer = COALESCE(cr.unreadBuyer, 0) + 1, " +
+           "cr.lastMessage = COALESCE(:lastMessage, cr.lastMessage), " +
+           "cr.lastMessageTime = COALESCE(:lastMessageTime, cr.lastMessageTime) " +
+           "WHERE cr.roomId = :roomId")
+    int incrementUnreadBuyer(@Param("roomId") Long roomId,
+                             @Param("lastMessage") String lastMessage,
+                             @Param("lastMessageTime") LocalDateTime lastMessageTime);
+
+    // 판매자 읽음 처리: 읽음 워터마크 전진(뒤로 가지 않음) + 안읽은 수 초기화 (메시지 수와 무관하게 한 행만 갱신)
+    // 이미 읽은 상태(안읽은 수 0, 워터마크 최신)면 0 반환
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ChatRoom cr SET cr.unreadSeller = 0, " +
+           "cr.sellerLastReadMessageId = CASE WHEN COALESCE(cr.sellerLastReadMessageId, 0) < :messageId " +
+           "THEN :messageId ELSE cr.sellerLastReadMessageId END " +
+           "WHERE cr.roomId = :roomId " +
+           "AND (COALESCE(cr.unreadSeller, 0) > 0 OR COALESCE(cr.sellerLastReadMessageId, 0) < :messageId)")
+    int markReadBySeller(@Param("roomId") Long roomId, @Param("messageId") Long messageId);
+
+    // 구매자 읽음 처리: 읽음 워터마크 전진 + 안읽은 수 초기화
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ChatRoom cr SET cr.unreadBuyer = 0, " +
+           "cr.buyerLastReadMessageId = CASE WHEN COALESCE(cr.buyerLastReadMessageId, 0) < :messageId " +
+           "THEN :messageId ELSE cr.buyerLastReadMessageId END " +
+           "WHERE cr.roomId = :roomId " +
+           "AND (COALESCE(cr.unreadBuyer, 0) > 0 OR COALESCE(cr.buyerLastReadMessageId, 0) < :messageId)")
+    int markReadByBuyer(@Param("roomId") Long roomId, @Param("messageId") Long messageId);
+
+    // 채팅방 읽음 워터마크 조회 (메시지 읽음 여부 계산용)
+    @Query("SELECT new org.ssafy.ssafymarket.dto.ChatReadWatermark(" +
+           "COALESCE(cr.buyerLastReadMessageId, 0), COALESCE(cr.sellerLastReadMessageId, 0)) " +
+           "FROM ChatRoom cr WHERE cr.roomId = :roomId")
+    Optional<ChatReadWatermark> findReadWatermark(@Param("roomId") Long roomId);
+
+    // 워터마크 도입 전 채팅방: 기존 is_read 기준으로 읽음 워터마크 초기값 채움 (시작 시 1회, 이미 채워진 방은 제외)
+    @Modifying
+    @Query(value = "UPDATE chat_room cr SET " +
+                   "cr.buyer_last_read_message_id = COALESCE(cr.buyer_last_read_message_id, " +
+                   "  (SELECT COALESCE(MAX(m.message_id), 0) FROM chat_message m " +
+                   "   WHERE m.room_id = cr.room_id AND m.sender_id <> cr.buyer_id AND m.is_read = true)), " +
+                   "cr.seller_last_read_message_id = COALESCE(cr.seller_last_read_message_id, " +
+                   "  (SELECT COALESCE(MAX(m.message_id), 0) FROM chat_message m " +
+                   "   WHERE m.room_id = cr.room_id AND m.sender_id <> cr.seller_id AND m.is_read = true)) " +
+                   "WHERE cr.buyer_last_read_message_id IS NULL OR cr.seller_last_read_message_id IS NULL",
+           nativeQuery = true)
+    int backfillReadWatermarks();
+
+    // 채팅방별 안읽은 수를 읽음 워터마크 기준으로 재계산 (원자적 증감 값 보정, room_id 구간 [fromId, toId)만 잠금)
+    @Modifying
+    @Query(value = "UPDATE chat_room cr SET " +
+                   "cr.unread_buyer = (SELECT COUNT(*) FROM chat_message m " +
+                   "  WHERE m.room_id = cr.room_id AND m.sender_id <> cr.buyer_id " +
+                   "  AND m.message_id > COALESCE(cr.buyer_last_read_message_id, 0)), " +
+                   "cr.unread_seller = (SELECT COUNT(*) FROM chat_message m " +
+                   "  WHERE m.room_id = cr.room_id AND m.sender_id <> cr.seller_id " +
+                   "  AND m.message_id > COALESCE(cr.seller_last_read_message_id, 0)) " +
+                   "WHERE cr.room_id >= :fromId AND cr.room_id < :toId",
+           nativeQuery = true)
+    int reconcileRoomUnreadCounts(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    // 가장 큰 채팅방 ID (보정 구간 끝)
+    @Query("SELECT COALESCE(MAX(cr.roomId), 0) FROM ChatRoom cr")
+    long findMaxRoomId();
+
+    // 메시지 순번 할당: last_seq를 1 증가시키고 같은 커넥션의 LAST_INSERT_ID()로 새 값을 읽음 (채팅방 행 잠금)
+    // 비활성 채팅방은 갱신하지 않음 (0 반환, 다른 서버의 참여자 캐시가 오래되어도 전송 거부)
+    @Modifying
+    @Query(value = "UPDATE chat_room SET last_seq = LAST_INSERT_ID(COALESCE(last_seq, 0) + 1) " +
+                   "WHERE room_id = :roomId AND activity = 1",
+           nativeQuery = true)
+    int incrementLastSeq(@Param("roomId") Long roomId);
+
+    @Query(value = "SELECT LAST_INSERT_ID()", nativeQuery = true)
+    long findLastInsertId();
+
+    // 채팅방 마지막 메시지 순번
+    @Query("SELECT COALESCE(cr.lastSeq, 0) FROM ChatRoom cr WHERE cr.roomId = :roomId")
+    Optional<Long> findLastSeq(@Param("roomId") Long roomId);
+
+    // 순번 도입 전 메시지가 남은 채팅방: 해당 메시지 수만큼 last_seq 구간을 먼저 예약 (행 잠금으로 동시 전송과 겹치지 않게 함)
+    @Modifying
+    @Query(value = "UPDATE chat_room cr " +
+                   "JOIN (SELECT room_id, COUNT(*) AS cnt FROM chat_message WHERE seq IS NULL GROUP BY room_id) t " +
+                   "ON t.room_id = cr.room_id " +
+                   "SET cr.last_seq = COALESCE(cr.last_seq, 0) + t.cnt",
+           nativeQuery = true)
+    int reserveSeqForLegacyMessages();
+
+    // 읽음 처리 전 구매자 안읽은 수 조회 (행 잠금, 초기화와 전체 수 차감 사이에 증가분이 끼어들지 않게 함)
+    @Query(value = "SELECT COALESCE(unread_buyer, 0) FROM chat_room WHERE room_id = :roomId FOR UPDATE",
+           nativeQuery = true)
+    int findUnreadBuyerForUpdate(@Param("roomId") Long roomId);
+
+    // 읽음 처리 전 판매자 안읽은 수 조회 (행 잠금)
+    @Query(value = "SELECT COALESCE(unread_seller, 0) FROM chat_room WHERE room_id = :roomId FOR UPDATE",
+           nativeQuery = true)
+    int findUnreadSellerForUpdate(@Param("roomId") Long roomId);
 }
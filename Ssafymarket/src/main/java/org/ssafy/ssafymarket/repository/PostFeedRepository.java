@@ -0,0 +1,127 @@
+package org.ssafy.ssafymarket.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import org.ssafy.ssafymarket.dto.PostCursor;
+import org.ssafy.ssafymarket.dto.PostSort;
+import org.ssafy.ssafymarket.entity.Post;
+import org.ssafy.ssafymarket.entity.User;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 목록 keyset(커서) 페이징 조회
+ * - OFFSET 없이 "마지막 게시글 다음"부터 조회하므로 깊은 페이지도 비용이 일정
+ * - 필터(캠퍼스/카테고리/키워드/판매상태) 조합이 많아 JPQL을 동적으로 구성
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostFeedRepository {
+
+	private final EntityManager entityManager;
+
+	/**
+	 * 목록 필터 (null인 조건은 적용하지 않음)
+	 * @param keyword LIKE 검색 키워드 (검색 엔진이 like일 때만 사용)
+	 */
+	public record Filter(
+		User.Campus campus,
+		String category,
+		String keyword,
+		Post.PostStatus status
+	) {
+	}
+
+	/**
+	 * 커서 다음 게시글 조회
+	 * @param after 이전 페이지 마지막 위치 (첫 페이지면 null)
+	 * @param limit 최대 조회 개수
+	 */
+	public List<Post> scroll(Filter filter, PostSort sort, PostCursor after, int limit) {
+		StringBuilder jpql = new StringBuilder("SELECT p FROM Post p WHERE 1 = 1");
+		Map<String, Object> params = new HashMap<>();
+
+		appendFilter(jpql, params, filter);
+		if (after != null) {
+			appendKeyset(jpql, params, sort, after);
+		}
+		jpql.append(orderBy(sort));
+
+		TypedQuery<Post> query = entityManager.createQuery(jpql.toString(), Post.class);
+		params.forEach(query::setParameter);
+		return query.setMaxResults(limit).getResultList();
+	}
+
+	/**
+	 * 필터에 해당하는 전체 게시글 수 (요청 시에만 사용)
+	 */
+	public long count(Filter filter) {
+		StringBuilder jpql = new StringBuilder("SELECT COUNT(p) FROM Post p WHERE 1 = 1");
+		Map<String, Object> params = new HashMap<>();
+
+		appendFilter(jpql, params, filter);
+
+		TypedQuery<Long> query = entityManager.createQuery(jpql.toString(), Long.class);
+		params.forEach(query::setParameter);
+		return query.getSingleResult();
+	}
+
+	private void appendFilter(StringBuilder jpql, Map<String, Object> params, Filter filter) {
+		if (filter.campus() != null) {
+			jpql.append(" AND p.writer.campus = :campus");
+			params.put("campus", filter.campus());
+		}
+		if (filter.category() != null) {
+			jpql.append(" AND p.category = :category");
+			params.put("category", filter.category());
+		}
+		if (filter.keyword() != null) {
+			jpql.append(" AND (LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%'))" +
+				" OR LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%')))");
+			params.put("keyword", filter.keyword());
+		}
+		if (filter.status() != null) {
+			jpql.append(" AND p.status = :status");
+			params.put("status", filter.status());
+		}
+	}
+
+	/**
+	 * (정렬값, createdAt, postId)가 커서보다 뒤에 있는 행만 조회
+	 */
+	private void appendKeyset(StringBuilder jpql, Map<String, Object> params, PostSort sort, PostCursor after) {
+		String op = sort.isDescending() ? "<" : ">";
+		String tail = "(p.createdAt " + op + " :cursorCreatedAt" +
+			" OR (p.createdAt = :cursorCreatedAt AND p.postId " + op + " :cursorPostId))";
+		params.put("cursorCreatedAt", after.createdAt());
+		params.put("cursorPostId", after.postId());
+
+		String column = sortColumn(sort);
+		if (column == null) {
+			jpql.append(" AND ").append(tail);
+			return;
+		}
+		jpql.append(" AND (").append(column).append(" ").append(op).append(" :cursorValue")
+			.append(" OR (").append(column).append(" = :cursorValue AND ").append(tail).append("))");
+		params.put("cursorValue", after.sortValue());
+	}
+
+	private String orderBy(PostSort sort) {
+		String direction = sort.isDescending() ? " DESC" : " ASC";
+		String column = sortColumn(sort);
+		return " ORDER BY " + (column == null ? "" : column + direction + ", ") +
+			"p.createdAt" + direction + ", p.postId" + direction;
+	}
+
+	private String sortColumn(PostSort sort) {
+		return switch (sort) {
+			case POPULAR -> "p.likeCount";
+			case LOW_PRICE, HIGH_PRICE -> "p.price";
+			case LATEST -> null;
+		};
+	}
+}
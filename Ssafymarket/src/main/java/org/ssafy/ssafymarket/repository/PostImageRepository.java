@@ -1,9 +1,14 @@
 package org.ssafy.ssafymarket.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.ssafy.ssafymarket.entity.PostImage;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -31,4 +36,39 @@ public interface PostImageRepository extends JpaRepository<PostImage, Long> {
      * @param postId 게시글 ID
      */
     void deleteByPost_PostId(Long postId);
+
+    /**
+     * 여러 게시글의 이미지 URL 일괄 조회 (목록 화면용)
+     * @param postIds 게시글 ID 목록
+     * @return (postId, imageUrl, thumbUrl) 행 목록 (게시글별 imageOrder 순서대로 정렬)
+     */
+    @Query("SELECT pi.post.postId, pi.imageUrl, pi.thumbUrl FROM PostImage pi " +
+           "WHERE pi.post.postId IN :postIds " +
+           "ORDER BY pi.post.postId, pi.imageOrder ASC")
+    List<Object[]> findImageUrlsByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 원본 또는 축소 변형 URL로 게시글에 연결된 이미지인지 확인 (이미지 서빙 허용 여부)
+     */
+    @Query("SELECT COUNT(pi) > 0 FROM PostImage pi " +
+           "WHERE pi.imageUrl = :url OR pi.thumbUrl = :url OR pi.mediumUrl = :url")
+    boolean existsByAnyUrl(@Param("url") String url);
+
+    /**
+     * 축소 변형이 없는 이미지 (imageId 순 keyset, 변형 생성 백필용)
+     * @return (imageId, imageUrl) 행 목록
+     */
+    @Query("SELECT pi.imageId, pi.imageUrl FROM PostImage pi " +
+           "WHERE pi.thumbUrl IS NULL AND pi.imageId > :afterId " +
+           "ORDER BY pi.imageId")
+    List<Object[]> findMissingVariantsAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    /**
+     * 축소 변형 이미지 URL 기록 (이미지가 이미 삭제됐으면 0 반환)
+     */
+    @Modifying
+    @Query("UPDATE PostImage pi SET pi.thumbUrl = :thumbUrl, pi.mediumUrl = :mediumUrl WHERE pi.imageId = :imageId")
+    int updateVariantUrls(@Param("imageId") Long imageId,
+                          @Param("thumbUrl") String thumbUrl,
+                          @Param("mediumUrl") String mediumUrl);
 }
@@ -3,11 +3,13 @@ package org.ssafy.ssafymarket.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.ssafy.ssafymarket.entity.Post;
 import org.ssafy.ssafymarket.entity.User;
+import org.ssafy.ssafymarket.search.PostSearchDocument;
 
 import java.util.List;
 
@@ -17,6 +19,9 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     List<Post> findByStatus(Post.PostStatus status);
     List<Post> findByBuyer(User buyer);
 
+    // 단일 이미지 시절 게시글의 이미지 URL인지 확인 (이미지 서빙 허용 여부)
+    boolean existsByImageUrl(String imageUrl);
+
     Page<Post> findByStatus(Post.PostStatus status, Pageable pageable);
 
     @Query("SELECT p FROM Post p WHERE p.category = :category")
@@ -25,38 +30,30 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("SELECT p FROM Post p WHERE p.writer.studentId = :studentId ORDER BY p.createdAt DESC")
     List<Post> findByWriterStudentIdOrderByCreatedAtDesc(@Param("studentId") String studentId);
 
-    // 인기순 정렬 (좋아요 수 기준)
+    // 인기순 정렬 (좋아요 수 기준, idx_post_like_created 인덱스 사용)
     @Query("SELECT p FROM Post p " +
-           "LEFT JOIN PostLike pl ON pl.postId = p.postId " +
-           "GROUP BY p.postId " +
-           "ORDER BY COUNT(pl) DESC, p.createdAt DESC")
+           "ORDER BY p.likeCount DESC, p.createdAt DESC")
     Page<Post> findAllByPopularity(Pageable pageable);
 
     // 카테고리별 인기순 정렬
     @Query("SELECT p FROM Post p " +
-           "LEFT JOIN PostLike pl ON pl.postId = p.postId " +
            "WHERE p.category = :category " +
-           "GROUP BY p.postId " +
-           "ORDER BY COUNT(pl) DESC, p.createdAt DESC")
+           "ORDER BY p.likeCount DESC, p.createdAt DESC")
     Page<Post> findByCategoryByPopularity(@Param("category") String category, Pageable pageable);
 
     // 검색 인기순 정렬
     @Query("SELECT p FROM Post p " +
-           "LEFT JOIN PostLike pl ON pl.postId = p.postId " +
            "WHERE LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
            "LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-           "GROUP BY p.postId " +
-           "ORDER BY COUNT(pl) DESC, p.createdAt DESC")
+           "ORDER BY p.likeCount DESC, p.createdAt DESC")
     Page<Post> searchByKeywordByPopularity(@Param("keyword") String keyword, Pageable pageable);
 
     // 검색 + 상태별 인기순 정렬
     @Query("SELECT p FROM Post p " +
-           "LEFT JOIN PostLike pl ON pl.postId = p.postId " +
            "WHERE (LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
            "LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
            "p.status = :status " +
-           "GROUP BY p.postId " +
-           "ORDER BY COUNT(pl) DESC, p.createdAt DESC")
+           "ORDER BY p.likeCount DESC, p.createdAt DESC")
     Page<Post> searchByKeywordAndStatusByPopularity(@Param("keyword") String keyword,
                                                      @Param("status") Post.PostStatus status,
                                                      Pageable pageable);
@@ -84,10 +81,8 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     // 캠퍼스별 인기순 정렬
     @Query("SELECT p FROM Post p " +
-           "LEFT JOIN PostLike pl ON pl.postId = p.postId " +
            "WHERE p.writer.campus = :campus " +
-           "GROUP BY p.postId " +
-           "ORDER BY COUNT(pl) DESC, p.createdAt DESC")
+           "ORDER BY p.likeCount DESC, p.createdAt DESC")
     Page<Post> findByCampusByPopularity(@Param("campus") User.Campus campus, Pageable pageable);
 
     // 캠퍼스 + 카테고리별 조회
@@ -98,10 +93,8 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     // 캠퍼스 + 카테고리별 인기순
     @Query("SELECT p FROM Post p " +
-           "LEFT JOIN PostLike pl ON pl.postId = p.postId " +
            "WHERE p.writer.campus = :campus AND p.category = :category " +
-           "GROUP BY p.postId " +
-           "ORDER BY COUNT(pl) DESC, p.createdAt DESC")
+           "ORDER BY p.likeCount DESC, p.createdAt DESC")
     Page<Post> findByCampusAndCategoryByPopularity(@Param("campus") User.Campus campus,
                                                      @Param("category") String category,
                                                      Pageable pageable);
@@ -117,12 +110,10 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     // 캠퍼스 + 검색 인기순
     @Query("SELECT p FROM Post p " +
-           "LEFT JOIN PostLike pl ON pl.postId = p.postId " +
            "WHERE p.writer.campus = :campus AND " +
            "(LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
            "LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
-           "GROUP BY p.postId " +
-           "ORDER BY COUNT(pl) DESC, p.createdAt DESC")
+           "ORDER BY p.likeCount DESC, p.createdAt DESC")
     Page<Post> searchByCampusAndKeywordByPopularity(@Param("campus") User.Campus campus,
                                                      @Param("keyword") String keyword,
                                                      Pageable pageable);
@@ -140,15 +131,46 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     // 캠퍼스 + 검색 + 상태별 인기순
     @Query("SELECT p FROM Post p " +
-           "LEFT JOIN PostLike pl ON pl.postId = p.postId " +
            "WHERE p.writer.campus = :campus AND " +
            "(LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
            "LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
            "p.status = :status " +
-           "GROUP BY p.postId " +
-           "ORDER BY COUNT(pl) DESC, p.createdAt DESC")
+           "ORDER BY p.likeCount DESC, p.createdAt DESC")
     Page<Post> searchByCampusAndKeywordAndStatusByPopularity(@Param("campus") User.Campus campus,
                                                               @Param("keyword") String keyword,
                                                               @Param("status") Post.PostStatus status,
                                                               Pageable pageable);
+
+    // === 좋아요 수 (비정규화 컬럼) ===
+
+    // 좋아요 수 원자적 증가
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Post p SET p.likeCount = COALESCE(p.likeCount, 0) + 1 WHERE p.postId = :postId")
+    int incrementLikeCount(@Param("postId") Long postId);
+
+    // 좋아요 수 원자적 감소 (0 미만으로 내려가지 않음)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount - 1 WHERE p.postId = :postId AND p.likeCount > 0")
+    int decrementLikeCount(@Param("postId") Long postId);
+
+    @Query("SELECT COALESCE(p.likeCount, 0) FROM Post p WHERE p.postId = :postId")
+    Integer findLikeCountByPostId(@Param("postId") Long postId);
+
+    // post_like 기준으로 어긋난 like_count 보정, 보정된 행 수 반환
+    @Modifying
+    @Query(value = "UPDATE post p " +
+                   "LEFT JOIN (SELECT post_id, COUNT(*) AS cnt FROM post_like GROUP BY post_id) pl " +
+                   "ON pl.post_id = p.post_id " +
+                   "SET p.like_count = COALESCE(pl.cnt, 0) " +
+                   "WHERE p.like_count IS NULL OR p.like_count <> COALESCE(pl.cnt, 0)",
+           nativeQuery = true)
+    int reconcileLikeCounts();
+
+    // === 검색 색인 재구성 ===
+
+    // postId 이후 게시글의 색인용 스냅샷 (postId 순 keyset, 작성자 캠퍼스까지 한 번에 조회, 엔티티를 영속성 컨텍스트에 올리지 않음)
+    @Query("SELECT new org.ssafy.ssafymarket.search.PostSearchDocument(" +
+           "p.postId, p.title, p.description, w.campus, p.status, p.price, p.likeCount, p.createdAt) " +
+           "FROM Post p LEFT JOIN p.writer w WHERE p.postId > :afterId ORDER BY p.postId")
+    List<PostSearchDocument> findSearchDocumentsAfter(@Param("afterId") long afterId, Pageable pageable);
 }
@@ -0,0 +1,46 @@
+package org.ssafy.ssafymarket.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.ssafy.ssafymarket.entity.UserUnreadCount;
+
+import java.util.Optional;
+
+@Repository
+public interface UserUnreadCountRepository extends JpaRepository<UserUnreadCount, String> {
+
+    // 전체 안읽은 메시지 수 조회 (PK 조회)
+    @Query("SELECT u.unreadCount FROM UserUnreadCount u WHERE u.studentId = :studentId")
+    Optional<Integer> findUnreadCount(@Param("studentId") String studentId);
+
+    // 안읽은 메시지 수 1 증가 (행이 없으면 생성)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO user_unread_count (student_id, unread_count) VALUES (:studentId, 1) " +
+                   "ON DUPLICATE KEY UPDATE unread_count = unread_count + 1",
+           nativeQuery = true)
+    int increment(@Param("studentId") String studentId);
+
+    // 읽음 처리한 만큼 감소 (0 미만 방지)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE user_unread_count SET unread_count = GREATEST(unread_count - :amount, 0) " +
+                   "WHERE student_id = :studentId",
+           nativeQuery = true)
+    int decrement(@Param("studentId") String studentId, @Param("amount") int amount);
+
+    // room_id 구간 [fromId, toId) 채팅방 참여자의 전체 안읽은 수를 chat_room 합계로 보정, 변경된 행 수 반환
+    // (MySQL 기준 갱신 행은 2로 집계)
+    @Modifying
+    @Query(value = "INSERT INTO user_unread_count (student_id, unread_count) " +
+                   "SELECT p.student_id, " +
+                   "  COALESCE((SELECT SUM(COALESCE(b.unread_buyer, 0)) FROM chat_room b WHERE b.buyer_id = p.student_id), 0) + " +
+                   "  COALESCE((SELECT SUM(COALESCE(s.unread_seller, 0)) FROM chat_room s WHERE s.seller_id = p.student_id), 0) " +
+                   "FROM (SELECT buyer_id AS student_id FROM chat_room WHERE room_id >= :fromId AND room_id < :toId " +
+                   "  UNION " +
+                   "  SELECT seller_id FROM chat_room WHERE room_id >= :fromId AND room_id < :toId) p " +
+                   "ON DUPLICATE KEY UPDATE unread_count = VALUES(unread_count)",
+           nativeQuery = true)
+    int reconcileUnreadCounts(@Param("fromId") long fromId, @Param("toId") long toId);
+}
@@ -0,0 +1,66 @@
+package org.ssafy.ssafymarket.search;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.ssafy.ssafymarket.entity.Post;
+import org.ssafy.ssafymarket.repository.PostRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 색인에서 게시글 ID만 찾고, 최종 페이지만 DB에서 조회하는 검색 엔진 공통 부분
+ */
+abstract class IdBasedPostSearchEngine implements PostSearchEngine {
+
+	protected final PostRepository postRepository;
+
+	protected IdBasedPostSearchEngine(PostRepository postRepository) {
+		this.postRepository = postRepository;
+	}
+
+	/**
+	 * 검색된 ID 순서대로 게시글 엔티티 조회
+	 * - 색인 반영 전 삭제된 게시글은 결과에서 제외
+	 */
+	protected Page<Post> hydrate(List<Long> postIds, long total, PostSearchQuery query) {
+		return new PageImpl<>(load(postIds), PageRequest.of(query.page(), query.size(), query.sorting()), total);
+	}
+
+	/**
+	 * 색인 재구성용 게시글 스냅샷을 postId 순 배치로 전달
+	 * - keyset(postId > 마지막 ID) 조회라 배치 사이에 글이 추가/삭제되어도 건너뛰거나 중복되지 않음
+	 * - 호출 측은 트랜잭션 밖에서 호출 (배치 조회마다 짧은 읽기 트랜잭션, 엔티티를 쌓지 않음)
+	 * @return 전달한 문서 수
+	 */
+	protected int forEachDocumentBatch(int batchSize, Consumer<List<PostSearchDocument>> consumer) {
+		int count = 0;
+		long lastPostId = 0L;
+		List<PostSearchDocument> batch;
+		do {
+			batch = postRepository.findSearchDocumentsAfter(lastPostId, PageRequest.of(0, batchSize));
+			if (batch.isEmpty()) {
+				break;
+			}
+			consumer.accept(batch);
+			count += batch.size();
+			lastPostId = batch.get(batch.size() - 1).postId();
+		} while (batch.size() == batchSize);
+		return count;
+	}
+
+	protected List<Post> load(List<Long> postIds) {
+		Map<Long, Post> postsById = postRepository.findAllById(postIds).stream()
+			.collect(Collectors.toMap(Post::getPostId, Function.identity()));
+
+		return postIds.stream()
+			.map(postsById::get)
+			.filter(Objects::nonNull)
+			.toList();
+	}
+}
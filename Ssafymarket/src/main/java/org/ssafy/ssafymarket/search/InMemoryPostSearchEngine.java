@@ -0,0 +1,528 @@
+package org.ssafy.ssafymarket.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.ssafy.ssafymarket.dto.PostCursor;
+import org.ssafy.ssafymarket.dto.PostSort;
+import org.ssafy.ssafymarket.entity.Post;
+import org.ssafy.ssafymarket.entity.User;
+import org.ssafy.ssafymarket.repository.PostRepository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 역색인 기반 검색 (MySQL/외부 검색엔진 없이 동작)
+ * - 게시글마다 내부 문서 번호(doc)를 부여하고, 글자 n-gram → 정렬된 int[] 포스팅으로 색인
+ *   (gram 대부분은 소수 문서에만 나오므로 문서 수에 비례하는 비트맵 대신 해당 doc만 보관)
+ * - 삭제된 게시글의 doc 번호는 재사용해 배열이 삭제 건수만큼 계속 커지지 않음
+ * - 정렬 키(작성일, 가격, 좋아요 수)와 캠퍼스/판매상태는 doc 기준 배열에 보관
+ * - 결과는 int 힙으로 필요한 개수만 골라 정렬하고, 최종 페이지의 게시글 ID만 DB에서 조회
+ * - 색인이 서버마다 따로 있으므로 단일 서버 전용 (chat.broker.mode=relay와 함께 사용할 수 없음)
+ */
+@Slf4j
+@Component
+@Transactional(readOnly = true)
+@ConditionalOnProperty(name = "post.search.engine", havingValue = "memory")
+public class InMemoryPostSearchEngine extends IdBasedPostSearchEngine {
+
+	private static final int REBUILD_BATCH_SIZE = 500;
+	private static final char FIELD_SEPARATOR = '\u0000';
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private final Map<Long, Integer> docByPostId = new HashMap<>();
+	private final Map<String, Posting> postings = new HashMap<>();
+
+	private long[] postIds = new long[1024];
+	private long[] createdAts = new long[1024];
+	private int[] prices = new int[1024];
+	private int[] likeCounts = new int[1024];
+	private User.Campus[] campuses = new User.Campus[1024];
+	private Post.PostStatus[] statuses = new Post.PostStatus[1024];
+	// null이면 빈 doc (삭제되었거나 아직 사용하지 않음)
+	private String[] texts = new String[1024];
+	private int nextDoc = 0;
+
+	// 삭제로 비워진 doc 번호 (스택)
+	private int[] freeDocs = new int[64];
+	private int freeCount = 0;
+
+	// 재구성 중에만 사용: 커밋 후 반영(index/remove)된 게시글, 좋아요 수가 갱신된 게시글 (쓰기 잠금으로 보호)
+	private Set<Long> touchedDuringRebuild;
+	private Map<Long, Integer> likeCountsDuringRebuild;
+
+	public InMemoryPostSearchEngine(PostRepository postRepository,
+		@Value("${chat.broker.mode:simple}") String brokerMode) {
+		super(postRepository);
+		if ("relay".equalsIgnoreCase(brokerMode)) {
+			throw new IllegalStateException(
+				"post.search.engine=memory는 단일 서버 전용입니다 (chat.broker.mode=relay와 함께 사용할 수 없음)");
+		}
+	}
+
+	/* ===================== 색인 ===================== */
+
+	/**
+	 * 시작 시 DB에서 색인 구성
+	 * - 트랜잭션 밖에서 postId 순 keyset 배치로 조회 (배치마다 짧은 읽기 트랜잭션)
+	 * - 재구성 중 커밋 후 반영(index/remove)된 게시글은 배치의 이전 스냅샷으로 덮어쓰지 않음
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void rebuild() {
+		long started = System.currentTimeMillis();
+		lock.writeLock().lock();
+		try {
+			touchedDuringRebuild = new HashSet<>();
+			likeCountsDuringRebuild = new HashMap<>();
+		} finally {
+			lock.writeLock().unlock();
+		}
+
+		int count;
+		try {
+			count = forEachDocumentBatch(REBUILD_BATCH_SIZE, batch -> {
+				lock.writeLock().lock();
+				try {
+					for (PostSearchDocument document : batch) {
+						if (touchedDuringRebuild.contains(document.postId())) {
+							continue;
+						}
+						Integer likeCount = likeCountsDuringRebuild.get(document.postId());
+						put(likeCount == null ? document : withLikeCount(document, likeCount));
+					}
+				} finally {
+					lock.writeLock().unlock();
+				}
+			});
+		} finally {
+			lock.writeLock().lock();
+			try {
+				touchedDuringRebuild = null;
+				likeCountsDuringRebuild = null;
+			} finally {
+				lock.writeLock().unlock();
+			}
+		}
+
+		log.info("메모리 검색 색인 구성 완료 - 조회 문서 수: {}, 색인 문서 수: {}, gram 수: {}, {}ms",
+			count, docByPostId.size(), postings.size(), System.currentTimeMillis() - started);
+	}
+
+	private static PostSearchDocument withLikeCount(PostSearchDocument document, int likeCount) {
+		return new PostSearchDocument(document.postId(), document.title(), document.description(),
+			document.campus(), document.status(), document.price(), likeCount, document.createdAt());
+	}
+
+	@Override
+	public void index(PostSearchDocument document) {
+		lock.writeLock().lock();
+		try {
+			markTouched(document.postId());
+			put(document);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 문서 추가/교체 (쓰기 잠금 안에서 호출)
+	 */
+	private void put(PostSearchDocument document) {
+		String title = KoreanNGramTokenizer.normalize(document.title());
+		String description = KoreanNGramTokenizer.normalize(document.description());
+
+		Integer existing = docByPostId.get(document.postId());
+		int doc;
+		if (existing != null) {
+			doc = existing;
+			unindex(doc);
+		} else {
+			doc = allocateDoc();
+			docByPostId.put(document.postId(), doc);
+		}
+
+		postIds[doc] = document.postId();
+		createdAts[doc] = toEpochMilli(document.createdAt());
+		prices[doc] = document.price() == null ? 0 : document.price();
+		likeCounts[doc] = document.likeCount() == null ? 0 : document.likeCount();
+		campuses[doc] = document.campus();
+		statuses[doc] = document.status();
+		texts[doc] = title + FIELD_SEPARATOR + description;
+
+		addGrams(doc, title);
+		addGrams(doc, description);
+	}
+
+	@Override
+	public void remove(Long postId) {
+		lock.writeLock().lock();
+		try {
+			markTouched(postId);
+			Integer doc = docByPostId.remove(postId);
+			if (doc != null) {
+				unindex(doc);
+				texts[doc] = null;
+				campuses[doc] = null;
+				statuses[doc] = null;
+				releaseDoc(doc);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public void updateLikeCount(Long postId, int likeCount) {
+		lock.writeLock().lock();
+		try {
+			if (likeCountsDuringRebuild != null) {
+				likeCountsDuringRebuild.put(postId, likeCount);
+			}
+			Integer doc = docByPostId.get(postId);
+			if (doc != null) {
+				likeCounts[doc] = likeCount;
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 재구성 중 커밋 후 반영된 게시글 기록 (쓰기 잠금 안에서 호출)
+	 */
+	private void markTouched(Long postId) {
+		if (touchedDuringRebuild != null) {
+			touchedDuringRebuild.add(postId);
+		}
+	}
+
+	private void addGrams(int doc, String normalized) {
+		for (String gram : KoreanNGramTokenizer.indexGrams(normalized)) {
+			postings.computeIfAbsent(gram, g -> new Posting()).add(doc);
+		}
+	}
+
+	/**
+	 * doc의 기존 포스팅 제거 (저장된 텍스트로 gram 재계산)
+	 */
+	private void unindex(int doc) {
+		String text = texts[doc];
+		if (text == null) {
+			return;
+		}
+		int separator = text.indexOf(FIELD_SEPARATOR);
+		removeGrams(doc, text.substring(0, separator));
+		removeGrams(doc, text.substring(separator + 1));
+	}
+
+	private void removeGrams(int doc, String normalized) {
+		for (String gram : KoreanNGramTokenizer.indexGrams(normalized)) {
+			Posting posting = postings.get(gram);
+			if (posting != null) {
+				posting.remove(doc);
+				if (posting.size == 0) {
+					postings.remove(gram);
+				}
+			}
+		}
+	}
+
+	private int allocateDoc() {
+		if (freeCount > 0) {
+			return freeDocs[--freeCount];
+		}
+		int doc = nextDoc++;
+		ensureCapacity(doc);
+		return doc;
+	}
+
+	private void releaseDoc(int doc) {
+		if (freeCount == freeDocs.length) {
+			freeDocs = Arrays.copyOf(freeDocs, freeCount * 2);
+		}
+		freeDocs[freeCount++] = doc;
+	}
+
+	private void ensureCapacity(int doc) {
+		if (doc < postIds.length) {
+			return;
+		}
+		int newLength = Math.max(doc + 1, postIds.length * 2);
+		postIds = Arrays.copyOf(postIds, newLength);
+		createdAts = Arrays.copyOf(createdAts, newLength);
+		prices = Arrays.copyOf(prices, newLength);
+		likeCounts = Arrays.copyOf(likeCounts, newLength);
+		campuses = Arrays.copyOf(campuses, newLength);
+		statuses = Arrays.copyOf(statuses, newLength);
+		texts = Arrays.copyOf(texts, newLength);
+	}
+
+	/* ===================== 검색 ===================== */
+
+	@Override
+	public Page<Post> search(PostSearchQuery query) {
+		List<Long> pageIds;
+		int total;
+
+		lock.readLock().lock();
+		try {
+			int[] matches = matches(query);
+			total = matches.length;
+			int from = query.page() * query.size();
+			if (from >= total) {
+				return hydrate(List.of(), total, query);
+			}
+
+			int[] docs = topDocs(matches, matches.length, query.postSort(), from + query.size());
+			pageIds = new ArrayList<>(docs.length - from);
+			for (int k = from; k < docs.length; k++) {
+				pageIds.add(postIds[docs[k]]);
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		return hydrate(pageIds, total, query);
+	}
+
+	@Override
+	public List<Post> scroll(PostSearchQuery query, PostCursor after) {
+		List<Long> pageIds = new ArrayList<>(query.size());
+
+		lock.readLock().lock();
+		try {
+			PostSort sort = query.postSort();
+			int[] matches = matches(query);
+			int count = matches.length;
+			if (after != null) {
+				// 커서 위치 이전(이미 내려준) 문서 제외
+				int kept = 0;
+				for (int i = 0; i < count; i++) {
+					if (compareToCursor(matches[i], sort, after) > 0) {
+						matches[kept++] = matches[i];
+					}
+				}
+				count = kept;
+			}
+
+			for (int doc : topDocs(matches, count, sort, query.size())) {
+				pageIds.add(postIds[doc]);
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		return load(pageIds);
+	}
+
+	/**
+	 * 키워드/캠퍼스/판매상태를 모두 만족하는 문서 (읽기 잠금 안에서 호출)
+	 */
+	private int[] matches(PostSearchQuery query) {
+		String keyword = KoreanNGramTokenizer.normalize(query.keyword()).trim();
+		Set<String> grams = KoreanNGramTokenizer.queryGrams(keyword);
+		if (grams.isEmpty()) {
+			return new int[0];
+		}
+
+		Posting[] lists = new Posting[grams.size()];
+		int n = 0;
+		for (String gram : grams) {
+			Posting posting = postings.get(gram);
+			if (posting == null) {
+				return new int[0];
+			}
+			lists[n++] = posting;
+		}
+		// 가장 짧은 포스팅을 후보로 두고 나머지는 이진 탐색으로 교집합
+		Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+
+		Posting smallest = lists[0];
+		int[] matches = new int[smallest.size];
+		int count = 0;
+		candidates:
+		for (int i = 0; i < smallest.size; i++) {
+			int doc = smallest.docs[i];
+			for (int l = 1; l < lists.length; l++) {
+				if (!lists[l].contains(doc)) {
+					continue candidates;
+				}
+			}
+			if (query.campus() != null && campuses[doc] != query.campus()) {
+				continue;
+			}
+			if (query.status() != null && statuses[doc] != query.status()) {
+				continue;
+			}
+			// n-gram 교집합은 후보일 뿐이므로 부분 문자열로 최종 확인 (LIKE와 같은 결과)
+			// 제목/설명 구분자(NUL)는 키워드에 나올 수 없으므로 제목/설명 경계를 넘는 일치는 없음
+			if (!texts[doc].contains(keyword)) {
+				continue;
+			}
+			matches[count++] = doc;
+		}
+		return count == matches.length ? matches : Arrays.copyOf(matches, count);
+	}
+
+	/**
+	 * 정렬 순서상 앞에서부터 limit개 문서 (박싱 없이 int 힙으로 선택 후 힙 정렬)
+	 * @param docs 후보 문서 (앞 count개만 사용)
+	 */
+	private int[] topDocs(int[] docs, int count, PostSort sort, int limit) {
+		int k = Math.min(limit, count);
+		// 루트가 유지 중인 문서 중 정렬상 가장 뒤인 최대 힙
+		int[] heap = new int[k];
+		int size = 0;
+		for (int i = 0; i < count && k > 0; i++) {
+			int doc = docs[i];
+			if (size < k) {
+				heap[size] = doc;
+				siftUp(heap, size++, sort);
+			} else if (compare(doc, heap[0], sort) < 0) {
+				heap[0] = doc;
+				siftDown(heap, 0, size, sort);
+			}
+		}
+		for (int end = size - 1; end > 0; end--) {
+			int last = heap[end];
+			heap[end] = heap[0];
+			heap[0] = last;
+			siftDown(heap, 0, end, sort);
+		}
+		return heap;
+	}
+
+	private void siftUp(int[] heap, int index, PostSort sort) {
+		int doc = heap[index];
+		while (index > 0) {
+			int parent = (index - 1) >>> 1;
+			if (compare(doc, heap[parent], sort) <= 0) {
+				break;
+			}
+			heap[index] = heap[parent];
+			index = parent;
+		}
+		heap[index] = doc;
+	}
+
+	private void siftDown(int[] heap, int index, int size, PostSort sort) {
+		int doc = heap[index];
+		int half = size >>> 1;
+		while (index < half) {
+			int child = 2 * index + 1;
+			if (child + 1 < size && compare(heap[child + 1], heap[child], sort) > 0) {
+				child++;
+			}
+			if (compare(doc, heap[child], sort) >= 0) {
+				break;
+			}
+			heap[index] = heap[child];
+			index = child;
+		}
+		heap[index] = doc;
+	}
+
+	/**
+	 * DB 정렬과 같은 (정렬값, createdAt, postId) 순서로 a가 앞이면 음수
+	 */
+	private int compare(int a, int b, PostSort sort) {
+		int cmp = Long.compare(sortValue(a, sort), sortValue(b, sort));
+		if (cmp == 0) {
+			cmp = Long.compare(createdAts[a], createdAts[b]);
+		}
+		if (cmp == 0) {
+			cmp = Long.compare(postIds[a], postIds[b]);
+		}
+		return sort.isDescending() ? -cmp : cmp;
+	}
+
+	/**
+	 * 정렬 순서상 doc이 커서보다 앞이면 음수, 같으면 0, 뒤면 양수
+	 */
+	private int compareToCursor(int doc, PostSort sort, PostCursor after) {
+		long cursorValue = after.sortValue() == null ? 0L : after.sortValue();
+		int cmp = Long.compare(sortValue(doc, sort), cursorValue);
+		if (cmp == 0) {
+			cmp = Long.compare(createdAts[doc], toEpochMilli(after.createdAt()));
+		}
+		if (cmp == 0) {
+			cmp = Long.compare(postIds[doc], after.postId());
+		}
+		return sort.isDescending() ? -cmp : cmp;
+	}
+
+	private long sortValue(int doc, PostSort sort) {
+		return switch (sort) {
+			case POPULAR -> likeCounts[doc];
+			case LOW_PRICE, HIGH_PRICE -> prices[doc];
+			case LATEST -> 0L;
+		};
+	}
+
+	private long toEpochMilli(LocalDateTime dateTime) {
+		return dateTime == null ? 0L : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+
+	/**
+	 * gram 하나의 문서 목록 (오름차순 int 배열)
+	 * - 새 문서는 대부분 가장 큰 번호라 끝에 추가, 재사용된 번호는 이진 탐색 위치에 삽입
+	 */
+	private static final class Posting {
+
+		private int[] docs = new int[4];
+		private int size;
+
+		void add(int doc) {
+			int pos;
+			if (size == 0 || docs[size - 1] < doc) {
+				pos = size;
+			} else {
+				pos = Arrays.binarySearch(docs, 0, size, doc);
+				if (pos >= 0) {
+					return;
+				}
+				pos = -pos - 1;
+			}
+			if (size == docs.length) {
+				docs = Arrays.copyOf(docs, size * 2);
+			}
+			System.arraycopy(docs, pos, docs, pos + 1, size - pos);
+			docs[pos] = doc;
+			size++;
+		}
+
+		void remove(int doc) {
+			int pos = Arrays.binarySearch(docs, 0, size, doc);
+			if (pos < 0) {
+				return;
+			}
+			System.arraycopy(docs, pos + 1, docs, pos, size - pos - 1);
+			size--;
+			// 많이 줄어든 목록은 배열도 줄임
+			if (docs.length > 16 && size < docs.length / 4) {
+				docs = Arrays.copyOf(docs, docs.length / 2);
+			}
+		}
+
+		boolean contains(int doc) {
+			return Arrays.binarySearch(docs, 0, size, doc) >= 0;
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package org.ssafy.ssafymarket.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 한국어 게시글 검색용 글자 n-gram 분해기
+ * - NFC 정규화 + 소문자 변환 (macOS 등에서 들어오는 자모 분리 입력 대응)
+ * - 공백을 경계로 나눈 각 구간에서 1~3글자 gram 생성 (공백을 포함하는 gram은 만들지 않음)
+ */
+final class KoreanNGramTokenizer {
+
+	static final int MAX_GRAM = 3;
+
+	private KoreanNGramTokenizer() {
+	}
+
+	static String normalize(String text) {
+		if (text == null) {
+			return "";
+		}
+		return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * 색인용 gram: 각 구간의 1, 2, 3글자 gram 전부
+	 */
+	static Set<String> indexGrams(String normalized) {
+		Set<String> grams = new LinkedHashSet<>();
+		for (String segment : normalized.split("\\s+")) {
+			int[] cps = segment.codePoints().toArray();
+			for (int n = 1; n <= MAX_GRAM; n++) {
+				for (int i = 0; i + n <= cps.length; i++) {
+					grams.add(new String(cps, i, n));
+				}
+			}
+		}
+		return grams;
+	}
+
+	/**
+	 * 검색용 gram: 각 구간에서 가능한 가장 긴 gram(최대 3글자)만 사용
+	 * - 후보를 가장 좁게 만들고, 최종 확인은 부분 문자열 비교로 한다
+	 */
+	static Set<String> queryGrams(String normalized) {
+		Set<String> grams = new LinkedHashSet<>();
+		for (String segment : normalized.split("\\s+")) {
+			int[] cps = segment.codePoints().toArray();
+			int n = Math.min(MAX_GRAM, cps.length);
+			for (int i = 0; n > 0 && i + n <= cps.length; i++) {
+				grams.add(new String(cps, i, n));
+			}
+		}
+		return grams;
+	}
+}
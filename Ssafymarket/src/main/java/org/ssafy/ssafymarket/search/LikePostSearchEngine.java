@@ -0,0 +1,69 @@
+package org.ssafy.ssafymarket.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.ssafy.ssafymarket.dto.PostCursor;
+import org.ssafy.ssafymarket.entity.Post;
+import org.ssafy.ssafymarket.repository.PostFeedRepository;
+import org.ssafy.ssafymarket.repository.PostRepository;
+
+import java.util.List;
+
+/**
+ * LIKE '%keyword%' 기반 검색 (색인 없음, 전체 테이블 스캔)
+ * - 기본 검색 엔진 (post.search.engine 미설정 시), 다른 엔진은 설정으로 선택
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@ConditionalOnProperty(name = "post.search.engine", havingValue = "like", matchIfMissing = true)
+public class LikePostSearchEngine implements PostSearchEngine {
+
+	private final PostRepository postRepository;
+	private final PostFeedRepository postFeedRepository;
+
+	@Override
+	public Page<Post> search(PostSearchQuery query) {
+		String keyword = query.keyword();
+		Pageable pageable = query.pageable();
+
+		if (query.campus() == null) {
+			if (query.status() != null) {
+				return query.isPopular()
+					? postRepository.searchByKeywordAndStatusByPopularity(keyword, query.status(), pageable)
+					: postRepository.searchByKeywordAndStatus(keyword, query.status(), pageable);
+			}
+			return query.isPopular()
+				? postRepository.searchByKeywordByPopularity(keyword, pageable)
+				: postRepository.searchByKeyword(keyword, pageable);
+		}
+
+		if (query.status() != null) {
+			return query.isPopular()
+				? postRepository.searchByCampusAndKeywordAndStatusByPopularity(
+					query.campus(), keyword, query.status(), pageable)
+				: postRepository.searchByCampusAndKeywordAndStatus(
+					query.campus(), keyword, query.status(), pageable);
+		}
+		return query.isPopular()
+			? postRepository.searchByCampusAndKeywordByPopularity(query.campus(), keyword, pageable)
+			: postRepository.searchByCampusAndKeyword(query.campus(), keyword, pageable);
+	}
+
+	@Override
+	public List<Post> scroll(PostSearchQuery query, PostCursor after) {
+		PostFeedRepository.Filter filter =
+			new PostFeedRepository.Filter(query.campus(), null, query.keyword(), query.status());
+		return postFeedRepository.scroll(filter, query.postSort(), after, query.size());
+	}
+
+	@Override
+	public long count(PostSearchQuery query) {
+		return postFeedRepository.count(
+			new PostFeedRepository.Filter(query.campus(), null, query.keyword(), query.status()));
+	}
+}
@@ -0,0 +1,433 @@
+package org.ssafy.ssafymarket.search;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.ngram.NGramTokenizer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.ssafy.ssafymarket.dto.PostCursor;
+import org.ssafy.ssafymarket.dto.PostSort;
+import org.ssafy.ssafymarket.entity.Post;
+import org.ssafy.ssafymarket.repository.PostRepository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 내장 Lucene 기반 검색
+ * - title, description을 1~2글자 ngram으로 색인 (한국어 부분 일치)
+ * - 게시글 생성/수정/삭제는 PostSearchIndexer를 통해 커밋 후 반영
+ * - post.search.lucene.path가 비어 있으면 메모리 색인
+ * - 시작 시 색인이 비었거나 이전 종료가 정상 종료가 아니면(주기 커밋 이후 변경 유실 가능) DB에서 재구성
+ * - 색인이 서버마다 따로 있으므로 단일 서버 전용 (chat.broker.mode=relay와 함께 사용할 수 없음)
+ */
+@Slf4j
+@Component
+@Transactional(readOnly = true)
+@ConditionalOnProperty(name = "post.search.engine", havingValue = "lucene")
+public class LucenePostSearchEngine extends IdBasedPostSearchEngine {
+
+	private static final String F_ID = "id";
+	private static final String F_POST_ID = "postId";
+	private static final String F_TEXT = "text";
+	private static final String F_CAMPUS = "campus";
+	private static final String F_STATUS = "status";
+	private static final String F_CREATED_AT = "createdAt";
+	private static final String F_PRICE = "price";
+	private static final String F_LIKE_COUNT = "likeCount";
+	private static final String F_POST_ID_SORT = "postIdSort";
+
+	private static final int REBUILD_BATCH_SIZE = 500;
+
+	// 커밋 사용자 데이터: 정상 종료(close) 시에만 true로 커밋
+	private static final String CLEAN_SHUTDOWN = "cleanShutdown";
+
+	private final Directory directory;
+	private final IndexWriter writer;
+	private final SearcherManager searcherManager;
+
+	// 재구성 배치 반영과 커밋 후 반영(index/remove/좋아요)이 서로 끼어들지 않게 함
+	private final Object writeLock = new Object();
+	// 재구성 중에만 사용: 커밋 후 반영된 게시글, 좋아요 수가 갱신된 게시글 (writeLock으로 보호)
+	private Set<Long> touchedDuringRebuild;
+	private Map<Long, Integer> likeCountsDuringRebuild;
+
+	public LucenePostSearchEngine(PostRepository postRepository,
+		@Value("${post.search.lucene.path:}") String indexPath,
+		@Value("${chat.broker.mode:simple}") String brokerMode) throws IOException {
+		super(postRepository);
+		if ("relay".equalsIgnoreCase(brokerMode)) {
+			throw new IllegalStateException(
+				"post.search.engine=lucene은 단일 서버 전용입니다 (chat.broker.mode=relay와 함께 사용할 수 없음)");
+		}
+		this.directory = indexPath.isBlank()
+			? new ByteBuffersDirectory()
+			: FSDirectory.open(Path.of(indexPath));
+		this.writer = new IndexWriter(directory, new IndexWriterConfig(new NGramAnalyzer()));
+		this.searcherManager = new SearcherManager(writer, null);
+	}
+
+	/* ===================== 색인 ===================== */
+
+	/**
+	 * 시작 시 색인 로드 또는 재구성
+	 * - 정상 종료로 커밋된 색인만 그대로 사용하고, 이후 비정상 종료를 감지할 수 있게 곧바로 표시를 지움
+	 * - 재구성은 트랜잭션 밖에서 postId 순 keyset 배치로 조회 (배치마다 짧은 읽기 트랜잭션)
+	 * - 재구성 중 커밋 후 반영된 게시글은 배치의 이전 스냅샷으로 덮어쓰지 않음
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void loadOrRebuild() throws IOException {
+		int numDocs = writer.getDocStats().numDocs;
+		if (numDocs > 0 && wasCleanShutdown()) {
+			markCommitData(false);
+			writer.commit();
+			log.info("Lucene 색인 로드 - 문서 수: {}", numDocs);
+			return;
+		}
+		if (numDocs > 0) {
+			log.warn("Lucene 색인이 정상 종료로 커밋되지 않아 재구성 - 기존 문서 수: {}", numDocs);
+		}
+
+		long started = System.currentTimeMillis();
+		synchronized (writeLock) {
+			writer.deleteAll();
+			touchedDuringRebuild = new HashSet<>();
+			likeCountsDuringRebuild = new HashMap<>();
+		}
+		int count;
+		try {
+			count = forEachDocumentBatch(REBUILD_BATCH_SIZE, batch -> {
+				synchronized (writeLock) {
+					for (PostSearchDocument document : batch) {
+						if (touchedDuringRebuild.contains(document.postId())) {
+							continue;
+						}
+						Integer likeCount = likeCountsDuringRebuild.get(document.postId());
+						put(likeCount == null ? document : withLikeCount(document, likeCount));
+					}
+				}
+			});
+		} finally {
+			synchronized (writeLock) {
+				touchedDuringRebuild = null;
+				likeCountsDuringRebuild = null;
+			}
+		}
+
+		markCommitData(false);
+		writer.commit();
+		searcherManager.maybeRefresh();
+		log.info("Lucene 색인 재구성 완료 - 조회 문서 수: {}, {}ms", count, System.currentTimeMillis() - started);
+	}
+
+	private boolean wasCleanShutdown() {
+		Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+		if (commitData == null) {
+			return false;
+		}
+		for (Map.Entry<String, String> entry : commitData) {
+			if (CLEAN_SHUTDOWN.equals(entry.getKey())) {
+				return Boolean.parseBoolean(entry.getValue());
+			}
+		}
+		return false;
+	}
+
+	private void markCommitData(boolean cleanShutdown) {
+		writer.setLiveCommitData(Map.of(CLEAN_SHUTDOWN, Boolean.toString(cleanShutdown)).entrySet());
+	}
+
+	private static PostSearchDocument withLikeCount(PostSearchDocument document, int likeCount) {
+		return new PostSearchDocument(document.postId(), document.title(), document.description(),
+			document.campus(), document.status(), document.price(), likeCount, document.createdAt());
+	}
+
+	private void put(PostSearchDocument document) {
+		try {
+			writer.updateDocument(new Term(F_ID, document.postId().toString()), toDocument(document));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void markTouched(Long postId) {
+		if (touchedDuringRebuild != null) {
+			touchedDuringRebuild.add(postId);
+		}
+	}
+
+	@Override
+	public void index(PostSearchDocument document) {
+		synchronized (writeLock) {
+			markTouched(document.postId());
+			put(document);
+		}
+		try {
+			searcherManager.maybeRefresh();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public void remove(Long postId) {
+		try {
+			synchronized (writeLock) {
+				markTouched(postId);
+				writer.deleteDocuments(new Term(F_ID, postId.toString()));
+			}
+			searcherManager.maybeRefresh();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public void updateLikeCount(Long postId, int likeCount) {
+		try {
+			synchronized (writeLock) {
+				if (likeCountsDuringRebuild != null) {
+					likeCountsDuringRebuild.put(postId, likeCount);
+				}
+				writer.updateNumericDocValue(new Term(F_ID, postId.toString()), F_LIKE_COUNT, likeCount);
+			}
+			searcherManager.maybeRefresh();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * 주기적으로 커밋 (NRT 검색은 커밋 없이도 반영되므로 내구성 용도)
+	 * - 정상 종료 표시 없이 커밋하므로, 이후 비정상 종료되면 다음 시작 시 재구성
+	 */
+	@Scheduled(fixedDelayString = "${post.search.lucene.commit-interval-ms:10000}")
+	public void commit() throws IOException {
+		if (writer.hasUncommittedChanges()) {
+			writer.commit();
+		}
+	}
+
+	/**
+	 * 남은 변경을 정상 종료 표시와 함께 커밋 (다음 시작 시 재구성 없이 로드)
+	 */
+	@PreDestroy
+	public void close() throws IOException {
+		markCommitData(true);
+		writer.commit();
+		searcherManager.close();
+		writer.close();
+		directory.close();
+	}
+
+	private Document toDocument(PostSearchDocument post) {
+		Document doc = new Document();
+		doc.add(new StringField(F_ID, post.postId().toString(), Field.Store.NO));
+		doc.add(new StoredField(F_POST_ID, post.postId()));
+		doc.add(new NumericDocValuesField(F_POST_ID_SORT, post.postId()));
+		// 제목/설명을 별도 값으로 넣어 경계를 넘는 ngram이 생기지 않게 함
+		doc.add(new TextField(F_TEXT, nullToEmpty(post.title()), Field.Store.NO));
+		doc.add(new TextField(F_TEXT, nullToEmpty(post.description()), Field.Store.NO));
+		if (post.campus() != null) {
+			doc.add(new StringField(F_CAMPUS, post.campus().name(), Field.Store.NO));
+		}
+		doc.add(new StringField(F_STATUS, post.status().name(), Field.Store.NO));
+		doc.add(new NumericDocValuesField(F_CREATED_AT, toEpochMilli(post.createdAt())));
+		doc.add(new NumericDocValuesField(F_PRICE, post.price() == null ? 0L : post.price()));
+		doc.add(new NumericDocValuesField(F_LIKE_COUNT, post.likeCount() == null ? 0L : post.likeCount()));
+		return doc;
+	}
+
+	/* ===================== 검색 ===================== */
+
+	@Override
+	public Page<Post> search(PostSearchQuery query) {
+		Query luceneQuery = toLuceneQuery(query);
+		if (luceneQuery == null) {
+			return hydrate(List.of(), 0, query);
+		}
+
+		try {
+			IndexSearcher searcher = searcherManager.acquire();
+			try {
+				int total = searcher.count(luceneQuery);
+				int from = query.page() * query.size();
+				if (from >= total) {
+					return hydrate(List.of(), total, query);
+				}
+
+				TopFieldDocs top = searcher.search(luceneQuery, from + query.size(), sort(query.postSort()));
+				return hydrate(postIds(searcher, top, from), total, query);
+			} finally {
+				searcherManager.release(searcher);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public List<Post> scroll(PostSearchQuery query, PostCursor after) {
+		Query luceneQuery = toLuceneQuery(query);
+		if (luceneQuery == null) {
+			return List.of();
+		}
+
+		PostSort sort = query.postSort();
+		try {
+			IndexSearcher searcher = searcherManager.acquire();
+			try {
+				TopFieldDocs top = after == null
+					? searcher.search(luceneQuery, query.size(), sort(sort))
+					: searcher.searchAfter(toFieldDoc(searcher, sort, after), luceneQuery, query.size(), sort(sort));
+				return load(postIds(searcher, top, 0));
+			} finally {
+				searcherManager.release(searcher);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * @return Lucene 질의, 검색어에서 gram이 나오지 않으면 null
+	 */
+	private Query toLuceneQuery(PostSearchQuery query) {
+		Set<String> grams = queryGrams(query.keyword());
+		if (grams.isEmpty()) {
+			return null;
+		}
+
+		BooleanQuery.Builder builder = new BooleanQuery.Builder();
+		for (String gram : grams) {
+			builder.add(new TermQuery(new Term(F_TEXT, gram)), BooleanClause.Occur.FILTER);
+		}
+		if (query.campus() != null) {
+			builder.add(new TermQuery(new Term(F_CAMPUS, query.campus().name())), BooleanClause.Occur.FILTER);
+		}
+		if (query.status() != null) {
+			builder.add(new TermQuery(new Term(F_STATUS, query.status().name())), BooleanClause.Occur.FILTER);
+		}
+		return builder.build();
+	}
+
+	private List<Long> postIds(IndexSearcher searcher, TopFieldDocs top, int from) throws IOException {
+		List<Long> postIds = new ArrayList<>(Math.max(0, top.scoreDocs.length - from));
+		for (int i = from; i < top.scoreDocs.length; i++) {
+			ScoreDoc hit = top.scoreDocs[i];
+			postIds.add(searcher.storedFields().document(hit.doc)
+				.getField(F_POST_ID).numericValue().longValue());
+		}
+		return postIds;
+	}
+
+	/**
+	 * 커서를 searchAfter 기준 위치로 변환 (정렬 필드 순서와 동일한 값 배열)
+	 * - postId까지 정렬 키에 포함되어 있어 doc 번호는 커서 자신과 같은 위치일 때만 비교됨
+	 *   (마지막 doc 번호로 두어 커서 게시글 자신은 제외)
+	 */
+	private FieldDoc toFieldDoc(IndexSearcher searcher, PostSort sort, PostCursor after) {
+		Long createdAt = toEpochMilli(after.createdAt());
+		Object[] fields = sort == PostSort.LATEST
+			? new Object[]{createdAt, after.postId()}
+			: new Object[]{after.sortValue().longValue(), createdAt, after.postId()};
+		return new FieldDoc(searcher.getIndexReader().maxDoc() - 1, Float.NaN, fields);
+	}
+
+	/**
+	 * 검색어를 색인과 같은 방식으로 분해
+	 * - 1글자: 해당 글자 (unigram)
+	 * - 2글자 이상: 모든 bigram을 AND로 요구
+	 */
+	private Set<String> queryGrams(String keyword) {
+		int[] codePoints = keyword.toLowerCase(Locale.ROOT).codePoints().toArray();
+		Set<String> grams = new LinkedHashSet<>();
+		if (codePoints.length == 1) {
+			grams.add(new String(codePoints, 0, 1));
+		}
+		for (int i = 0; i + 1 < codePoints.length; i++) {
+			grams.add(new String(codePoints, i, 2));
+		}
+		return grams;
+	}
+
+	/**
+	 * DB 정렬과 같은 (정렬값, createdAt, postId) 순서
+	 */
+	private Sort sort(PostSort sort) {
+		boolean reverse = sort.isDescending();
+		SortField createdAt = new SortField(F_CREATED_AT, SortField.Type.LONG, reverse);
+		SortField postId = new SortField(F_POST_ID_SORT, SortField.Type.LONG, reverse);
+		return switch (sort) {
+			case POPULAR -> new Sort(new SortField(F_LIKE_COUNT, SortField.Type.LONG, reverse), createdAt, postId);
+			case LOW_PRICE, HIGH_PRICE -> new Sort(new SortField(F_PRICE, SortField.Type.LONG, reverse), createdAt, postId);
+			case LATEST -> new Sort(createdAt, postId);
+		};
+	}
+
+	private long toEpochMilli(LocalDateTime dateTime) {
+		return dateTime == null ? 0L : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+
+	private String nullToEmpty(String value) {
+		return value == null ? "" : value;
+	}
+
+	/**
+	 * 1~2글자 ngram + 소문자 변환 분석기
+	 */
+	static final class NGramAnalyzer extends Analyzer {
+		@Override
+		protected TokenStreamComponents createComponents(String fieldName) {
+			Tokenizer tokenizer = new NGramTokenizer(1, 2);
+			TokenStream stream = new LowerCaseFilter(tokenizer);
+			return new TokenStreamComponents(tokenizer, stream);
+		}
+	}
+}
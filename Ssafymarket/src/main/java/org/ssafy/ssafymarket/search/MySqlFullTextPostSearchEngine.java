@@ -0,0 +1,169 @@
+package org.ssafy.ssafymarket.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.ssafy.ssafymarket.dto.PostCursor;
+import org.ssafy.ssafymarket.dto.PostSort;
+import org.ssafy.ssafymarket.entity.Post;
+import org.ssafy.ssafymarket.repository.PostRepository;
+
+import java.util.List;
+
+/**
+ * MySQL FULLTEXT (ngram parser) 기반 검색
+ * - title, description에 ngram FULLTEXT 인덱스를 걸어 한국어 부분 일치를 인덱스로 처리
+ * - 인덱스는 MySQL이 INSERT/UPDATE/DELETE 시 직접 갱신하므로 별도 색인 작업 없음
+ * - 인덱스는 post-fulltext-index.sql로 미리 생성 (시작 시 DDL 잠금을 피하기 위해 존재 여부만 확인)
+ */
+@Slf4j
+@Component
+@Transactional(readOnly = true)
+@ConditionalOnProperty(name = "post.search.engine", havingValue = "mysql")
+public class MySqlFullTextPostSearchEngine extends IdBasedPostSearchEngine {
+
+	private static final String INDEX_NAME = "ft_post_title_description";
+
+	// ngram_token_size 기본값
+	private static final int NGRAM_TOKEN_SIZE = 2;
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	public MySqlFullTextPostSearchEngine(PostRepository postRepository,
+		NamedParameterJdbcTemplate jdbcTemplate) {
+		super(postRepository);
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void checkFullTextIndex() {
+		Integer exists = jdbcTemplate.getJdbcTemplate().queryForObject(
+			"SELECT COUNT(*) FROM information_schema.statistics " +
+				"WHERE table_schema = DATABASE() AND table_name = 'post' AND index_name = ?",
+			Integer.class, INDEX_NAME);
+
+		if (exists == null || exists == 0) {
+			log.error("FULLTEXT 인덱스 없음: {} - post-fulltext-index.sql을 실행해야 검색이 동작합니다", INDEX_NAME);
+		}
+	}
+
+	@Override
+	public Page<Post> search(PostSearchQuery query) {
+		String term = toBooleanModeTerm(query.keyword());
+		if (term == null) {
+			return hydrate(List.of(), 0, query);
+		}
+
+		MapSqlParameterSource params = new MapSqlParameterSource();
+		StringBuilder where = where(query, term, params);
+
+		Long total = jdbcTemplate.queryForObject("SELECT COUNT(*)" + where, params, Long.class);
+		if (total == null || total == 0) {
+			return hydrate(List.of(), 0, query);
+		}
+
+		params.addValue("limit", query.size());
+		params.addValue("offset", (long) query.page() * query.size());
+		List<Long> postIds = jdbcTemplate.queryForList(
+			"SELECT p.post_id" + where + orderBy(query.postSort()) + " LIMIT :limit OFFSET :offset",
+			params, Long.class);
+
+		return hydrate(postIds, total, query);
+	}
+
+	@Override
+	public List<Post> scroll(PostSearchQuery query, PostCursor after) {
+		String term = toBooleanModeTerm(query.keyword());
+		if (term == null) {
+			return List.of();
+		}
+
+		MapSqlParameterSource params = new MapSqlParameterSource();
+		StringBuilder where = where(query, term, params);
+		PostSort sort = query.postSort();
+		if (after != null) {
+			appendKeyset(where, params, sort, after);
+		}
+
+		params.addValue("limit", query.size());
+		List<Long> postIds = jdbcTemplate.queryForList(
+			"SELECT p.post_id" + where + orderBy(sort) + " LIMIT :limit",
+			params, Long.class);
+
+		return load(postIds);
+	}
+
+	private StringBuilder where(PostSearchQuery query, String term, MapSqlParameterSource params) {
+		params.addValue("keyword", term);
+
+		StringBuilder where = new StringBuilder(
+			" FROM post p JOIN `user` u ON u.student_id = p.writer_id" +
+				" WHERE MATCH(p.title, p.description) AGAINST (:keyword IN BOOLEAN MODE)");
+
+		if (query.campus() != null) {
+			where.append(" AND u.campus = :campus");
+			params.addValue("campus", query.campus().name());
+		}
+		if (query.status() != null) {
+			where.append(" AND p.status = :status");
+			params.addValue("status", query.status().name());
+		}
+		return where;
+	}
+
+	/**
+	 * (정렬값, created_at, post_id)가 커서보다 뒤에 있는 행만 조회
+	 */
+	private void appendKeyset(StringBuilder where, MapSqlParameterSource params, PostSort sort, PostCursor after) {
+		String op = sort.isDescending() ? "<" : ">";
+		String tail = "(p.created_at " + op + " :cursorCreatedAt" +
+			" OR (p.created_at = :cursorCreatedAt AND p.post_id " + op + " :cursorPostId))";
+		params.addValue("cursorCreatedAt", after.createdAt());
+		params.addValue("cursorPostId", after.postId());
+
+		String column = sortColumn(sort);
+		if (column == null) {
+			where.append(" AND ").append(tail);
+			return;
+		}
+		where.append(" AND (").append(column).append(" ").append(op).append(" :cursorValue")
+			.append(" OR (").append(column).append(" = :cursorValue AND ").append(tail).append("))");
+		params.addValue("cursorValue", after.sortValue());
+	}
+
+	/**
+	 * 키워드를 BOOLEAN MODE 검색어로 변환
+	 * - ngram 토큰 길이 이상: 구문 검색 ("키워드") → 부분 일치와 동일
+	 * - 그보다 짧으면: 접두 검색 (키*)
+	 * @return 검색어, 연산자만 입력된 경우 null
+	 */
+	private String toBooleanModeTerm(String keyword) {
+		String sanitized = keyword.replace("\"", " ").trim();
+		if (sanitized.codePointCount(0, sanitized.length()) < NGRAM_TOKEN_SIZE) {
+			String prefix = sanitized.replaceAll("[+\\-<>()~*@]", "");
+			return prefix.isEmpty() ? null : prefix + "*";
+		}
+		return "\"" + sanitized + "\"";
+	}
+
+	private String orderBy(PostSort sort) {
+		String direction = sort.isDescending() ? " DESC" : " ASC";
+		String column = sortColumn(sort);
+		return " ORDER BY " + (column == null ? "" : column + direction + ", ") +
+			"p.created_at" + direction + ", p.post_id" + direction;
+	}
+
+	private String sortColumn(PostSort sort) {
+		return switch (sort) {
+			case POPULAR -> "p.like_count";
+			case LOW_PRICE, HIGH_PRICE -> "p.price";
+			case LATEST -> null;
+		};
+	}
+}
@@ -0,0 +1,35 @@
+package org.ssafy.ssafymarket.search;
+
+import org.ssafy.ssafymarket.entity.Post;
+import org.ssafy.ssafymarket.entity.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 색인용 게시글 스냅샷
+ * - 트랜잭션 안에서 만들어 커밋 후 색인에 전달 (지연 로딩 없이 사용 가능)
+ */
+public record PostSearchDocument(
+	Long postId,
+	String title,
+	String description,
+	User.Campus campus,
+	Post.PostStatus status,
+	Integer price,
+	Integer likeCount,
+	LocalDateTime createdAt
+) {
+
+	public static PostSearchDocument from(Post post) {
+		return new PostSearchDocument(
+			post.getPostId(),
+			post.getTitle(),
+			post.getDescription(),
+			post.getWriter() != null ? post.getWriter().getCampus() : null,
+			post.getStatus(),
+			post.getPrice(),
+			post.getLikeCount(),
+			post.getCreatedAt()
+		);
+	}
+}
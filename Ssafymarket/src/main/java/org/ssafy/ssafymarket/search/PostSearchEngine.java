@@ -0,0 +1,55 @@
+package org.ssafy.ssafymarket.search;
+
+import org.springframework.data.domain.Page;
+import org.ssafy.ssafymarket.dto.PostCursor;
+import org.ssafy.ssafymarket.entity.Post;
+
+import java.util.List;
+
+/**
+ * 게시글 검색 엔진
+ * - post.search.engine 설정으로 구현체 선택 (like, mysql, lucene, memory)
+ * - 색인이 필요한 엔진은 PostSearchIndexer를 통해 커밋된 변경만 반영받는다
+ */
+public interface PostSearchEngine {
+
+	/**
+	 * 키워드 + 캠퍼스/판매상태 필터 + 정렬로 게시글 검색
+	 * @param query 검색 조건
+	 * @return 검색 결과 페이지 (정렬 순서 유지)
+	 */
+	Page<Post> search(PostSearchQuery query);
+
+	/**
+	 * 커서 다음 검색 결과 (keyset 페이징, 전체 개수 계산 없음)
+	 * @param query 검색 조건 (page는 무시, size만큼 조회)
+	 * @param after 이전 페이지 마지막 위치 (첫 페이지면 null)
+	 * @return 최대 size개의 게시글 (정렬 순서 유지)
+	 */
+	List<Post> scroll(PostSearchQuery query, PostCursor after);
+
+	/**
+	 * 검색 결과 전체 개수 (커서 페이징에서 요청 시에만 사용)
+	 */
+	default long count(PostSearchQuery query) {
+		return search(query.withSize(1)).getTotalElements();
+	}
+
+	/**
+	 * 게시글 추가/수정 반영
+	 */
+	default void index(PostSearchDocument document) {
+	}
+
+	/**
+	 * 게시글 삭제 반영
+	 */
+	default void remove(Long postId) {
+	}
+
+	/**
+	 * 좋아요 수 변경 반영 (인기순 정렬용)
+	 */
+	default void updateLikeCount(Long postId, int likeCount) {
+	}
+}
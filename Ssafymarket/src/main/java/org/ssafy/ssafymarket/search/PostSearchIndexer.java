@@ -0,0 +1,45 @@
+package org.ssafy.ssafymarket.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.ssafy.ssafymarket.entity.Post;
+import org.ssafy.ssafymarket.util.TransactionHooks;
+
+/**
+ * 게시글 변경을 검색 엔진에 전달
+ * - 트랜잭션 안에서 호출되면 커밋 이후에 반영 (롤백된 변경은 색인되지 않음)
+ * - 색인 실패는 요청을 실패시키지 않고 로그만 남긴다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndexer {
+
+	private final PostSearchEngine postSearchEngine;
+
+	public void postSaved(Post post) {
+		PostSearchDocument document = PostSearchDocument.from(post);
+		afterCommit(() -> postSearchEngine.index(document));
+	}
+
+	public void postDeleted(Long postId) {
+		afterCommit(() -> postSearchEngine.remove(postId));
+	}
+
+	public void likeCountChanged(Long postId, int likeCount) {
+		afterCommit(() -> postSearchEngine.updateLikeCount(postId, likeCount));
+	}
+
+	private void afterCommit(Runnable task) {
+		TransactionHooks.afterCommit(() -> run(task));
+	}
+
+	private void run(Runnable task) {
+		try {
+			task.run();
+		} catch (Exception e) {
+			log.error("검색 색인 반영 실패", e);
+		}
+	}
+}
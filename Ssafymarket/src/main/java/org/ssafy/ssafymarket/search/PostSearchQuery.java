@@ -0,0 +1,59 @@
+package org.ssafy.ssafymarket.search;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.ssafy.ssafymarket.dto.PostSort;
+import org.ssafy.ssafymarket.entity.Post;
+import org.ssafy.ssafymarket.entity.User;
+
+/**
+ * 게시글 검색 조건
+ * @param keyword 검색 키워드 (trim 완료)
+ * @param campus 캠퍼스 필터 (비로그인 시 null)
+ * @param status 판매상태 필터 (전체 검색 시 null)
+ * @param sort latest, popular, lowPrice, highPrice
+ */
+public record PostSearchQuery(
+	String keyword,
+	User.Campus campus,
+	Post.PostStatus status,
+	String sort,
+	int page,
+	int size
+) {
+
+	/**
+	 * 같은 조건으로 크기만 바꾼 검색 조건 (커서 페이징에서 다음 페이지 존재 여부 확인용)
+	 */
+	public PostSearchQuery withSize(int newSize) {
+		return new PostSearchQuery(keyword, campus, status, sort, 0, newSize);
+	}
+
+	public PostSort postSort() {
+		return PostSort.from(sort);
+	}
+
+	public boolean isPopular() {
+		return postSort() == PostSort.POPULAR;
+	}
+
+	/**
+	 * JPQL 쿼리용 Pageable (인기순은 쿼리에 ORDER BY가 포함되어 있어 정렬 없음)
+	 */
+	public Pageable pageable() {
+		if (isPopular()) {
+			return PageRequest.of(page, size);
+		}
+		return PageRequest.of(page, size, sorting());
+	}
+
+	public Sort sorting() {
+		return switch (postSort()) {
+			case POPULAR -> Sort.by(Sort.Direction.DESC, "likeCount", "createdAt");
+			case LOW_PRICE -> Sort.by(Sort.Direction.ASC, "price", "createdAt");
+			case HIGH_PRICE -> Sort.by(Sort.Direction.DESC, "price", "createdAt");
+			case LATEST -> Sort.by(Sort.Direction.DESC, "createdAt");
+		};
+	}
+}
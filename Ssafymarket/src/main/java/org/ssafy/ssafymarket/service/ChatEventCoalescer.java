@@ -0,0 +1,202 @@
+package org.ssafy.ssafymarket.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.ssafy.ssafymarket.dto.ChatMessageDto;
+import org.ssafy.ssafymarket.entity.ChatMessage;
+import org.ssafy.ssafymarket.repository.UserUnreadCountRepository;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽음 처리/읽음 알림/새 메시지 알림을 (사용자, 채팅방) 단위로 짧은 시간 모아서 한 번에 처리
+ * - 첫 이벤트가 들어오면 chat.coalesce.window-ms 뒤에 한 번 실행하고, 그 사이 이벤트는 병합
+ *   (읽음 요청: 한 번만 DB 반영 / 읽음 알림: 가장 큰 lastReadMessageId / 새 메시지 알림: 마지막 메시지 + 개수)
+ * - window-ms가 0 이하면 병합 없이 즉시 처리
+ */
+@Slf4j
+@Component
+public class ChatEventCoalescer {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final UserUnreadCountRepository userUnreadCountRepository;
+    private final long windowMs;
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    private final Map<RoomUserKey, Runnable> pendingReads = new ConcurrentHashMap<>();
+    private final Map<RoomUserKey, PendingReceipt> pendingReceipts = new ConcurrentHashMap<>();
+    private final Map<RoomUserKey, PendingNotification> pendingNotifications = new ConcurrentHashMap<>();
+
+    public ChatEventCoalescer(SimpMessagingTemplate messagingTemplate,
+                              UserUnreadCountRepository userUnreadCountRepository,
+                              @Value("${chat.coalesce.window-ms:300}") long windowMs,
+                              @Value("${chat.coalesce.threads:2}") int threads) {
+        this.messagingTemplate = messagingTemplate;
+        this.userUnreadCountRepository = userUnreadCountRepository;
+        this.windowMs = windowMs;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.scheduler = new ScheduledThreadPoolExecutor(threads, r -> {
+            Thread thread = new Thread(r, "chat-event-coalescer-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 종료 시 대기 중인 병합 이벤트도 실행
+        this.scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(true);
+    }
+
+    /**
+     * 읽음 처리 요청 (같은 사용자/채팅방의 요청은 창 안에서 한 번만 실행)
+     */
+    public void requestRead(Long roomId, String userId, Runnable markRead) {
+        if (windowMs <= 0) {
+            markRead.run();
+            return;
+        }
+        RoomUserKey key = new RoomUserKey(userId, roomId);
+        if (pendingReads.putIfAbsent(key, markRead) == null) {
+            schedule(() -> {
+                Runnable pending = pendingReads.remove(key);
+                if (pending != null) {
+                    pending.run();
+                }
+            });
+        }
+    }
+
+    /**
+     * 읽음 알림 (상대방이 lastReadMessageId까지 읽음)
+     */
+    public void publishReadReceipt(String receiverId, Long roomId, Long lastReadMessageId) {
+        if (windowMs <= 0) {
+            sendReadReceipt(receiverId, roomId, lastReadMessageId);
+            return;
+        }
+        PendingReceipt receipt = new PendingReceipt(lastReadMessageId);
+        RoomUserKey key = new RoomUserKey(receiverId, roomId);
+        if (pendingReceipts.merge(key, receipt, PendingReceipt::merge) == receipt) {
+            schedule(() -> {
+                PendingReceipt pending = pendingReceipts.remove(key);
+                if (pending != null) {
+                    sendReadReceipt(receiverId, roomId, pending.lastReadMessageId());
+                }
+            });
+        }
+    }
+
+    /**
+     * 새 메시지 알림
+     * @param totalUnreadCount 수신자 전체 안읽은 수 (null이면 전송 시점에 조회)
+     */
+    public void publishNotification(String receiverId, Long roomId, Long postId, String postTitle,
+                                    String senderName, String content, LocalDateTime timestamp,
+                                    Long totalUnreadCount) {
+        PendingNotification notification = new PendingNotification(
+                postId, postTitle, senderName, content, timestamp, totalUnreadCount, 1);
+        if (windowMs <= 0) {
+            sendNotification(receiverId, roomId, notification);
+            return;
+        }
+        RoomUserKey key = new RoomUserKey(receiverId, roomId);
+        if (pendingNotifications.merge(key, notification, PendingNotification::merge) == notification) {
+            schedule(() -> {
+                PendingNotification pending = pendingNotifications.remove(key);
+                if (pending != null) {
+                    sendNotification(receiverId, roomId, pending);
+                }
+            });
+        }
+    }
+
+    /* ===================== 전송 ===================== */
+
+    private void sendReadReceipt(String receiverId, Long roomId, Long lastReadMessageId) {
+        messagingTemplate.convertAndSendToUser(
+                receiverId,
+                "/queue/read",
+                ChatMessageDto.builder()
+                        .roomId(roomId)
+                        .messageType(ChatMessage.MessageType.SYSTEM)
+                        .content("상대방이 메시지를 읽었습니다")
+                        .lastReadMessageId(lastReadMessageId)
+                        .build()
+        );
+    }
+
+    private void sendNotification(String receiverId, Long roomId, PendingNotification notification) {
+        long totalUnreadCount = notification.totalUnreadCount() != null
+                ? notification.totalUnreadCount()
+                : userUnreadCountRepository.findUnreadCount(receiverId).orElse(0);
+
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("roomId", roomId);
+        payload.put("postId", notification.postId());
+        payload.put("postTitle", notification.postTitle());
+        payload.put("senderName", notification.senderName());
+        payload.put("content", notification.content());
+        payload.put("totalUnreadCount", totalUnreadCount);
+        payload.put("messageCount", notification.messageCount());
+        payload.put("timestamp", notification.timestamp());
+        messagingTemplate.convertAndSendToUser(receiverId, "/queue/notification", payload);
+
+        log.debug("실시간 알림 전송 - receiverId: {}, roomId: {}, 병합된 메시지 수: {}, totalUnreadCount: {}",
+                receiverId, roomId, notification.messageCount(), totalUnreadCount);
+    }
+
+    private void schedule(Runnable task) {
+        scheduler.schedule(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.warn("채팅 이벤트 병합 처리 실패", e);
+            }
+        }, windowMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private record RoomUserKey(String userId, Long roomId) {
+    }
+
+    /**
+     * 병합 중인 읽음 알림 (가장 큰 lastReadMessageId)
+     */
+    private record PendingReceipt(Long lastReadMessageId) {
+        PendingReceipt merge(PendingReceipt next) {
+            return new PendingReceipt(Math.max(lastReadMessageId, next.lastReadMessageId));
+        }
+    }
+
+    /**
+     * 병합 중인 새 메시지 알림 (마지막 메시지 내용 + 병합된 메시지 수)
+     */
+    private record PendingNotification(
+            Long postId,
+            String postTitle,
+            String senderName,
+            String content,
+            LocalDateTime timestamp,
+            Long totalUnreadCount,
+            int messageCount
+    ) {
+        PendingNotification merge(PendingNotification next) {
+            return new PendingNotification(next.postId, next.postTitle, next.senderName, next.content,
+                    next.timestamp,
+                    next.totalUnreadCount != null ? next.totalUnreadCount : totalUnreadCount,
+                    messageCount + next.messageCount);
+        }
+    }
+}
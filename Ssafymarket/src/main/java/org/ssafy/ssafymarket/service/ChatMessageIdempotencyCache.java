@@ -0,0 +1,67 @@
+package org.ssafy.ssafymarket.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.ssafy.ssafymarket.dto.ChatMessageDto;
+import org.ssafy.ssafymarket.util.TransactionHooks;
+
+import java.time.Duration;
+
+/**
+ * 최근 전송 메시지 캐시 ((채팅방, 발신자, clientMessageId) → 저장된 메시지)
+ * - 재연결/재시도로 같은 메시지가 다시 오면 DB 조회 없이 원래 메시지를 돌려줌
+ * - chat.idempotency.max-size / ttl 로 크기, 보관 시간 제한
+ * - 캐시에서 빠진 오래된 재시도는 chat_message의 (room_id, sender_id, client_message_id) 유니크 인덱스로 걸러냄
+ */
+@Component
+public class ChatMessageIdempotencyCache {
+
+    public static final int MAX_CLIENT_MESSAGE_ID_LENGTH = 64;
+
+    private final Cache<Key, ChatMessageDto> cache;
+
+    public ChatMessageIdempotencyCache(@Value("${chat.idempotency.max-size:100000}") long maxSize,
+                                       @Value("${chat.idempotency.ttl:10m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * clientMessageId 형식 확인 (null이면 중복 제거 없이 전송)
+     */
+    public static void validate(String clientMessageId) {
+        if (clientMessageId != null
+                && (clientMessageId.isBlank() || clientMessageId.length() > MAX_CLIENT_MESSAGE_ID_LENGTH)) {
+            throw new IllegalArgumentException(
+                    "clientMessageId는 1자 이상 " + MAX_CLIENT_MESSAGE_ID_LENGTH + "자 이하여야 합니다");
+        }
+    }
+
+    /**
+     * 이미 전송된 메시지 조회 (clientMessageId가 없으면 null)
+     */
+    public ChatMessageDto get(Long roomId, String senderId, String clientMessageId) {
+        if (clientMessageId == null) {
+            return null;
+        }
+        return cache.getIfPresent(new Key(roomId, senderId, clientMessageId));
+    }
+
+    /**
+     * 전송된 메시지 기록 (트랜잭션 안이면 커밋 후 기록해 롤백된 메시지가 남지 않게 함)
+     */
+    public void put(ChatMessageDto message) {
+        if (message.getClientMessageId() == null) {
+            return;
+        }
+        Key key = new Key(message.getRoomId(), message.getSenderId(), message.getClientMessageId());
+        TransactionHooks.afterCommit(() -> cache.put(key, message));
+    }
+
+    private record Key(Long roomId, String senderId, String clientMessageId) {
+    }
+}
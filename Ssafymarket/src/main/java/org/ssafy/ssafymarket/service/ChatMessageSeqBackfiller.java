@@ -0,0 +1,35 @@
+package org.ssafy.ssafymarket.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.ssafy.ssafymarket.repository.ChatMessageRepository;
+import org.ssafy.ssafymarket.repository.ChatRoomRepository;
+
+/**
+ * 순번(seq) 도입 전에 저장된 메시지에 채팅방별 순번 부여 (애플리케이션 시작 시 1회)
+ * - 채팅방 last_seq에서 필요한 구간을 먼저 예약한 뒤 메시지 ID 순으로 채우므로 동시에 전송된 메시지와 겹치지 않음
+ * - 순번 없는 메시지가 없으면 아무것도 갱신하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageSeqBackfiller {
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatMessageRepository chatMessageRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        int rooms = chatRoomRepository.reserveSeqForLegacyMessages();
+        if (rooms == 0) {
+            return;
+        }
+        int messages = chatMessageRepository.assignSeqToLegacyMessages();
+        log.info("기존 메시지 순번 부여 완료 - 채팅방 수: {}, 메시지 수: {}", rooms, messages);
+    }
+}
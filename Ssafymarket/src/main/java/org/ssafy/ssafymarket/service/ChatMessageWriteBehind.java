@@ -0,0 +1,599 @@
+package org.ssafy.ssafymarket.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.ssafy.ssafymarket.dto.ChatMessageDto;
+import org.ssafy.ssafymarket.dto.ChatRoomMembership;
+import org.ssafy.ssafymarket.entity.ChatMessage;
+import org.ssafy.ssafymarket.entity.User;
+import org.ssafy.ssafymarket.repository.UserRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채팅 메시지 write-behind 저장 (chat.write-behind.enabled=true)
+ * - 메시지 ID를 서버에서 블록 단위로 미리 할당하고 큐에 적재, 전용 writer 스레드가 JDBC 배치로 chat_message에 저장
+ * - 채팅방 순번(seq)은 배치 트랜잭션 안에서 채팅방마다 한 번에 예약하므로 저장되지 못한 메시지가 순번을 쓰지 않음 (빈 번호 없음)
+ * - 채팅방/사용자별 안읽은 수는 배치 안에서 합산해 행마다 한 번씩만 UPDATE
+ * - 브로드캐스트는 배치 커밋 후 (send()가 돌려준 future 완료 시점, 저장되지 않은 메시지는 전송되지 않음)
+ * - chat.write-behind.durability
+ *   - group-commit: 전송 요청은 큐에 넣고 바로 반환, 커밋 후 writer 스레드에서 브로드캐스트
+ *   - sync-ack: 채팅방 레인이 커밋까지 대기 (동시 전송을 한 커밋으로 묶어 처리량 유지)
+ * - 단일 서버 전용: 메시지 ID 블록은 서버마다 따로 예약되므로 여러 서버가 쓰면 message_id가 전송 순서와 어긋남
+ *   (읽음 워터마크, after 커서가 message_id 순서에 의존) → chat.broker.mode=relay와 함께 사용할 수 없음
+ * - 활성화 시 모든 메시지 전송이 이 경로를 사용해야 함 (AUTO_INCREMENT 전송과 섞으면 ID 충돌 가능)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.write-behind.enabled", havingValue = "true")
+public class ChatMessageWriteBehind {
+
+    private static final String SEQUENCE_NAME = "chat_message";
+    private static final int MAX_BATCH_ATTEMPTS = 3;
+    private static final int MAX_CONTENT_BYTES = 65535; // TEXT 컬럼 최대 크기
+
+    private static final String INSERT_MESSAGE =
+            "INSERT INTO chat_message (message_id, room_id, seq, sender_id, sender_name, content, " +
+            "message_type, image_url, client_message_id, sent_at, is_read) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false)";
+
+    // 순번 구간 예약 (LAST_INSERT_ID로 구간 끝 값을 읽음) + 안읽은 수/최근 메시지 갱신
+    private static final String UPDATE_ROOM =
+            "UPDATE chat_room SET last_seq = LAST_INSERT_ID(COALESCE(last_seq, 0) + ?), " +
+            "unread_buyer = COALESCE(unread_buyer, 0) + ?, " +
+            "unread_seller = COALESCE(unread_seller, 0) + ?, " +
+            "last_message = COALESCE(?, last_message), " +
+            "last_message_time = COALESCE(?, last_message_time) " +
+            "WHERE room_id = ? AND activity = 1";
+
+    private static final String INCREMENT_USER_UNREAD =
+            "INSERT INTO user_unread_count (student_id, unread_count) VALUES (?, ?) " +
+            "ON DUPLICATE KEY UPDATE unread_count = unread_count + VALUES(unread_count)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+    private final UserRepository userRepository;
+    private final ChatEventCoalescer chatEventCoalescer;
+    private final ChatMessageIdempotencyCache chatMessageIdempotencyCache;
+
+    private final boolean syncAck;
+    private final int batchSize;
+    private final int idBlockSize;
+    private final long ackTimeoutMs;
+    private final BlockingQueue<PendingMessage> queue;
+
+    // 저장 대기 중인 clientMessageId 메시지 (큐에 있는 동안 같은 재전송은 같은 future를 받음)
+    private final Map<PendingKey, CompletableFuture<ChatMessageDto>> pendingSends = new ConcurrentHashMap<>();
+
+    // 메시지 ID 블록 [nextId, idLimit)
+    private final Object idLock = new Object();
+    private long nextId;
+    private long idLimit;
+
+    // 큐에 넣은 순번 / 저장(또는 최종 실패) 처리가 끝난 순번 (읽기 전 대기용)
+    private final AtomicLong enqueuedSeq = new AtomicLong();
+    private final Object processedLock = new Object();
+    private long processedSeq;
+
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public ChatMessageWriteBehind(NamedParameterJdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  ChatRoomMembershipCache chatRoomMembershipCache,
+                                  UserRepository userRepository,
+                                  ChatEventCoalescer chatEventCoalescer,
+                                  ChatMessageIdempotencyCache chatMessageIdempotencyCache,
+                                  @Value("${chat.write-behind.durability:group-commit}") String durability,
+                                  @Value("${chat.write-behind.batch-size:500}") int batchSize,
+                                  @Value("${chat.write-behind.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${chat.write-behind.id-block-size:1000}") int idBlockSize,
+                                  @Value("${chat.write-behind.ack-timeout-ms:5000}") long ackTimeoutMs,
+                                  @Value("${chat.broker.mode:simple}") String brokerMode) {
+        if ("relay".equalsIgnoreCase(brokerMode)) {
+            throw new IllegalStateException(
+                    "chat.write-behind.enabled는 단일 서버 전용입니다 (chat.broker.mode=relay와 함께 사용할 수 없음)");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chatRoomMembershipCache = chatRoomMembershipCache;
+        this.userRepository = userRepository;
+        this.chatEventCoalescer = chatEventCoalescer;
+        this.chatMessageIdempotencyCache = chatMessageIdempotencyCache;
+        this.syncAck = "sync-ack".equalsIgnoreCase(durability);
+        this.batchSize = batchSize;
+        this.idBlockSize = idBlockSize;
+        this.ackTimeoutMs = ackTimeoutMs;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.writer = new Thread(this::runWriter, "chat-message-writer");
+    }
+
+    @PostConstruct
+    public void start() {
+        jdbcTemplate.getJdbcTemplate().execute(
+                "CREATE TABLE IF NOT EXISTS chat_message_id_seq (" +
+                "name VARCHAR(50) NOT NULL PRIMARY KEY, next_id BIGINT NOT NULL)");
+        jdbcTemplate.getJdbcTemplate().update(
+                "INSERT IGNORE INTO chat_message_id_seq (name, next_id) VALUES (?, 1)", SEQUENCE_NAME);
+
+        writer.setDaemon(false);
+        writer.start();
+        log.info("채팅 메시지 write-behind 시작 - durability: {}, batchSize: {}",
+                syncAck ? "sync-ack" : "group-commit", batchSize);
+    }
+
+    /**
+     * 종료 시 큐에 남은 메시지를 모두 저장한 뒤 writer 종료
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+        if (!queue.isEmpty()) {
+            log.error("채팅 메시지 write-behind 종료 - 저장되지 않은 메시지 수: {}", queue.size());
+        }
+    }
+
+    /* ===================== 전송 ===================== */
+
+    /**
+     * 메시지 ID 할당 후 저장 큐에 적재
+     * - group-commit: 적재 즉시 반환
+     * - sync-ack: 배치 커밋까지(최대 ack-timeout-ms) 대기 후 반환
+     * @return 커밋 후 순번이 채워진 메시지로 완료되는 future (저장 실패 시 예외로 완료)
+     */
+    public CompletableFuture<ChatMessageDto> send(Long roomId, String senderId, String content,
+                                                  ChatMessage.MessageType messageType, String imageUrl,
+                                                  String clientMessageId) {
+        ChatRoomMembership membership = chatRoomMembershipCache.requireActiveParticipant(roomId, senderId);
+
+        // 재전송이면 원래 메시지 반환 (아직 저장 대기 중이면 원래 메시지의 future)
+        ChatMessageIdempotencyCache.validate(clientMessageId);
+        ChatMessageDto duplicate = chatMessageIdempotencyCache.get(roomId, senderId, clientMessageId);
+        if (duplicate != null) {
+            return CompletableFuture.completedFuture(duplicate);
+        }
+        PendingKey pendingKey = clientMessageId != null ? new PendingKey(roomId, senderId, clientMessageId) : null;
+        if (pendingKey != null) {
+            CompletableFuture<ChatMessageDto> pending = pendingSends.get(pendingKey);
+            if (pending != null) {
+                return pending;
+            }
+        }
+
+        User sender = userRepository.findByStudentId(senderId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + senderId));
+
+        boolean isBuyer = membership.isBuyer(senderId);
+
+        if (messageType == ChatMessage.MessageType.IMAGE && (imageUrl == null || imageUrl.isBlank())) {
+            throw new IllegalArgumentException("이미지 메시지는 imageUrl이 필수입니다");
+        }
+
+        // 배치 전체가 실패하지 않도록 저장 불가능한 값은 큐에 넣기 전에 거른다
+        String safeContent = content == null ? "" : content;
+        if (safeContent.getBytes(StandardCharsets.UTF_8).length > MAX_CONTENT_BYTES) {
+            throw new IllegalArgumentException("메시지가 너무 깁니다");
+        }
+
+        PendingMessage message = new PendingMessage(
+                nextMessageId(),
+                roomId,
+                senderId,
+                sender.getName(),
+                safeContent,
+                messageType,
+                imageUrl,
+                clientMessageId,
+                LocalDateTime.now(),
+                membership.counterpartOf(senderId),
+                isBuyer,
+                membership.postId(),
+                membership.postTitle(),
+                0L,
+                new CompletableFuture<>()
+        );
+
+        if (pendingKey != null) {
+            pendingSends.put(pendingKey, message.committed());
+            message.committed().whenComplete((sent, error) -> pendingSends.remove(pendingKey, message.committed()));
+        }
+        try {
+            enqueue(message);
+        } catch (RuntimeException e) {
+            message.committed().completeExceptionally(e);
+            throw e;
+        }
+        if (syncAck) {
+            awaitCommitted(message);
+        }
+        return message.committed();
+    }
+
+    /**
+     * 지금까지 큐에 들어간 메시지가 모두 저장될 때까지 대기 (히스토리 조회/읽음 처리 전 호출)
+     */
+    public void awaitPersisted() {
+        long target = enqueuedSeq.get();
+        long deadline = System.currentTimeMillis() + ackTimeoutMs;
+        synchronized (processedLock) {
+            while (processedSeq < target) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    log.warn("write-behind 저장 대기 시간 초과 - target: {}, processed: {}", target, processedSeq);
+                    return;
+                }
+                try {
+                    processedLock.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void enqueue(PendingMessage message) {
+        // 순번 부여와 적재를 한 번에 해야 processedSeq가 순서대로 증가함
+        synchronized (enqueuedSeq) {
+            PendingMessage queued = message.withQueueSeq(enqueuedSeq.get() + 1);
+            if (!queue.offer(queued)) {
+                throw new IllegalStateException("메시지 저장 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+            }
+            enqueuedSeq.incrementAndGet();
+        }
+    }
+
+    /**
+     * 커밋까지 대기 (실패/시간 초과도 future로 전달되므로 여기서는 예외를 던지지 않음)
+     * 시간이 초과돼도 커밋되면 그때 브로드캐스트됨
+     */
+    private void awaitCommitted(PendingMessage message) {
+        try {
+            message.committed().get(ackTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("메시지 저장 대기 시간 초과 - messageId: {}, roomId: {}", message.messageId(), message.roomId());
+        } catch (ExecutionException e) {
+            // 호출 측이 future로 처리
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /* ===================== 메시지 ID 할당 ===================== */
+
+    private long nextMessageId() {
+        synchronized (idLock) {
+            if (nextId >= idLimit) {
+                reserveIdBlock();
+            }
+            return nextId++;
+        }
+    }
+
+    /**
+     * chat_message_id_seq에서 ID 블록 예약
+     * - 기존 AUTO_INCREMENT로 저장된 메시지보다 큰 값부터 시작
+     * - LAST_INSERT_ID(expr)로 갱신 값을 같은 커넥션에서 읽어 여러 서버가 동시에 예약해도 겹치지 않음
+     */
+    private void reserveIdBlock() {
+        Long limit = transactionTemplate.execute(status -> {
+            jdbcTemplate.getJdbcTemplate().update(
+                    "UPDATE chat_message_id_seq SET next_id = LAST_INSERT_ID(" +
+                    "GREATEST(next_id, (SELECT COALESCE(MAX(message_id), 0) + 1 FROM chat_message)) + ?) " +
+                    "WHERE name = ?",
+                    idBlockSize, SEQUENCE_NAME);
+            return jdbcTemplate.getJdbcTemplate().queryForObject("SELECT LAST_INSERT_ID()", Long.class);
+        });
+        if (limit == null) {
+            throw new IllegalStateException("메시지 ID 할당에 실패했습니다");
+        }
+        nextId = limit - idBlockSize;
+        idLimit = limit;
+        log.debug("메시지 ID 블록 예약 - [{}, {})", nextId, idLimit);
+    }
+
+    /* ===================== 배치 저장 ===================== */
+
+    private void runWriter() {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingMessage first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // 이전 배치를 쓰는 동안 쌓인 메시지를 한 번에 가져와 같은 커밋으로 저장 (group commit)
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.error("채팅 메시지 writer 중단 - 남은 메시지 수: {}", queue.size());
+                return;
+            } catch (RuntimeException e) {
+                log.error("채팅 메시지 writer 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingMessage> batch) throws InterruptedException {
+        List<PendingMessage> written = null;
+        Map<Long, Long> roomSeqs = null;
+        for (int attempt = 1; attempt <= MAX_BATCH_ATTEMPTS; attempt++) {
+            try {
+                roomSeqs = transactionTemplate.execute(status -> write(batch));
+                written = batch;
+                break;
+            } catch (RuntimeException e) {
+                log.warn("채팅 메시지 배치 저장 실패 - size: {}, attempt: {}", batch.size(), attempt, e);
+                Thread.sleep(100L * attempt);
+            }
+        }
+
+        // 배치가 계속 실패하면 한 건씩 저장해 문제 메시지만 제외 (롤백된 메시지는 순번을 쓰지 않음)
+        if (written == null) {
+            written = new ArrayList<>(batch.size());
+            roomSeqs = new HashMap<>();
+            for (PendingMessage message : batch) {
+                try {
+                    roomSeqs.putAll(transactionTemplate.execute(status -> write(List.of(message))));
+                    written.add(message);
+                } catch (RuntimeException e) {
+                    if (e instanceof DataIntegrityViolationException && message.clientMessageId() != null) {
+                        // 캐시에서 빠진 재전송: 호출 측에서 원래 메시지를 조회
+                        log.info("중복 메시지 저장 생략 - roomId: {}, clientMessageId: {}",
+                                message.roomId(), message.clientMessageId());
+                    } else {
+                        log.error("채팅 메시지 저장 실패 (유실) - messageId: {}, roomId: {}",
+                                message.messageId(), message.roomId(), e);
+                    }
+                    message.committed().completeExceptionally(e);
+                }
+            }
+        }
+
+        markProcessed(batch.get(batch.size() - 1).queueSeq());
+        // 큐 순서대로 완료 → 같은 채팅방의 브로드캐스트 순서 유지
+        List<PendingMessage> delivered = new ArrayList<>(written.size());
+        for (PendingMessage message : written) {
+            Long roomSeq = roomSeqs.get(message.messageId());
+            if (roomSeq == null) {
+                // 큐에 넣은 뒤(또는 다른 서버에서) 비활성화된 채팅방: 이 서버의 참여자 캐시도 갱신
+                chatRoomMembershipCache.invalidate(message.roomId());
+                message.committed().completeExceptionally(
+                        new IllegalArgumentException("채팅방을 찾을 수 없습니다: " + message.roomId()));
+                continue;
+            }
+            delivered.add(message);
+            ChatMessageDto sent = message.toDto(roomSeq);
+            chatMessageIdempotencyCache.put(sent);
+            try {
+                message.committed().complete(sent);
+            } catch (RuntimeException e) {
+                log.warn("메시지 전송 후처리 실패 - messageId: {}", message.messageId(), e);
+            }
+        }
+        notifyReceivers(delivered);
+    }
+
+    /**
+     * 배치 저장 (트랜잭션 안에서 호출)
+     * @return messageId → 채팅방 순번 (비활성 채팅방 메시지는 저장하지 않아 빠짐)
+     */
+    private Map<Long, Long> write(List<PendingMessage> batch) {
+        // 채팅방/사용자별로 합산해 한 번씩만 갱신 (ID 순으로 잠가 다른 트랜잭션과 교착 방지)
+        Map<Long, RoomDelta> rooms = new TreeMap<>();
+        for (PendingMessage m : batch) {
+            rooms.computeIfAbsent(m.roomId(), id -> new RoomDelta()).add(m);
+        }
+
+        // 채팅방마다 메시지 수만큼 순번 구간 예약 (채팅방 행 잠금은 커밋까지 유지되어 다른 전송과 겹치지 않음)
+        Map<Long, Long> roomSeqs = new HashMap<>();
+        jdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement update = connection.prepareStatement(UPDATE_ROOM);
+                 Statement select = connection.createStatement()) {
+                for (Map.Entry<Long, RoomDelta> entry : rooms.entrySet()) {
+                    RoomDelta delta = entry.getValue();
+                    update.setInt(1, delta.messages.size());
+                    update.setInt(2, delta.unreadBuyer);
+                    update.setInt(3, delta.unreadSeller);
+                    update.setString(4, delta.lastMessage);
+                    update.setObject(5, delta.lastMessageTime);
+                    update.setLong(6, entry.getKey());
+                    if (update.executeUpdate() == 0) {
+                        // 비활성(또는 삭제된) 채팅방: 이 채팅방 메시지만 저장하지 않음 (순번 없음 → 전송 실패 처리)
+                        continue;
+                    }
+                    long lastSeq;
+                    try (ResultSet rs = select.executeQuery("SELECT LAST_INSERT_ID()")) {
+                        rs.next();
+                        lastSeq = rs.getLong(1);
+                    }
+                    long seq = lastSeq - delta.messages.size();
+                    for (PendingMessage m : delta.messages) {
+                        roomSeqs.put(m.messageId(), ++seq);
+                    }
+                }
+            }
+            return null;
+        });
+
+        List<PendingMessage> saved = batch.stream()
+                .filter(m -> roomSeqs.containsKey(m.messageId()))
+                .toList();
+        if (saved.isEmpty()) {
+            return roomSeqs;
+        }
+        Map<String, Integer> receivers = new TreeMap<>();
+        for (PendingMessage m : saved) {
+            receivers.merge(m.receiverId(), 1, Integer::sum);
+        }
+
+        jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_MESSAGE, saved, saved.size(), (ps, m) -> {
+            ps.setLong(1, m.messageId());
+            ps.setLong(2, m.roomId());
+            ps.setLong(3, roomSeqs.get(m.messageId()));
+            ps.setString(4, m.senderId());
+            ps.setString(5, m.senderName());
+            ps.setString(6, m.content());
+            ps.setString(7, m.messageType().name());
+            ps.setString(8, m.imageUrl());
+            ps.setString(9, m.clientMessageId());
+            ps.setObject(10, m.sentAt());
+        });
+
+        List<Object[]> userArgs = new ArrayList<>(receivers.size());
+        receivers.forEach((studentId, count) -> userArgs.add(new Object[]{studentId, count}));
+        jdbcTemplate.getJdbcTemplate().batchUpdate(INCREMENT_USER_UNREAD, userArgs);
+        return roomSeqs;
+    }
+
+    private void markProcessed(long seq) {
+        synchronized (processedLock) {
+            processedSeq = Math.max(processedSeq, seq);
+            processedLock.notifyAll();
+        }
+    }
+
+    /**
+     * 커밋된 메시지의 수신자에게 실시간 알림 전송 (전체 안읽은 수는 배치 반영 후 값)
+     */
+    private void notifyReceivers(List<PendingMessage> written) {
+        if (written.isEmpty()) {
+            return;
+        }
+
+        Map<String, Long> totals = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT student_id, unread_count FROM user_unread_count WHERE student_id IN (:ids)",
+                Map.of("ids", written.stream().map(PendingMessage::receiverId).distinct().toList()),
+                rs -> {
+                    totals.put(rs.getString("student_id"), rs.getLong("unread_count"));
+                });
+
+        for (PendingMessage m : written) {
+            if (m.messageType() == ChatMessage.MessageType.ENTER) {
+                continue;
+            }
+            try {
+                chatEventCoalescer.publishNotification(
+                        m.receiverId(),
+                        m.roomId(),
+                        m.postId(),
+                        m.postTitle(),
+                        m.senderName(),
+                        m.messageType() == ChatMessage.MessageType.IMAGE ? "사진" : m.content(),
+                        m.sentAt(),
+                        totals.getOrDefault(m.receiverId(), 0L)
+                );
+            } catch (RuntimeException e) {
+                log.warn("실시간 알림 전송 실패 - receiverId: {}", m.receiverId(), e);
+            }
+        }
+    }
+
+    /**
+     * 저장 대기 메시지
+     * @param receiverIsSeller 수신자가 판매자인지 (증가시킬 안읽은 수 컬럼)
+     * @param queueSeq 큐 적재 순번
+     * @param committed 커밋 후 브로드캐스트할 메시지로 완료
+     */
+    private record PendingMessage(
+            long messageId,
+            Long roomId,
+            String senderId,
+            String senderName,
+            String content,
+            ChatMessage.MessageType messageType,
+            String imageUrl,
+            String clientMessageId,
+            LocalDateTime sentAt,
+            String receiverId,
+            boolean receiverIsSeller,
+            Long postId,
+            String postTitle,
+            long queueSeq,
+            CompletableFuture<ChatMessageDto> committed
+    ) {
+        PendingMessage withQueueSeq(long newQueueSeq) {
+            return new PendingMessage(messageId, roomId, senderId, senderName, content, messageType, imageUrl,
+                    clientMessageId, sentAt, receiverId, receiverIsSeller, postId, postTitle, newQueueSeq, committed);
+        }
+
+        ChatMessageDto toDto(Long roomSeq) {
+            return ChatMessageDto.builder()
+                    .messageId(messageId)
+                    .roomId(roomId)
+                    .seq(roomSeq)
+                    .senderId(senderId)
+                    .senderName(senderName)
+                    .content(content)
+                    .messageType(messageType)
+                    .imageUrl(imageUrl)
+                    .clientMessageId(clientMessageId)
+                    .sentAt(sentAt)
+                    .isRead(false)
+                    .build();
+        }
+    }
+
+    private record PendingKey(Long roomId, String senderId, String clientMessageId) {
+    }
+
+    /**
+     * 배치 안에서 채팅방 하나에 반영할 변경분
+     */
+    private static final class RoomDelta {
+        private final List<PendingMessage> messages = new ArrayList<>();
+        private int unreadBuyer;
+        private int unreadSeller;
+        private String lastMessage;
+        private LocalDateTime lastMessageTime;
+
+        void add(PendingMessage m) {
+            messages.add(m);
+            if (m.receiverIsSeller()) {
+                unreadSeller++;
+            } else {
+                unreadBuyer++;
+            }
+            // ENTER 메시지는 최근 메시지로 표시하지 않음, 이미지는 "사진"
+            if (m.messageType() != ChatMessage.MessageType.ENTER) {
+                lastMessage = m.messageType() == ChatMessage.MessageType.IMAGE ? "사진" : m.content();
+                lastMessageTime = m.sentAt();
+            }
+        }
+    }
+}
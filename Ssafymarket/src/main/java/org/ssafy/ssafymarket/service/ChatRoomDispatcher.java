@@ -0,0 +1,157 @@
+package org.ssafy.ssafymarket.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 채팅방 단위 순서 보장 실행기
+ * - roomId 해시로 고정된 단일 스레드 레인에 배정하므로 같은 채팅방의 전송/읽음 처리는 들어온 순서대로 하나씩 실행
+ *   (chat_room 행의 최근 메시지/안읽은 수 갱신이 서로 잠금 대기하지 않음)
+ * - 다른 채팅방은 다른 레인에서 병렬 실행
+ * - 레인 대기열이 가득 차면 chat.dispatcher.submit-timeout-ms 동안 기다리고, 그래도 차 있으면 거부
+ *   (호출 스레드에서 직접 실행하면 순서가 깨지므로 caller-runs는 사용하지 않음)
+ */
+@Slf4j
+@Component
+public class ChatRoomDispatcher {
+
+    private final Lane[] lanes;
+    private final long submitTimeoutMs;
+
+    public ChatRoomDispatcher(@Value("${chat.dispatcher.lanes:0}") int laneCount,
+                              @Value("${chat.dispatcher.queue-capacity:1000}") int queueCapacity,
+                              @Value("${chat.dispatcher.submit-timeout-ms:1000}") long submitTimeoutMs) {
+        int count = laneCount > 0 ? laneCount : Runtime.getRuntime().availableProcessors() * 2;
+        this.lanes = new Lane[count];
+        for (int i = 0; i < count; i++) {
+            lanes[i] = new Lane("chat-room-lane-" + i, queueCapacity);
+        }
+        this.submitTimeoutMs = submitTimeoutMs;
+        log.info("채팅방 레인 실행기 시작 - 레인 수: {}, 레인별 대기열: {}", count, queueCapacity);
+    }
+
+    /**
+     * 채팅방 레인에서 비동기 실행 (실패는 로그만 남김)
+     */
+    public void execute(Long roomId, Runnable command) {
+        execute(roomId, command, e -> {
+        });
+    }
+
+    /**
+     * 채팅방 레인에서 비동기 실행
+     * 명령 실패와 레인 포화로 인한 거부는 onError로 전달 (요청한 사용자에게 오류를 알릴 때 사용)
+     */
+    public void execute(Long roomId, Runnable command, Consumer<RuntimeException> onError) {
+        try {
+            submit(roomId, () -> {
+                try {
+                    command.run();
+                } catch (RuntimeException e) {
+                    log.warn("채팅방 명령 처리 실패 - roomId: {}, {}", roomId, e.getMessage());
+                    notifyError(onError, e);
+                }
+            });
+        } catch (RuntimeException e) {
+            notifyError(onError, e);
+        }
+    }
+
+    /**
+     * 채팅방 레인에서 실행하고 결과를 기다림 (REST 요청처럼 응답이 필요한 경우)
+     * 명령에서 발생한 RuntimeException은 그대로 다시 던짐
+     */
+    public <T> T call(Long roomId, Supplier<T> command) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        submit(roomId, () -> {
+            try {
+                result.complete(command.get());
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void notifyError(Consumer<RuntimeException> onError, RuntimeException error) {
+        try {
+            onError.accept(error);
+        } catch (RuntimeException e) {
+            log.warn("채팅방 명령 오류 전달 실패", e);
+        }
+    }
+
+    private void submit(Long roomId, Runnable task) {
+        Lane lane = lanes[Math.floorMod(Long.hashCode(roomId), lanes.length)];
+        boolean accepted;
+        try {
+            accepted = lane.queue.offer(task, submitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("채팅방 처리 요청이 중단되었습니다");
+        }
+        if (!accepted) {
+            log.warn("채팅방 레인 포화로 요청 거부 - roomId: {}, lane: {}", roomId, lane.thread.getName());
+            throw new IllegalStateException("채팅 처리량이 많아 잠시 후 다시 시도해주세요");
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        for (Lane lane : lanes) {
+            lane.running = false;
+            lane.thread.interrupt();
+        }
+        for (Lane lane : lanes) {
+            lane.thread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    /**
+     * 단일 스레드 레인 (대기열에 남은 명령은 종료 시에도 모두 처리)
+     */
+    private static final class Lane {
+
+        private final BlockingQueue<Runnable> queue;
+        private final Thread thread;
+        private volatile boolean running = true;
+
+        Lane(String name, int queueCapacity) {
+            this.queue = new LinkedBlockingQueue<>(queueCapacity);
+            this.thread = new Thread(this::run, name);
+            this.thread.start();
+        }
+
+        private void run() {
+            while (running || !queue.isEmpty()) {
+                Runnable task;
+                try {
+                    task = queue.poll(1, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    // 종료 요청: 남은 명령을 처리하도록 루프 계속
+                    continue;
+                }
+                if (task != null) {
+                    task.run();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package org.ssafy.ssafymarket.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.ssafy.ssafymarket.dto.ChatRoomMembership;
+import org.ssafy.ssafymarket.repository.ChatRoomRepository;
+import org.ssafy.ssafymarket.util.TransactionHooks;
+
+import java.time.Duration;
+
+/**
+ * 채팅방 참여자 캐시 (roomId → 구매자/판매자/게시글/활성 여부)
+ * - 메시지 전송, 읽음 처리, 히스토리 조회마다 채팅방을 4중 JOIN FETCH로 다시 읽지 않도록 권한 확인에 사용
+ * - chat.room-cache.max-size / ttl 로 크기, 만료 시간 제한
+ * - 채팅방 생성/재활성화/나가기, 게시글 수정/삭제 시 무효화 (트랜잭션 안이면 커밋 후에도 한 번 더 무효화)
+ */
+@Slf4j
+@Component
+public class ChatRoomMembershipCache {
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final Cache<Long, ChatRoomMembership> cache;
+
+    public ChatRoomMembershipCache(ChatRoomRepository chatRoomRepository,
+                                   @Value("${chat.room-cache.max-size:10000}") long maxSize,
+                                   @Value("${chat.room-cache.ttl:10m}") Duration ttl) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * 채팅방 참여자 정보 조회 (캐시에 없으면 DB에서 조회)
+     */
+    public ChatRoomMembership get(Long roomId) {
+        ChatRoomMembership membership = cache.get(roomId,
+                id -> chatRoomRepository.findMembershipById(id).orElse(null));
+        if (membership == null) {
+            throw new IllegalArgumentException("채팅방을 찾을 수 없습니다: " + roomId);
+        }
+        return membership;
+    }
+
+    /**
+     * 채팅방 참여자인지 확인 (비활성 채팅방 포함)
+     */
+    public ChatRoomMembership requireParticipant(Long roomId, String userId) {
+        ChatRoomMembership membership = get(roomId);
+        if (!membership.isParticipant(userId)) {
+            throw new IllegalArgumentException("채팅방에 접근할 권한이 없습니다");
+        }
+        return membership;
+    }
+
+    /**
+     * 활성 채팅방의 참여자인지 확인 (메시지 전송/읽음 처리용)
+     */
+    public ChatRoomMembership requireActiveParticipant(Long roomId, String userId) {
+        ChatRoomMembership membership = get(roomId);
+        if (!membership.isActive()) {
+            throw new IllegalArgumentException("채팅방을 찾을 수 없습니다: " + roomId);
+        }
+        if (!membership.isParticipant(userId)) {
+            throw new IllegalArgumentException("채팅방에 접근할 권한이 없습니다");
+        }
+        return membership;
+    }
+
+    public void invalidate(Long roomId) {
+        // 커밋 전에 다른 요청이 이전 값을 다시 캐시에 올릴 수 있으므로 커밋 후 한 번 더 무효화
+        cache.invalidate(roomId);
+        TransactionHooks.afterCommit(() -> cache.invalidate(roomId));
+    }
+
+    /**
+     * 게시글의 채팅방 캐시 무효화 (게시글 제목 변경/삭제 시, 캐시 전체 순회)
+     */
+    public void invalidatePost(Long postId) {
+        Runnable task = () -> cache.asMap().values().removeIf(m -> m.postId().equals(postId));
+        task.run();
+        TransactionHooks.afterCommit(task);
+    }
+}
@@ -23,6 +23,7 @@ public class ChatRoomService {
     private final ChatRoomRepository chatRoomRepository;
     private final UserRepository userRepository;
     private final PostRepository postRepository;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
 
     /**
      * 채팅방 생성 또는 기존 채팅방 반환
@@ -45,6 +46,7 @@ public class ChatRoomService {
 			.map(room -> {
 				if(room.getActivity()==0){
 					room.setActivity(1);
+					chatRoomMembershipCache.invalidate(room.getRoomId());
 				}
 				return room;
 			})
@@ -137,6 +139,7 @@ public class ChatRoomService {
         // 채팅방 비활성화 (soft delete)
         chatRoom.setActivity(0);
         chatRoomRepository.save(chatRoom);
+        chatRoomMembershipCache.invalidate(roomId);
 
         log.info("채팅방 나가기 완료 - roomId: {}, userId: {}, postId: {}",
                 roomId, userId, post.getPostId());
@@ -2,21 +2,25 @@ package org.ssafy.ssafymarket.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.ssafy.ssafymarket.dto.ChatMessageDto;
+import org.ssafy.ssafymarket.dto.ChatReadWatermark;
+import org.ssafy.ssafymarket.dto.ChatRoomMembership;
 import org.ssafy.ssafymarket.entity.ChatMessage;
-import org.ssafy.ssafymarket.entity.ChatRoom;
 import org.ssafy.ssafymarket.entity.User;
 import org.ssafy.ssafymarket.repository.ChatMessageRepository;
 import org.ssafy.ssafymarket.repository.ChatRoomRepository;
 import org.ssafy.ssafymarket.repository.UserRepository;
+import org.ssafy.ssafymarket.repository.UserUnreadCountRepository;
+import org.ssafy.ssafymarket.util.TransactionHooks;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -27,89 +31,118 @@ public class ChatService {
     private final ChatMessageRepository chatMessageRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final UserRepository userRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final UserUnreadCountRepository userUnreadCountRepository;
+    private final ObjectProvider<ChatMessageWriteBehind> writeBehindProvider;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+    private final ChatEventCoalescer chatEventCoalescer;
+    private final ChatMessageIdempotencyCache chatMessageIdempotencyCache;
 
     /**
      * 메시지 전송 및 저장 (이미지 지원)
+     * - clientMessageId가 있으면 같은 값으로 다시 보낸 요청은 저장/카운트/알림 없이 원래 메시지를 반환
+     * - 캐시에 없는 재시도는 유니크 인덱스 위반(DataIntegrityViolationException)으로 실패하므로
+     *   호출 측에서 findSentMessage로 원래 메시지를 조회
      */
     @Transactional
     public ChatMessageDto sendMessage(Long roomId, String senderId, String content,
-                                       ChatMessage.MessageType messageType, String imageUrl) {
-        // 채팅방 조회 (Fetch Join으로 성능 최적화)
-        ChatRoom chatRoom = chatRoomRepository.findByIdWithFetch(roomId)
-                .orElseThrow(() -> new IllegalArgumentException("채팅방을 찾을 수 없습니다: " + roomId));
+                                       ChatMessage.MessageType messageType, String imageUrl,
+                                       String clientMessageId) {
+        // 권한 확인 (참여자 캐시, DB 조회 없음)
+        ChatRoomMembership membership = chatRoomMembershipCache.requireActiveParticipant(roomId, senderId);
+
+        // 재전송이면 원래 메시지 반환
+        ChatMessageIdempotencyCache.validate(clientMessageId);
+        ChatMessageDto duplicate = chatMessageIdempotencyCache.get(roomId, senderId, clientMessageId);
+        if (duplicate != null) {
+            log.info("중복 메시지 전송 무시 - roomId: {}, sender: {}, clientMessageId: {}",
+                    roomId, senderId, clientMessageId);
+            return duplicate;
+        }
 
         // 발신자 조회
         User sender = userRepository.findByStudentId(senderId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + senderId));
 
-        // 권한 확인
-        if (!chatRoom.getBuyer().getStudentId().equals(senderId) &&
-            !chatRoom.getSeller().getStudentId().equals(senderId)) {
-            throw new IllegalArgumentException("채팅방에 메시지를 보낼 권한이 없습니다");
-        }
-
         // IMAGE 타입 검증
         if (messageType == ChatMessage.MessageType.IMAGE && (imageUrl == null || imageUrl.isBlank())) {
             throw new IllegalArgumentException("이미지 메시지는 imageUrl이 필수입니다");
         }
 
-        // 메시지 저장
+        // 채팅방 메시지 순번 할당 (last_seq 원자적 증가, 이후 커밋까지 채팅방 행 잠금 유지)
+        // 비활성 채팅방이면 갱신되지 않음 (참여자 캐시는 서버마다 따로라 다른 서버의 비활성화를 모를 수 있음)
+        // LAST_INSERT_ID()는 메시지 INSERT로 덮어써지므로 저장 전에 바로 읽음
+        if (chatRoomRepository.incrementLastSeq(roomId) == 0) {
+            chatRoomMembershipCache.invalidate(roomId);
+            throw new IllegalArgumentException("채팅방을 찾을 수 없습니다: " + roomId);
+        }
+        long seq = chatRoomRepository.findLastInsertId();
+
+        // 메시지 저장 (채팅방은 FK 참조만 필요하므로 프록시 사용)
         ChatMessage message = ChatMessage.builder()
-                .chatRoom(chatRoom)
+                .chatRoom(chatRoomRepository.getReferenceById(roomId))
+                .seq(seq)
                 .sender(sender)
                 .senderName(sender.getName())
                 .content(content)
                 .messageType(messageType)
                 .imageUrl(imageUrl)
+                .clientMessageId(clientMessageId)
                 .isRead(false)
                 .build();
 
         ChatMessage savedMessage = chatMessageRepository.save(message);
 
-        // 채팅방 최근 메시지 업데이트 (ENTER 타입은 제외, 이미지는 "사진"으로 표시)
+        // 안읽은 메시지 카운트 증가 + 채팅방 최근 메시지 업데이트 (ENTER 타입은 제외, 이미지는 "사진"으로 표시)
+        // 엔티티를 읽고 더해서 저장하면 동시 전송 시 증가분이 유실되므로 UPDATE 한 번으로 원자적으로 처리
+        String lastMessagePreview = null;
+        LocalDateTime lastMessageTime = null;
         if (messageType != ChatMessage.MessageType.ENTER) {
-            String lastMessagePreview = messageType == ChatMessage.MessageType.IMAGE ? "사진" : content;
-            chatRoom.setLastMessage(lastMessagePreview);
-            chatRoom.setLastMessageTime(savedMessage.getSentAt());
+            lastMessagePreview = messageType == ChatMessage.MessageType.IMAGE ? "사진" : content;
+            lastMessageTime = savedMessage.getSentAt();
         }
 
-        // 안읽은 메시지 카운트 증가
-        boolean isBuyer = chatRoom.getBuyer().getStudentId().equals(senderId);
+        boolean isBuyer = membership.isBuyer(senderId);
+        String receiverId = membership.counterpartOf(senderId);
         if (isBuyer) {
-            chatRoom.setUnreadSeller(chatRoom.getUnreadSeller() + 1);
+            chatRoomRepository.incrementUnreadSeller(roomId, lastMessagePreview, lastMessageTime);
         } else {
-            chatRoom.setUnreadBuyer(chatRoom.getUnreadBuyer() + 1);
+            chatRoomRepository.incrementUnreadBuyer(roomId, lastMessagePreview, lastMessageTime);
         }
-
-        chatRoomRepository.save(chatRoom);
+        userUnreadCountRepository.increment(receiverId);
 
         log.info("메시지 저장 - roomId: {}, sender: {}, type: {}, hasImage: {}",
                 roomId, senderId, messageType, imageUrl != null);
 
         // 상대방에게 실시간 알림 전송 (ENTER 메시지는 제외)
+        // 같은 채팅방의 연속 메시지는 병합해 한 번만 보내고, 전체 안읽은 수도 전송 시점에 한 번만 조회
+        // 커밋 후 전송 (롤백된 메시지 알림 방지, 전송 시점의 안읽은 수 조회가 커밋된 값을 읽도록)
         if (messageType != ChatMessage.MessageType.ENTER) {
-            String receiverId = isBuyer ? chatRoom.getSeller().getStudentId() : chatRoom.getBuyer().getStudentId();
-            long receiverUnreadCount = chatMessageRepository.countTotalUnreadMessages(receiverId);
-
-            messagingTemplate.convertAndSendToUser(
+            String preview = messageType == ChatMessage.MessageType.IMAGE ? "사진" : content;
+            LocalDateTime sentAt = savedMessage.getSentAt();
+            TransactionHooks.afterCommit(() -> chatEventCoalescer.publishNotification(
                     receiverId,
-                    "/queue/notification",
-                    java.util.Map.of(
-                            "roomId", roomId,
-                            "postId", chatRoom.getPost().getPostId(),
-                            "postTitle", chatRoom.getPost().getTitle(),
-                            "senderName", sender.getName(),
-                            "content", messageType == ChatMessage.MessageType.IMAGE ? "사진" : content,
-                            "totalUnreadCount", receiverUnreadCount,
-                            "timestamp", savedMessage.getSentAt()
-                    )
-            );
-
-            log.info("실시간 알림 전송 - receiverId: {}, totalUnreadCount: {}", receiverId, receiverUnreadCount);
+                    roomId,
+                    membership.postId(),
+                    membership.postTitle(),
+                    sender.getName(),
+                    preview,
+                    sentAt,
+                    null
+            ));
         }
 
-        return ChatMessageDto.fromEntity(savedMessage);
+        ChatMessageDto sent = ChatMessageDto.fromEntity(savedMessage);
+        chatMessageIdempotencyCache.put(sent);
+        return sent;
+    }
+
+    /**
+     * 메시지 전송 및 저장 (clientMessageId 없음)
+     */
+    @Transactional
+    public ChatMessageDto sendMessage(Long roomId, String senderId, String content,
+                                       ChatMessage.MessageType messageType, String imageUrl) {
+        return sendMessage(roomId, senderId, content, messageType, imageUrl, null);
     }
 
     /**
@@ -118,11 +151,26 @@ public class ChatService {
     @Transactional
     public ChatMessageDto sendMessage(Long roomId, String senderId, String content,
                                        ChatMessage.MessageType messageType) {
-        return sendMessage(roomId, senderId, content, messageType, null);
+        return sendMessage(roomId, senderId, content, messageType, null, null);
+    }
+
+    /**
+     * clientMessageId로 이미 저장된 메시지 조회 (캐시 만료 후 재시도, 다른 서버에서 저장된 경우)
+     */
+    @Transactional(readOnly = true)
+    public Optional<ChatMessageDto> findSentMessage(Long roomId, String senderId, String clientMessageId) {
+        return chatMessageRepository
+                .findByChatRoom_RoomIdAndSender_StudentIdAndClientMessageId(roomId, senderId, clientMessageId)
+                .map(message -> {
+                    ChatMessageDto sent = toDtos(roomId, List.of(message)).get(0);
+                    chatMessageIdempotencyCache.put(sent);
+                    return sent;
+                });
     }
 
     /**
      * 채팅방 메시지 히스토리 조회 (페이징)
+     * - write-behind 모드면 호출 전에 awaitPendingMessages()
      */
     @Transactional(readOnly = true)
     public List<ChatMessageDto> getMessages(Long roomId, int page, int size) {
@@ -130,49 +178,118 @@ public class ChatService {
         List<ChatMessage> messages = chatMessageRepository
                 .findByChatRoom_RoomIdOrderBySentAtDesc(roomId, pageable);
 
+        return toDtos(roomId, messages);
+    }
+
+    /**
+     * 채팅방 메시지 커서 조회 (OFFSET 없이 messageId 기준)
+     * - before, after 모두 없으면 최근 메시지 (최신순)
+     * - before: 해당 메시지보다 이전 메시지 (최신순, 위로 스크롤)
+     * - after: 해당 메시지보다 이후 메시지 (오래된순, 재연결 시 놓친 메시지만 조회)
+     */
+    @Transactional(readOnly = true)
+    public List<ChatMessageDto> getMessages(Long roomId, Long before, Long after, int size) {
+        if (before != null && after != null) {
+            throw new IllegalArgumentException("before와 after는 함께 사용할 수 없습니다");
+        }
+
+        Pageable pageable = PageRequest.of(0, size);
+        List<ChatMessage> messages;
+        if (before != null) {
+            messages = chatMessageRepository.findBefore(roomId, before, pageable);
+        } else if (after != null) {
+            messages = chatMessageRepository.findAfter(roomId, after, pageable);
+        } else {
+            messages = chatMessageRepository.findByChatRoom_RoomIdOrderByMessageIdDesc(roomId, pageable);
+        }
+
+        return toDtos(roomId, messages);
+    }
+
+    /**
+     * 순번(seq) 이후 메시지 조회 (재연결 시 누락 구간 동기화, 순번순)
+     * @param afterSeq 클라이언트가 마지막으로 받은 순번 (처음이면 0)
+     */
+    @Transactional(readOnly = true)
+    public List<ChatMessageDto> getMessagesAfterSeq(Long roomId, long afterSeq, int size) {
+        if (afterSeq < 0) {
+            throw new IllegalArgumentException("afterSeq는 0 이상이어야 합니다");
+        }
+        List<ChatMessage> messages = chatMessageRepository.findAfterSeq(roomId, afterSeq, PageRequest.of(0, size));
+        return toDtos(roomId, messages);
+    }
+
+    /**
+     * 채팅방 마지막 메시지 순번
+     */
+    @Transactional(readOnly = true)
+    public long getLastSeq(Long roomId) {
+        return chatRoomRepository.findLastSeq(roomId).orElse(0L);
+    }
+
+    /**
+     * 메시지 DTO 변환 (읽음 여부는 상대방의 읽음 워터마크로 계산)
+     */
+    private List<ChatMessageDto> toDtos(Long roomId, List<ChatMessage> messages) {
+        if (messages.isEmpty()) {
+            return List.of();
+        }
+        String buyerId = chatRoomMembershipCache.get(roomId).buyerId();
+        ChatReadWatermark watermark = chatRoomRepository.findReadWatermark(roomId)
+                .orElse(ChatReadWatermark.NONE);
+
         return messages.stream()
-                .map(ChatMessageDto::fromEntity)
+                .map(message -> {
+                    ChatMessageDto dto = ChatMessageDto.fromEntity(message);
+                    boolean sentByBuyer = buyerId.equals(dto.getSenderId());
+                    dto.setIsRead(watermark.isReadByCounterpart(message.getMessageId(), sentByBuyer));
+                    return dto;
+                })
                 .collect(Collectors.toList());
     }
 
     /**
      * 메시지 읽음 처리
+     * - 메시지마다 is_read를 갱신하지 않고, 채팅방의 내 읽음 워터마크를 최근 메시지 ID로 옮김 (한 행 UPDATE)
+     * - 호출 전에 awaitPendingMessages()로 큐에 남은 메시지까지 저장해 워터마크가 방금 보낸 메시지를 포함하도록 함
      */
     @Transactional
     public void markMessagesAsRead(Long roomId, String userId) {
-        ChatRoom chatRoom = chatRoomRepository.findByIdWithFetch(roomId)
-                .orElseThrow(() -> new IllegalArgumentException("채팅방을 찾을 수 없습니다: " + roomId));
+        ChatRoomMembership membership = chatRoomMembershipCache.requireActiveParticipant(roomId, userId);
 
-        // 안읽은 메시지 읽음 처리
-        int updatedCount = chatMessageRepository.markMessagesAsRead(roomId, userId);
+        // 채팅방 행을 먼저 잠가 그 사이 전송된 메시지의 증가분과 워터마크 위치가 어긋나지 않게 함
+        boolean isBuyer = membership.isBuyer(userId);
+        int cleared = isBuyer
+                ? chatRoomRepository.findUnreadBuyerForUpdate(roomId)
+                : chatRoomRepository.findUnreadSellerForUpdate(roomId);
 
-        // 안읽은 메시지 카운트 초기화
-        boolean isBuyer = chatRoom.getBuyer().getStudentId().equals(userId);
-        if (isBuyer) {
-            chatRoom.setUnreadBuyer(0);
-        } else {
-            chatRoom.setUnreadSeller(0);
+        Long lastMessageId = chatMessageRepository.findLastMessageId(roomId);
+        if (lastMessageId == null) {
+            return;
+        }
+
+        // 읽음 워터마크 전진 + 안읽은 수 초기화 (해당 컬럼만 UPDATE) + 사용자 전체 안읽은 수에서 차감
+        // 이미 최근 메시지까지 읽은 상태면 갱신/알림 없음
+        int updated = isBuyer
+                ? chatRoomRepository.markReadByBuyer(roomId, lastMessageId)
+                : chatRoomRepository.markReadBySeller(roomId, lastMessageId);
+        if (updated == 0) {
+            return;
+        }
+        if (cleared > 0) {
+            userUnreadCountRepository.decrement(userId, cleared);
         }
 
-        chatRoomRepository.save(chatRoom);
-
-        log.info("메시지 읽음 처리 - roomId: {}, userId: {}, count: {}", roomId, userId, updatedCount);
-
-        // 상대방에게 읽음 알림 전송
-        String otherUserId = isBuyer ? chatRoom.getSeller().getStudentId() : chatRoom.getBuyer().getStudentId();
-        messagingTemplate.convertAndSendToUser(
-                otherUserId,
-                "/queue/read",
-                ChatMessageDto.builder()
-                        .roomId(roomId)
-                        .messageType(ChatMessage.MessageType.SYSTEM)
-                        .content("상대방이 메시지를 읽었습니다")
-                        .build()
-        );
+        log.info("메시지 읽음 처리 - roomId: {}, userId: {}, lastReadMessageId: {}, count: {}",
+                roomId, userId, lastMessageId, cleared);
+
+        // 상대방에게 읽음 알림 전송 (lastReadMessageId 이하의 내 메시지를 읽음으로 표시, 연속 읽음은 병합)
+        // 커밋 후 전송 (롤백된 읽음 처리가 상대방에게 보이지 않도록)
+        TransactionHooks.afterCommit(() -> chatEventCoalescer.publishReadReceipt(membership.counterpartOf(userId), roomId, lastMessageId));
     }
 
     /**
-     * 안읽은 메시지 개수 조회
+     * 안읽은 메시지 개수 조회 (읽음 워터마크 이후 상대방 메시지 수)
      */
     @Transactional(readOnly = true)
     public long getUnreadCount(Long roomId, String userId) {
@@ -180,10 +297,19 @@ public class ChatService {
     }
 
     /**
-     * 전체 안읽은 메시지 개수 조회
+     * 전체 안읽은 메시지 개수 조회 (user_unread_count PK 조회)
      */
     @Transactional(readOnly = true)
     public long getTotalUnreadCount(String userId) {
-        return chatMessageRepository.countTotalUnreadMessages(userId);
+        return userUnreadCountRepository.findUnreadCount(userId).orElse(0);
+    }
+
+    /**
+     * write-behind 모드에서 큐에 남은 메시지 저장 대기 (조회/읽음 결과에 방금 보낸 메시지가 빠지지 않게 함)
+     * - 메시지 조회와 읽음 처리 전에 트랜잭션 밖에서 호출
+     *   (커넥션을 잡은 채 기다리면 writer가 REQUIRES_NEW 커넥션을 얻지 못해 풀이 고갈될 수 있음)
+     */
+    public void awaitPendingMessages() {
+        writeBehindProvider.ifAvailable(ChatMessageWriteBehind::awaitPersisted);
     }
 }
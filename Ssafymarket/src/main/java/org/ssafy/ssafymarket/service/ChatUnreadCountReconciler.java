@@ -0,0 +1,91 @@
+package org.ssafy.ssafymarket.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.ssafy.ssafymarket.repository.ChatRoomRepository;
+import org.ssafy.ssafymarket.repository.UserUnreadCountRepository;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 채팅방/사용자별 안읽은 메시지 수 보정 작업
+ * - 메시지 전송/읽음 처리 시 원자적 증감으로 유지되지만, 어긋난 값을 읽음 워터마크 기준으로 다시 계산한다
+ *   (채팅방 안읽은 수 → 해당 채팅방 참여자의 전체 안읽은 수 순서)
+ * - 애플리케이션 시작 시에는 읽음 워터마크 초기값만 적재
+ * - 전체 보정은 관리자 요청(POST /api/admin/chat/unread-count/reconcile) 또는
+ *   chat.unread-count.reconcile-cron 지정 시에만 실행 (기본 비활성화)
+ * - room_id 구간마다 짧은 트랜잭션으로 나눠 실행해 한 번에 잠그는 채팅방을 제한
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatUnreadCountReconciler {
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final UserUnreadCountRepository userUnreadCountRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 동시에 한 번만 실행 (스케줄과 관리자 요청이 겹치지 않게)
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${chat.unread-count.reconcile-chunk-size:500}")
+    private int chunkSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillOnStartup() {
+        int backfilled = chatRoomRepository.backfillReadWatermarks();
+        if (backfilled > 0) {
+            log.info("읽음 워터마크 초기값 적재 - 채팅방 수: {}", backfilled);
+        }
+    }
+
+    @Scheduled(cron = "${chat.unread-count.reconcile-cron:-}")
+    public void reconcileScheduled() {
+        reconcile();
+    }
+
+    /**
+     * 전체 보정 (room_id 구간별 트랜잭션)
+     * @return 보정한 채팅방/사용자 변경 행 수 (이미 실행 중이면 IllegalStateException)
+     */
+    public Map<String, Object> reconcile() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("안읽은 메시지 수 보정이 이미 실행 중입니다");
+        }
+        try {
+            long maxRoomId = chatRoomRepository.findMaxRoomId();
+            int rooms = 0;
+            int users = 0;
+            for (long start = 1; start <= maxRoomId; start += chunkSize) {
+                long fromId = start;
+                long toId = start + chunkSize;
+                int[] affected = transactionTemplate.execute(status -> new int[] {
+                        chatRoomRepository.reconcileRoomUnreadCounts(fromId, toId),
+                        userUnreadCountRepository.reconcileUnreadCounts(fromId, toId)
+                });
+                rooms += affected[0];
+                users += affected[1];
+            }
+            log.info("안읽은 메시지 수 보정 완료 - 최대 roomId: {}, 채팅방 변경 행 수: {}, 사용자 변경 행 수: {}",
+                    maxRoomId, rooms, users);
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("maxRoomId", maxRoomId);
+            result.put("rooms", rooms);
+            result.put("users", users);
+            return result;
+        } finally {
+            running.set(false);
+        }
+    }
+}
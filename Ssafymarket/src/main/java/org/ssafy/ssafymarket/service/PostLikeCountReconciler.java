@@ -0,0 +1,40 @@
+package org.ssafy.ssafymarket.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.ssafy.ssafymarket.repository.PostRepository;
+
+/**
+ * Post.likeCount 보정 작업
+ * - 좋아요 추가/취소 시 원자적 증감으로 유지되지만, 직접 SQL 수정 등으로 어긋난 값을 post_like 기준으로 맞춘다
+ * - 애플리케이션 시작 시 1회, 이후 post.like-count.reconcile-cron 주기로 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostLikeCountReconciler {
+
+	private final PostRepository postRepository;
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional
+	public void reconcileOnStartup() {
+		reconcile();
+	}
+
+	@Scheduled(cron = "${post.like-count.reconcile-cron:0 0 4 * * *}")
+	@Transactional
+	public void reconcile() {
+		int fixed = postRepository.reconcileLikeCounts();
+		if (fixed > 0) {
+			log.warn("좋아요 수 보정 완료 - 보정된 게시글 수: {}", fixed);
+		} else {
+			log.debug("좋아요 수 보정 - 어긋난 게시글 없음");
+		}
+	}
+}
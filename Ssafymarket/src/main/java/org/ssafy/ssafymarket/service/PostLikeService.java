@@ -6,12 +6,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.ssafy.ssafymarket.entity.Post;
 import org.ssafy.ssafymarket.entity.PostLike;
+import org.ssafy.ssafymarket.entity.User;
 import org.ssafy.ssafymarket.repository.PostLikeRepository;
 import org.ssafy.ssafymarket.repository.PostRepository;
+import org.ssafy.ssafymarket.search.PostSearchIndexer;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,6 +25,8 @@ public class PostLikeService {
 
 	private final PostRepository postRepository;
 	private final PostLikeRepository postLikeRepository;
+	private final PostListLoader postListLoader;
+	private final PostSearchIndexer postSearchIndexer;
 
 	/* ===================== 좋아요 추가 ===================== */
 
@@ -42,8 +47,10 @@ public class PostLikeService {
 			.build();
 
 		postLikeRepository.save(postLike);
+		postRepository.incrementLikeCount(postId);
 
-		long likeCount = postLikeRepository.countByPostId(postId);
+		long likeCount = postRepository.findLikeCountByPostId(postId);
+		postSearchIndexer.likeCountChanged(postId, (int) likeCount);
 
 		log.info("좋아요 추가 - postId: {}, userId: {}, likeCount: {}", postId, studentId, likeCount);
 
@@ -63,8 +70,10 @@ public class PostLikeService {
 			.orElseThrow(() -> new IllegalArgumentException("좋아요하지 않은 게시글입니다."));
 
 		postLikeRepository.delete(postLike);
+		postRepository.decrementLikeCount(postId);
 
-		long likeCount = postLikeRepository.countByPostId(postId);
+		long likeCount = postRepository.findLikeCountByPostId(postId);
+		postSearchIndexer.likeCountChanged(postId, (int) likeCount);
 
 		log.info("좋아요 취소 - postId: {}, userId: {}, likeCount: {}", postId, studentId, likeCount);
 
@@ -81,11 +90,19 @@ public class PostLikeService {
 
 		List<PostLike> likes = postLikeRepository.findByUserId(studentId);
 
+		// 좋아요마다 게시글을 지연 로딩하지 않도록 한 번에 조회
+		Map<Long, Post> postsById = postRepository.findAllById(
+				likes.stream().map(PostLike::getPostId).toList()).stream()
+			.collect(Collectors.toMap(Post::getPostId, post -> post));
+		List<Post> posts = likes.stream()
+			.map(like -> postsById.get(like.getPostId()))
+			.filter(Objects::nonNull)
+			.toList();
+		PostListLoader.PostListBatch batch = postListLoader.load(posts);
+
 		List<Map<String, Object>> postList = likes.stream()
-			.map(like -> {
-				Post post = like.getPost();
-				return convertPostToMap(post, like);
-			})
+			.filter(like -> postsById.containsKey(like.getPostId()))
+			.map(like -> convertPostToMap(postsById.get(like.getPostId()), like, batch))
 			.collect(Collectors.toList());
 
 		log.info("관심목록 조회 - userId: {}, count: {}", studentId, postList.size());
@@ -105,7 +122,10 @@ public class PostLikeService {
 
 	/* ===================== 헬퍼 ===================== */
 
-	private Map<String, Object> convertPostToMap(Post post, PostLike like) {
+	private Map<String, Object> convertPostToMap(Post post, PostLike like, PostListLoader.PostListBatch batch) {
+		String thumbnailUrl = batch.thumbnailUrl(post);
+		User writer = batch.writer(post);
+
 		Map<String, Object> map = new HashMap<>();
 		map.put("postId", post.getPostId());
 		map.put("title", post.getTitle());
@@ -115,13 +135,13 @@ public class PostLikeService {
 		map.put("status", post.getStatus());
 		map.put("createdAt", post.getCreatedAt());
 		map.put("likedAt", like.getLikedAt());
-		map.put("thumbnailUrl", post.getThumbnailUrl() != null ? post.getThumbnailUrl() : "");
-		map.put("imageUrls", post.getImageUrls());
-		map.put("likeCount", postLikeRepository.countByPostId(post.getPostId()));
+		map.put("thumbnailUrl", thumbnailUrl != null ? thumbnailUrl : "");
+		map.put("imageUrls", batch.imageUrls(post));
+		map.put("likeCount", batch.likeCount(post));
 		map.put("chatRoomCount", post.getChatRoomCount());
 		map.put("writer", Map.of(
-			"studentId", post.getWriter().getStudentId(),
-			"name", post.getWriter().getName()
+			"studentId", writer.getStudentId(),
+			"name", writer.getName()
 		));
 		return map;
 	}
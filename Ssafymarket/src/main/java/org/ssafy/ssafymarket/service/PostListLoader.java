@@ -0,0 +1,124 @@
+package org.ssafy.ssafymarket.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.ssafy.ssafymarket.entity.Post;
+import org.ssafy.ssafymarket.entity.User;
+import org.ssafy.ssafymarket.repository.ChatRoomRepository;
+import org.ssafy.ssafymarket.repository.PostImageRepository;
+import org.ssafy.ssafymarket.repository.UserRepository;
+
+import java.util.*;
+
+/**
+ * 게시글 목록 응답용 연관 데이터 일괄 조회
+ * - 게시글마다 COUNT/지연로딩 쿼리를 날리지 않고, 한 페이지 분량을 고정된 개수의 그룹 쿼리로 가져온다
+ * - 채팅방 수, 작성자/구매자, 이미지 URL (좋아요 수는 Post.likeCount 컬럼 사용)
+ * - 이미지는 썸네일 변형을 우선 사용 (원본은 상세 조회에서 제공)
+ */
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostListLoader {
+
+	private final ChatRoomRepository chatRoomRepository;
+	private final PostImageRepository postImageRepository;
+	private final UserRepository userRepository;
+
+	/**
+	 * 게시글 목록에 필요한 연관 데이터를 한 번에 조회
+	 * @param posts 한 페이지 분량의 게시글
+	 * @return 게시글 ID 기준으로 조회 가능한 배치 결과
+	 */
+	public PostListBatch load(Collection<Post> posts) {
+		if (posts.isEmpty()) {
+			return PostListBatch.EMPTY;
+		}
+
+		List<Long> postIds = new ArrayList<>(posts.size());
+		Set<String> userIds = new HashSet<>();
+		for (Post post : posts) {
+			postIds.add(post.getPostId());
+			// 프록시의 식별자 접근은 초기화를 일으키지 않음
+			if (post.getWriter() != null) userIds.add(post.getWriter().getStudentId());
+			if (post.getBuyer() != null) userIds.add(post.getBuyer().getStudentId());
+		}
+
+		Map<Long, Long> chatRoomCounts = toCountMap(chatRoomRepository.countByPostIds(postIds));
+
+		Map<Long, List<String>> imageUrls = new HashMap<>();
+		for (Object[] row : postImageRepository.findImageUrlsByPostIds(postIds)) {
+			// 썸네일 변형이 있으면 썸네일 사용 (목록 타일에서 원본을 내려받지 않도록)
+			String url = row[2] != null ? (String) row[2] : (String) row[1];
+			imageUrls.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add(url);
+		}
+
+		Map<String, User> users = new HashMap<>();
+		for (User user : userRepository.findAllById(userIds)) {
+			users.put(user.getStudentId(), user);
+		}
+
+		return new PostListBatch(chatRoomCounts, imageUrls, users);
+	}
+
+	private Map<Long, Long> toCountMap(List<Object[]> rows) {
+		Map<Long, Long> counts = new HashMap<>();
+		for (Object[] row : rows) {
+			counts.put((Long) row[0], ((Number) row[1]).longValue());
+		}
+		return counts;
+	}
+
+	/**
+	 * 일괄 조회 결과
+	 */
+	public static class PostListBatch {
+
+		static final PostListBatch EMPTY =
+			new PostListBatch(Map.of(), Map.of(), Map.of());
+
+		private final Map<Long, Long> chatRoomCounts;
+		private final Map<Long, List<String>> imageUrls;
+		private final Map<String, User> users;
+
+		private PostListBatch(Map<Long, Long> chatRoomCounts,
+			Map<Long, List<String>> imageUrls,
+			Map<String, User> users) {
+			this.chatRoomCounts = chatRoomCounts;
+			this.imageUrls = imageUrls;
+			this.users = users;
+		}
+
+		public long likeCount(Post post) {
+			return post.getLikeCount() != null ? post.getLikeCount() : 0L;
+		}
+
+		public long chatRoomCount(Post post) {
+			return chatRoomCounts.getOrDefault(post.getPostId(), 0L);
+		}
+
+		/**
+		 * 이미지 URL 목록 (imageOrder 순, 썸네일이 있으면 썸네일 URL)
+		 */
+		public List<String> imageUrls(Post post) {
+			return imageUrls.getOrDefault(post.getPostId(), List.of());
+		}
+
+		/**
+		 * 대표 이미지 URL (첫 번째 이미지, 없으면 기존 imageUrl 컬럼)
+		 */
+		public String thumbnailUrl(Post post) {
+			List<String> urls = imageUrls(post);
+			return urls.isEmpty() ? post.getImageUrl() : urls.get(0);
+		}
+
+		public User writer(Post post) {
+			return post.getWriter() == null ? null : users.get(post.getWriter().getStudentId());
+		}
+
+		public User buyer(Post post) {
+			return post.getBuyer() == null ? null : users.get(post.getBuyer().getStudentId());
+		}
+	}
+}
@@ -6,13 +6,20 @@ import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import org.ssafy.ssafymarket.dto.ImageUploadPresignRequest;
 import org.ssafy.ssafymarket.dto.PostCreateRequest;
+import org.ssafy.ssafymarket.dto.PostCursor;
+import org.ssafy.ssafymarket.dto.PostSort;
 import org.ssafy.ssafymarket.entity.Post;
 import org.ssafy.ssafymarket.entity.PostImage;
 import org.ssafy.ssafymarket.entity.PostLike;
 import org.ssafy.ssafymarket.entity.User;
+import org.ssafy.ssafymarket.minio.ImageVariantService;
 import org.ssafy.ssafymarket.minio.MinioService;
 import org.ssafy.ssafymarket.repository.*;
+import org.ssafy.ssafymarket.search.PostSearchEngine;
+import org.ssafy.ssafymarket.search.PostSearchIndexer;
+import org.ssafy.ssafymarket.search.PostSearchQuery;
 
 import java.io.Serializable;
 import java.util.*;
@@ -25,11 +32,17 @@ import java.util.stream.Collectors;
 public class PostService {
 
 	private final MinioService minioService;
+	private final ImageVariantService imageVariantService;
 	private final PostRepository postRepository;
+	private final PostFeedRepository postFeedRepository;
 	private final PostImageRepository postImageRepository;
 	private final UserRepository userRepository;
 	private final ChatRoomRepository chatRoomRepository;
 	private final PostLikeRepository postLikeRepository;
+	private final PostListLoader postListLoader;
+	private final PostSearchEngine postSearchEngine;
+	private final PostSearchIndexer postSearchIndexer;
+	private final ChatRoomMembershipCache chatRoomMembershipCache;
 
 	/* ===================== 게시글 생성 ===================== */
 
@@ -56,6 +69,7 @@ public class PostService {
 			.build();
 
 		Long postId = minioService.saveImages(files, newPost);
+		postRepository.findById(postId).ifPresent(postSearchIndexer::postSaved);
 		log.info("게시글 생성 성공 - postId: {}", postId);
 
 		return Map.of(
@@ -67,11 +81,21 @@ public class PostService {
 
 	/* ===================== 전체 게시글 조회 ===================== */
 
+	/**
+	 * @param cursor null이면 기존 페이지 번호 방식, 빈 문자열이면 커서 방식 첫 페이지
+	 * @param includeTotal 커서 방식에서 전체 개수(COUNT) 포함 여부
+	 */
 	public Map<String, Object> getAllPosts(int page,
 		int size,
 		String sort,
+		String cursor,
+		boolean includeTotal,
 		String studentIdOrNull) {
 
+		if (cursor != null) {
+			return scrollFeed(null, size, sort, cursor, includeTotal, studentIdOrNull);
+		}
+
 		Page<Post> postPage;
 		Map<String, Object> response = new HashMap<>();
 
@@ -99,9 +123,7 @@ public class PostService {
 			response.put("campus", user.getCampus().toString());
 		}
 
-		List<Map<String, Object>> postList = postPage.getContent().stream()
-			.map(this::convertPostToMap)
-			.collect(Collectors.toList());
+		List<Map<String, Object>> postList = convertPostsToMaps(postPage.getContent());
 
 		response.put("success", true);
 		response.put("posts", postList);
@@ -128,7 +150,7 @@ public class PostService {
 		postMap.put("status", post.getStatus());
 		postMap.put("createdAt", post.getCreatedAt());
 		postMap.put("chatRoomCount", chatRoomRepository.countByPost_PostId(postId));
-		postMap.put("likeCount", postLikeRepository.countByPostId(postId));
+		postMap.put("likeCount", post.getLikeCount());
 		postMap.put("writer", Map.of(
 			"studentId", post.getWriter().getStudentId(),
 			"name", post.getWriter().getName()
@@ -138,6 +160,8 @@ public class PostService {
 			.map(img -> Map.of(
 				"imageId", img.getImageId(),
 				"imageUrl", img.getImageUrl(),
+				"thumbUrl", img.getDisplayThumbUrl(),
+				"mediumUrl", img.getMediumUrl() != null ? img.getMediumUrl() : img.getImageUrl(),
 				"imageOrder", img.getImageOrder()
 			))
 			.collect(Collectors.toList());
@@ -149,6 +173,36 @@ public class PostService {
 		);
 	}
 
+	/**
+	 * 직접 업로드(presigned URL)한 이미지로 게시글 생성
+	 */
+	@Transactional
+	public Map<String, Object> createPostWithUploadedImages(PostCreateRequest request) {
+		if (request.getTitle() == null || request.getPrice() == null || request.getCategory() == null) {
+			throw new IllegalArgumentException("제목, 가격, 카테고리는 필수입니다.");
+		}
+
+		Long postId = minioService.saveUploadedImages(request.getImageKeys(), request);
+		postRepository.findById(postId).ifPresent(postSearchIndexer::postSaved);
+		log.info("게시글 생성 성공 (직접 업로드) - postId: {}", postId);
+
+		return Map.of(
+			"success", true,
+			"postId", postId,
+			"message", "게시글이 성공적으로 생성되었습니다."
+		);
+	}
+
+	/**
+	 * 게시글 이미지 직접 업로드용 presigned URL 발급 (최대 10개)
+	 */
+	public Map<String, Object> presignImageUploads(String studentId, ImageUploadPresignRequest request) {
+		return Map.of(
+			"success", true,
+			"uploads", minioService.presignImageUploads(studentId, request.getFiles(), 10)
+		);
+	}
+
 	/* ===================== 게시글 수정 ===================== */
 
 	@Transactional
@@ -168,8 +222,11 @@ public class PostService {
 			throw new IllegalStateException("본인의 게시글만 수정할 수 있습니다.");
 		}
 
-		// 텍스트 정보 수정
-		if (title != null) post.setTitle(title);
+		// 텍스트 정보 수정 (제목은 채팅 알림에 쓰이므로 채팅방 캐시도 무효화)
+		if (title != null && !title.equals(post.getTitle())) {
+			post.setTitle(title);
+			chatRoomMembershipCache.invalidatePost(postId);
+		}
 		if (price != null) post.setPrice(price);
 		if (category != null) post.setCategory(category);
 		if (description != null) post.setDescription(description);
@@ -193,10 +250,13 @@ public class PostService {
 				.toList();
 
 			for (PostImage image : imagesToDelete) {
-				try {
-					minioService.deleteFile(image.getImageUrl());
-				} catch (Exception e) {
-					log.warn("MinIO 이미지 삭제 실패 (계속 진행): {}", e.getMessage());
+				for (String url : new String[] {image.getImageUrl(), image.getThumbUrl(), image.getMediumUrl()}) {
+					if (url == null) continue;
+					try {
+						minioService.deleteFile(url);
+					} catch (Exception e) {
+						log.warn("MinIO 이미지 삭제 실패 (계속 진행): {}", e.getMessage());
+					}
 				}
 				post.getImages().remove(image);
 			}
@@ -215,6 +275,9 @@ public class PostService {
 		}
 
 		postRepository.save(post);
+		postSearchIndexer.postSaved(post);
+		// 새 이미지(및 아직 변형이 없는 이미지)의 썸네일/축소 이미지 생성
+		imageVariantService.generateAfterCommit(post.getImages());
 
 		return Map.of(
 			"success", true,
@@ -247,6 +310,8 @@ public class PostService {
 		}
 
 		postRepository.delete(post);
+		postSearchIndexer.postDeleted(postId);
+		chatRoomMembershipCache.invalidatePost(postId);
 
 		String deletedBy = isAdmin && !isOwner ? "관리자" : "작성자";
 		log.info("게시글 삭제: postId={}, deletedBy={} ({})", postId, deletedBy, studentId);
@@ -275,6 +340,7 @@ public class PostService {
 		Post.PostStatus newStatus = Post.PostStatus.valueOf(status);
 		post.setStatus(newStatus);
 		postRepository.save(post);
+		postSearchIndexer.postSaved(post);
 
 		return Map.of(
 			"success", true,
@@ -301,6 +367,7 @@ public class PostService {
 		post.setStatus(Post.PostStatus.판매완료);
 		post.setBuyer(buyer);
 		postRepository.save(post);
+		postSearchIndexer.postSaved(post);
 
 		return Map.of(
 			"success", true,
@@ -316,8 +383,16 @@ public class PostService {
 		int page,
 		int size,
 		String sort,
+		String cursor,
+		boolean includeTotal,
 		String studentIdOrNull) {
 
+		if (cursor != null) {
+			Map<String, Object> response = scrollFeed(category, size, sort, cursor, includeTotal, studentIdOrNull);
+			response.put("category", category);
+			return response;
+		}
+
 		Page<Post> postPage;
 		Map<String, Object> response = new HashMap<>();
 
@@ -346,9 +421,7 @@ public class PostService {
 			response.put("campus", user.getCampus().toString());
 		}
 
-		List<Map<String, Object>> postList = postPage.getContent().stream()
-			.map(this::convertPostToMap)
-			.collect(Collectors.toList());
+		List<Map<String, Object>> postList = convertPostsToMaps(postPage.getContent());
 
 		response.put("success", true);
 		response.put("category", category);
@@ -366,6 +439,8 @@ public class PostService {
 		int page,
 		int size,
 		String sort,
+		String cursor,
+		boolean includeTotal,
 		String studentIdOrNull) {
 
 		if (keyword == null || keyword.trim().isEmpty()) {
@@ -373,24 +448,25 @@ public class PostService {
 		}
 
 		keyword = keyword.trim();
+		if (cursor != null) {
+			return scrollSearch(keyword, status, size, sort, cursor, includeTotal, studentIdOrNull);
+		}
+
 		Page<Post> postPage;
 		Map<String, Object> response = new HashMap<>();
-		boolean isPopular = "popular".equalsIgnoreCase(sort);
 
 		// 비로그인
 		if (studentIdOrNull == null) {
-			postPage = searchForAnonymous(keyword, status, page, size, sort, isPopular);
+			postPage = searchForAnonymous(keyword, status, page, size, sort);
 		} else {
 			User user = userRepository.findByStudentId(studentIdOrNull)
 				.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-			postPage = searchForCampus(user, keyword, status, page, size, sort, isPopular);
+			postPage = searchForCampus(user, keyword, status, page, size, sort);
 			response.put("campus", user.getCampus().toString());
 		}
 
-		List<Map<String, Object>> postList = postPage.getContent().stream()
-			.map(this::convertPostToMap)
-			.collect(Collectors.toList());
+		List<Map<String, Object>> postList = convertPostsToMaps(postPage.getContent());
 
 		response.put("success", true);
 		response.put("posts", postList);
@@ -407,70 +483,120 @@ public class PostService {
 		String status,
 		int page,
 		int size,
-		String sort,
-		boolean isPopular) {
-
-		if (status != null && !status.trim().isEmpty()) {
-			Post.PostStatus postStatus;
-			try {
-				postStatus = Post.PostStatus.valueOf(status);
-			} catch (IllegalArgumentException e) {
-				throw new IllegalArgumentException("잘못된 판매상태입니다. (판매중, 판매완료 중 선택)");
-			}
+		String sort) {
 
-			if (isPopular) {
-				Pageable pageable = PageRequest.of(page, size);
-				return postRepository.searchByKeywordAndStatusByPopularity(keyword, postStatus, pageable);
-			} else {
-				Pageable pageable = createPageable(page, size, sort);
-				return postRepository.searchByKeywordAndStatus(keyword, postStatus, pageable);
-			}
-		} else {
-			if (isPopular) {
-				Pageable pageable = PageRequest.of(page, size);
-				return postRepository.searchByKeywordByPopularity(keyword, pageable);
-			} else {
-				Pageable pageable = createPageable(page, size, sort);
-				return postRepository.searchByKeyword(keyword, pageable);
-			}
-		}
+		return postSearchEngine.search(
+			new PostSearchQuery(keyword, null, parseStatus(status), sort, page, size));
 	}
 
 	private Page<Post> searchForCampus(User user,
 		String keyword,
 		String status,
 		int page,
+		int size,
+		String sort) {
+
+		return postSearchEngine.search(
+			new PostSearchQuery(keyword, user.getCampus(), parseStatus(status), sort, page, size));
+	}
+
+	/* ===================== 커서(keyset) 페이징 ===================== */
+
+	/**
+	 * 전체/카테고리 목록 커서 조회 (OFFSET 없이 마지막 게시글 다음부터)
+	 */
+	private Map<String, Object> scrollFeed(String category,
 		int size,
 		String sort,
-		boolean isPopular) {
-
-		if (status != null && !status.trim().isEmpty()) {
-			Post.PostStatus postStatus;
-			try {
-				postStatus = Post.PostStatus.valueOf(status);
-			} catch (IllegalArgumentException e) {
-				throw new IllegalArgumentException("잘못된 판매상태입니다. (판매중, 판매완료 중 선택)");
-			}
+		String cursor,
+		boolean includeTotal,
+		String studentIdOrNull) {
 
-			if (isPopular) {
-				Pageable pageable = PageRequest.of(page, size);
-				return postRepository.searchByCampusAndKeywordAndStatusByPopularity(
-					user.getCampus(), keyword, postStatus, pageable);
-			} else {
-				Pageable pageable = createPageable(page, size, sort);
-				return postRepository.searchByCampusAndKeywordAndStatus(
-					user.getCampus(), keyword, postStatus, pageable);
-			}
-		} else {
-			if (isPopular) {
-				Pageable pageable = PageRequest.of(page, size);
-				return postRepository.searchByCampusAndKeywordByPopularity(
-					user.getCampus(), keyword, pageable);
-			} else {
-				Pageable pageable = createPageable(page, size, sort);
-				return postRepository.searchByCampusAndKeyword(
-					user.getCampus(), keyword, pageable);
-			}
+		validateCursorPageSize(size);
+		PostSort postSort = PostSort.from(sort);
+		PostCursor after = PostCursor.decode(cursor, postSort);
+		Map<String, Object> response = new HashMap<>();
+
+		User.Campus campus = null;
+		if (studentIdOrNull != null) {
+			User user = userRepository.findByStudentId(studentIdOrNull)
+				.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+			campus = user.getCampus();
+			response.put("campus", campus.toString());
+		}
+
+		PostFeedRepository.Filter filter = new PostFeedRepository.Filter(campus, category, null, null);
+		// 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+		List<Post> posts = postFeedRepository.scroll(filter, postSort, after, size + 1);
+		putCursorPage(response, posts, postSort, size);
+		if (includeTotal) {
+			response.put("totalItems", postFeedRepository.count(filter));
+		}
+		return response;
+	}
+
+	/**
+	 * 검색 결과 커서 조회
+	 */
+	private Map<String, Object> scrollSearch(String keyword,
+		String status,
+		int size,
+		String sort,
+		String cursor,
+		boolean includeTotal,
+		String studentIdOrNull) {
+
+		validateCursorPageSize(size);
+		PostSort postSort = PostSort.from(sort);
+		PostCursor after = PostCursor.decode(cursor, postSort);
+		Map<String, Object> response = new HashMap<>();
+
+		User.Campus campus = null;
+		if (studentIdOrNull != null) {
+			User user = userRepository.findByStudentId(studentIdOrNull)
+				.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+			campus = user.getCampus();
+			response.put("campus", campus.toString());
+		}
+
+		PostSearchQuery query = new PostSearchQuery(keyword, campus, parseStatus(status), sort, 0, size + 1);
+		List<Post> posts = postSearchEngine.scroll(query, after);
+		putCursorPage(response, posts, postSort, size);
+		response.put("keyword", keyword);
+		if (includeTotal) {
+			response.put("totalItems", postSearchEngine.count(query));
+		}
+		return response;
+	}
+
+	/**
+	 * size + 1개 조회 결과로 응답 구성 (초과분이 있으면 다음 커서 발급)
+	 */
+	private void putCursorPage(Map<String, Object> response, List<Post> posts, PostSort sort, int size) {
+		boolean hasNext = posts.size() > size;
+		List<Post> pagePosts = hasNext ? posts.subList(0, size) : posts;
+
+		response.put("success", true);
+		response.put("posts", convertPostsToMaps(pagePosts));
+		response.put("hasNext", hasNext);
+		response.put("nextCursor", hasNext ? PostCursor.of(sort, pagePosts.get(size - 1)).encode() : null);
+		response.put("pageSize", size);
+	}
+
+	private void validateCursorPageSize(int size) {
+		if (size < 1 || size > 100) {
+			throw new IllegalArgumentException("size는 1~100 사이여야 합니다.");
+		}
+	}
+
+	private Post.PostStatus parseStatus(String status) {
+		if (status == null || status.trim().isEmpty()) {
+			return null;
+		}
+		try {
+			return Post.PostStatus.valueOf(status);
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("잘못된 판매상태입니다. (판매중, 판매완료 중 선택)");
 		}
 	}
 
@@ -493,7 +619,9 @@ public class PostService {
 			.build();
 
 		postLikeRepository.save(postLike);
-		long likeCount = postLikeRepository.countByPostId(postId);
+		postRepository.incrementLikeCount(postId);
+		long likeCount = postRepository.findLikeCountByPostId(postId);
+		postSearchIndexer.likeCountChanged(postId, (int) likeCount);
 
 		return Map.of(
 			"success", true,
@@ -509,7 +637,9 @@ public class PostService {
 			.orElseThrow(() -> new IllegalArgumentException("좋아요하지 않은 게시글입니다."));
 
 		postLikeRepository.delete(postLike);
-		long likeCount = postLikeRepository.countByPostId(postId);
+		postRepository.decrementLikeCount(postId);
+		long likeCount = postRepository.findLikeCountByPostId(postId);
+		postSearchIndexer.likeCountChanged(postId, (int) likeCount);
 
 		return Map.of(
 			"success", true,
@@ -521,10 +651,20 @@ public class PostService {
 	public Map<String, Object> getLikedPosts(String studentId) {
 		List<PostLike> likes = postLikeRepository.findByUserId(studentId);
 
+		// 좋아요마다 게시글을 지연 로딩하지 않도록 한 번에 조회
+		Map<Long, Post> postsById = postRepository.findAllById(
+				likes.stream().map(PostLike::getPostId).toList()).stream()
+			.collect(Collectors.toMap(Post::getPostId, post -> post));
+		List<Post> posts = likes.stream()
+			.map(like -> postsById.get(like.getPostId()))
+			.filter(Objects::nonNull)
+			.toList();
+		PostListLoader.PostListBatch batch = postListLoader.load(posts);
+
 		List<Map<String, Object>> postList = likes.stream()
+			.filter(like -> postsById.containsKey(like.getPostId()))
 			.map(like -> {
-				Post post = like.getPost();
-				Map<String, Object> postMap = convertPostToMap(post);
+				Map<String, Object> postMap = convertPostToMap(postsById.get(like.getPostId()), batch);
 				postMap.put("likedAt", like.getLikedAt());
 				return postMap;
 			})
@@ -563,7 +703,14 @@ public class PostService {
 		return PageRequest.of(page, size, sorting);
 	}
 
-	private Map<String, Object> convertPostToMap(Post post) {
+	private List<Map<String, Object>> convertPostsToMaps(List<Post> posts) {
+		PostListLoader.PostListBatch batch = postListLoader.load(posts);
+		return posts.stream()
+			.map(post -> convertPostToMap(post, batch))
+			.collect(Collectors.toList());
+	}
+
+	private Map<String, Object> convertPostToMap(Post post, PostListLoader.PostListBatch batch) {
 		Map<String, Object> postMap = new HashMap<>();
 		postMap.put("postId", post.getPostId());
 		postMap.put("title", post.getTitle());
@@ -572,14 +719,10 @@ public class PostService {
 		postMap.put("description", post.getDescription());
 		postMap.put("status", post.getStatus());
 		postMap.put("createdAt", post.getCreatedAt());
-		postMap.put("chatRoomCount", chatRoomRepository.countByPost_PostId(post.getPostId()));
-		postMap.put("likeCount", postLikeRepository.countByPostId(post.getPostId()));
-		postMap.put("writer", post.getWriter().getName());
-
-		List<String> imageUrls = post.getImages().stream()
-			.map(PostImage::getImageUrl)
-			.collect(Collectors.toList());
-		postMap.put("images", imageUrls);
+		postMap.put("chatRoomCount", batch.chatRoomCount(post));
+		postMap.put("likeCount", batch.likeCount(post));
+		postMap.put("writer", batch.writer(post).getName());
+		postMap.put("images", batch.imageUrls(post));
 
 		return postMap;
 	}
@@ -5,12 +5,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.ssafy.ssafymarket.entity.Post;
-import org.ssafy.ssafymarket.entity.PostImage;
 import org.ssafy.ssafymarket.entity.User;
-import org.ssafy.ssafymarket.repository.ChatRoomRepository;
-import org.ssafy.ssafymarket.repository.PostLikeRepository;
 import org.ssafy.ssafymarket.repository.PostRepository;
 import org.ssafy.ssafymarket.repository.UserRepository;
+import org.ssafy.ssafymarket.search.PostSearchIndexer;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -23,8 +21,8 @@ public class PostTransactionService {
 
 	private final PostRepository postRepository;
 	private final UserRepository userRepository;
-	private final PostLikeRepository postLikeRepository;
-	private final ChatRoomRepository chatRoomRepository;
+	private final PostListLoader postListLoader;
+	private final PostSearchIndexer postSearchIndexer;
 
 	/* ===================== 상태 변경 ===================== */
 
@@ -43,6 +41,7 @@ public class PostTransactionService {
 		Post.PostStatus newStatus = Post.PostStatus.valueOf(status);
 		post.setStatus(newStatus);
 		postRepository.save(post);
+		postSearchIndexer.postSaved(post);
 
 		log.info("판매 상태 변경 - postId: {}, newStatus: {}", postId, newStatus);
 
@@ -73,6 +72,7 @@ public class PostTransactionService {
 		post.setStatus(Post.PostStatus.판매완료);
 		post.setBuyer(buyer);
 		postRepository.save(post);
+		postSearchIndexer.postSaved(post);
 
 		log.info("판매 완료 처리 - postId: {}, seller: {}, buyer: {}", postId, sellerId, buyerId);
 
@@ -95,8 +95,10 @@ public class PostTransactionService {
 			.filter(post -> post.getStatus() == Post.PostStatus.판매중)
 			.collect(Collectors.toList());
 
+		PostListLoader.PostListBatch batch = postListLoader.load(posts);
+
 		List<Map<String, Object>> postList = posts.stream()
-			.map(this::convertPostToMap)
+			.map(post -> convertPostToMap(post, batch))
 			.collect(Collectors.toList());
 
 		log.info("판매중 게시글 조회 - userId: {}, count: {}", studentId, postList.size());
@@ -119,12 +121,15 @@ public class PostTransactionService {
 			.filter(post -> post.getStatus() == Post.PostStatus.판매완료)
 			.collect(Collectors.toList());
 
+		PostListLoader.PostListBatch batch = postListLoader.load(posts);
+
 		List<Map<String, Object>> postList = posts.stream()
 			.map(post -> {
-				Map<String, Object> postMap = convertPostToMap(post);
-				if (post.getBuyer() != null) {
-					postMap.put("buyerName", post.getBuyer().getName());
-					postMap.put("buyerId", post.getBuyer().getStudentId());
+				Map<String, Object> postMap = convertPostToMap(post, batch);
+				User buyer = batch.buyer(post);
+				if (buyer != null) {
+					postMap.put("buyerName", buyer.getName());
+					postMap.put("buyerId", buyer.getStudentId());
 				}
 				return postMap;
 			})
@@ -148,11 +153,14 @@ public class PostTransactionService {
 
 		List<Post> posts = postRepository.findByBuyer(user);
 
+		PostListLoader.PostListBatch batch = postListLoader.load(posts);
+
 		List<Map<String, Object>> postList = posts.stream()
 			.map(post -> {
-				Map<String, Object> postMap = convertPostToMap(post);
-				postMap.put("sellerName", post.getWriter().getName());
-				postMap.put("sellerId", post.getWriter().getStudentId());
+				Map<String, Object> postMap = convertPostToMap(post, batch);
+				User seller = batch.writer(post);
+				postMap.put("sellerName", seller.getName());
+				postMap.put("sellerId", seller.getStudentId());
 				return postMap;
 			})
 			.collect(Collectors.toList());
@@ -173,17 +181,26 @@ public class PostTransactionService {
 		User user = userRepository.findByStudentId(studentId)
 			.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-		// 판매완료
-		List<Map<String, Object>> soldList = postRepository.findByWriter(user).stream()
+		List<Post> soldPosts = postRepository.findByWriter(user).stream()
 			.filter(post -> post.getStatus() == Post.PostStatus.판매완료)
+			.collect(Collectors.toList());
+		List<Post> purchasedPosts = postRepository.findByBuyer(user);
+
+		List<Post> allPosts = new ArrayList<>(soldPosts);
+		allPosts.addAll(purchasedPosts);
+		PostListLoader.PostListBatch batch = postListLoader.load(allPosts);
+
+		// 판매완료
+		List<Map<String, Object>> soldList = soldPosts.stream()
 			.map(post -> {
 				Map<String, Object> transaction = new HashMap<>();
 				transaction.put("type", "판매");
-				transaction.put("post", convertPostToMap(post));
-				if (post.getBuyer() != null) {
+				transaction.put("post", convertPostToMap(post, batch));
+				User buyer = batch.buyer(post);
+				if (buyer != null) {
 					transaction.put("otherParty", Map.of(
-						"studentId", post.getBuyer().getStudentId(),
-						"name", post.getBuyer().getName()
+						"studentId", buyer.getStudentId(),
+						"name", buyer.getName()
 					));
 				}
 				transaction.put("completedAt", post.getCreatedAt()); // TODO: 별도 완료시간 필드 생기면 교체
@@ -192,14 +209,15 @@ public class PostTransactionService {
 			.collect(Collectors.toList());
 
 		// 구매
-		List<Map<String, Object>> purchasedList = postRepository.findByBuyer(user).stream()
+		List<Map<String, Object>> purchasedList = purchasedPosts.stream()
 			.map(post -> {
 				Map<String, Object> transaction = new HashMap<>();
 				transaction.put("type", "구매");
-				transaction.put("post", convertPostToMap(post));
+				transaction.put("post", convertPostToMap(post, batch));
+				User seller = batch.writer(post);
 				transaction.put("otherParty", Map.of(
-					"studentId", post.getWriter().getStudentId(),
-					"name", post.getWriter().getName()
+					"studentId", seller.getStudentId(),
+					"name", seller.getName()
 				));
 				transaction.put("completedAt", post.getCreatedAt());
 				return transaction;
@@ -230,7 +248,7 @@ public class PostTransactionService {
 
 	/* ===================== Post → Map 변환 ===================== */
 
-	private Map<String, Object> convertPostToMap(Post post) {
+	private Map<String, Object> convertPostToMap(Post post, PostListLoader.PostListBatch batch) {
 		Map<String, Object> postMap = new HashMap<>();
 		postMap.put("postId", post.getPostId());
 		postMap.put("title", post.getTitle());
@@ -239,14 +257,10 @@ public class PostTransactionService {
 		postMap.put("description", post.getDescription());
 		postMap.put("status", post.getStatus());
 		postMap.put("createdAt", post.getCreatedAt());
-		postMap.put("chatRoomCount", chatRoomRepository.countByPost_PostId(post.getPostId()));
-		postMap.put("likeCount", postLikeRepository.countByPostId(post.getPostId()));
-		postMap.put("writer", post.getWriter().getName());
-
-		List<String> imageUrls = post.getImages().stream()
-			.map(PostImage::getImageUrl)
-			.collect(Collectors.toList());
-		postMap.put("images", imageUrls);
+		postMap.put("chatRoomCount", batch.chatRoomCount(post));
+		postMap.put("likeCount", batch.likeCount(post));
+		postMap.put("writer", batch.writer(post).getName());
+		postMap.put("images", batch.imageUrls(post));
 
 		return postMap;
 	}
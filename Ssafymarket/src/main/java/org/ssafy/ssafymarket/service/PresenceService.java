@@ -0,0 +1,196 @@
+package org.ssafy.ssafymarket.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.ssafy.ssafymarket.dto.PresenceDto;
+import org.ssafy.ssafymarket.repository.ChatRoomRepository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자 접속 상태 관리
+ * - 세션 ID → 학번, 학번 → 세션 집합 양방향 인덱스로 접속 여부를 O(1)로 확인 (다중 탭/기기 지원)
+ * - 마지막 접속 시각은 메모리에 모았다가 chat.presence.flush-interval-ms 주기로 user_presence에 배치 저장
+ * - 접속 상태는 이 서버에 연결된 세션 기준
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PresenceService {
+
+    private static final String UPSERT_LAST_SEEN =
+            "INSERT INTO user_presence (student_id, last_seen_at) VALUES (?, ?) " +
+            "ON DUPLICATE KEY UPDATE last_seen_at = GREATEST(last_seen_at, VALUES(last_seen_at))";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ChatRoomRepository chatRoomRepository;
+
+    private final Map<String, String> userBySession = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> sessionsByUser = new ConcurrentHashMap<>();
+    // 아직 저장하지 않은 마지막 접속 시각
+    private final Map<String, LocalDateTime> pendingLastSeen = new ConcurrentHashMap<>();
+
+    private final AtomicLong connectCount = new AtomicLong();
+    private final AtomicLong disconnectCount = new AtomicLong();
+
+    /* ===================== 연결/해제 ===================== */
+
+    public void connected(String sessionId, String studentId) {
+        userBySession.put(sessionId, studentId);
+        // compute 안에서 세션 집합을 바꿔 해제와 동시에 일어나도 빈 집합이 남지 않게 함
+        sessionsByUser.compute(studentId, (id, sessions) -> {
+            Set<String> result = sessions != null ? sessions : ConcurrentHashMap.newKeySet();
+            result.add(sessionId);
+            return result;
+        });
+        pendingLastSeen.put(studentId, LocalDateTime.now());
+        connectCount.incrementAndGet();
+    }
+
+    /**
+     * @return 해제된 세션의 학번, 등록되지 않은 세션이면 null
+     */
+    public String disconnected(String sessionId) {
+        String studentId = userBySession.remove(sessionId);
+        if (studentId == null) {
+            return null;
+        }
+        sessionsByUser.computeIfPresent(studentId, (id, sessions) -> {
+            sessions.remove(sessionId);
+            return sessions.isEmpty() ? null : sessions;
+        });
+        pendingLastSeen.put(studentId, LocalDateTime.now());
+        disconnectCount.incrementAndGet();
+        return studentId;
+    }
+
+    /* ===================== 조회 ===================== */
+
+    public boolean isOnline(String studentId) {
+        return sessionsByUser.containsKey(studentId);
+    }
+
+    public int getOnlineUserCount() {
+        return sessionsByUser.size();
+    }
+
+    public int getSessionCount() {
+        return userBySession.size();
+    }
+
+    public Map<String, Object> getStats() {
+        return Map.of(
+                "onlineUsers", sessionsByUser.size(),
+                "sessions", userBySession.size(),
+                "connectCount", connectCount.get(),
+                "disconnectCount", disconnectCount.get(),
+                "pendingLastSeen", pendingLastSeen.size()
+        );
+    }
+
+    /**
+     * 여러 사용자의 접속 상태 일괄 조회 (마지막 접속 시각은 IN 쿼리 1회)
+     */
+    public List<PresenceDto> getPresence(Collection<String> studentIds) {
+        Map<String, LocalDateTime> lastSeen = loadLastSeen(studentIds);
+        List<PresenceDto> result = new ArrayList<>(studentIds.size());
+        for (String studentId : new LinkedHashSet<>(studentIds)) {
+            result.add(toDto(studentId, lastSeen.get(studentId), null));
+        }
+        return result;
+    }
+
+    /**
+     * 내 채팅방 목록의 상대방 접속 상태 일괄 조회
+     */
+    public List<PresenceDto> getRoomPresence(String userId) {
+        List<Object[]> rooms = chatRoomRepository.findCounterpartsByUserId(userId);
+        Set<String> counterpartIds = new HashSet<>();
+        for (Object[] row : rooms) {
+            counterpartIds.add((String) row[1]);
+        }
+
+        Map<String, LocalDateTime> lastSeen = loadLastSeen(counterpartIds);
+        List<PresenceDto> result = new ArrayList<>(rooms.size());
+        for (Object[] row : rooms) {
+            String counterpartId = (String) row[1];
+            result.add(toDto(counterpartId, lastSeen.get(counterpartId), (Long) row[0]));
+        }
+        return result;
+    }
+
+    private PresenceDto toDto(String studentId, LocalDateTime lastSeenAt, Long roomId) {
+        Set<String> sessions = sessionsByUser.get(studentId);
+        return PresenceDto.builder()
+                .studentId(studentId)
+                .online(sessions != null)
+                .sessionCount(sessions != null ? sessions.size() : 0)
+                .lastSeenAt(lastSeenAt)
+                .roomId(roomId)
+                .build();
+    }
+
+    /**
+     * 마지막 접속 시각 (저장 전 값이 있으면 우선)
+     */
+    private Map<String, LocalDateTime> loadLastSeen(Collection<String> studentIds) {
+        Map<String, LocalDateTime> lastSeen = new HashMap<>();
+        if (studentIds.isEmpty()) {
+            return lastSeen;
+        }
+        jdbcTemplate.query(
+                "SELECT student_id, last_seen_at FROM user_presence WHERE student_id IN (:ids)",
+                Map.of("ids", studentIds),
+                rs -> {
+                    lastSeen.put(rs.getString("student_id"), rs.getTimestamp("last_seen_at").toLocalDateTime());
+                });
+        for (String studentId : studentIds) {
+            LocalDateTime pending = pendingLastSeen.get(studentId);
+            if (pending != null) {
+                lastSeen.put(studentId, pending);
+            }
+        }
+        return lastSeen;
+    }
+
+    /* ===================== 마지막 접속 시각 저장 ===================== */
+
+    @Scheduled(fixedDelayString = "${chat.presence.flush-interval-ms:10000}")
+    public void flushLastSeen() {
+        if (pendingLastSeen.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batch = new ArrayList<>();
+        for (String studentId : new ArrayList<>(pendingLastSeen.keySet())) {
+            LocalDateTime seenAt = pendingLastSeen.remove(studentId);
+            if (seenAt != null) {
+                batch.add(new Object[]{studentId, Timestamp.valueOf(seenAt)});
+            }
+        }
+
+        try {
+            jdbcTemplate.getJdbcTemplate().batchUpdate(UPSERT_LAST_SEEN, batch);
+            log.debug("마지막 접속 시각 저장 - {}명", batch.size());
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 저장 (그 사이 더 최신 값이 들어왔으면 유지)
+            for (Object[] row : batch) {
+                pendingLastSeen.putIfAbsent((String) row[0], ((Timestamp) row[1]).toLocalDateTime());
+            }
+            log.warn("마지막 접속 시각 저장 실패 - {}명", batch.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushLastSeen();
+    }
+}
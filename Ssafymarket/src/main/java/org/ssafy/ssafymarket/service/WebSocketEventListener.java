@@ -3,22 +3,18 @@ package org.ssafy.ssafymarket.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionConnectedEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class WebSocketEventListener {
 
-    // 온라인 사용자 관리 (세션 ID → 사용자 ID)
-    private final Map<String, String> onlineUsers = new ConcurrentHashMap<>();
+    // 온라인 사용자 관리 (세션 ↔ 사용자 양방향 인덱스)
+    private final PresenceService presenceService;
 
     /**
      * WebSocket 연결 이벤트
@@ -31,9 +27,9 @@ public class WebSocketEventListener {
         String studentId = (String) headerAccessor.getSessionAttributes().get("studentId");
 
         if (studentId != null) {
-            onlineUsers.put(sessionId, studentId);
+            presenceService.connected(sessionId, studentId);
             log.info("사용자 연결 - sessionId: {}, studentId: {}, 온라인 사용자 수: {}",
-                    sessionId, studentId, onlineUsers.size());
+                    sessionId, studentId, presenceService.getOnlineUserCount());
         }
     }
 
@@ -42,14 +38,12 @@ public class WebSocketEventListener {
      */
     @EventListener
     public void handleWebSocketDisconnectListener(SessionDisconnectEvent event) {
-        StompHeaderAccessor headerAccessor = StompHeaderAccessor.wrap(event.getMessage());
-
-        String sessionId = headerAccessor.getSessionId();
-        String studentId = onlineUsers.remove(sessionId);
+        String sessionId = event.getSessionId();
+        String studentId = presenceService.disconnected(sessionId);
 
         if (studentId != null) {
             log.info("사용자 연결 해제 - sessionId: {}, studentId: {}, 온라인 사용자 수: {}",
-                    sessionId, studentId, onlineUsers.size());
+                    sessionId, studentId, presenceService.getOnlineUserCount());
         }
     }
 
@@ -57,13 +51,13 @@ public class WebSocketEventListener {
      * 특정 사용자가 온라인인지 확인
      */
     public boolean isUserOnline(String studentId) {
-        return onlineUsers.containsValue(studentId);
+        return presenceService.isOnline(studentId);
     }
 
     /**
      * 온라인 사용자 수 조회
      */
     public int getOnlineUserCount() {
-        return onlineUsers.size();
+        return presenceService.getOnlineUserCount();
     }
 }
@@ -0,0 +1,93 @@
+package org.ssafy.ssafymarket.dto;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.ssafy.ssafymarket.entity.Post;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PostCursorTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_000_000);
+
+    @ParameterizedTest
+    @EnumSource(PostSort.class)
+    void encodeDecodeRoundTrip(PostSort sort) {
+        Post last = Post.builder()
+                .postId(42L)
+                .price(15000)
+                .likeCount(7)
+                .createdAt(CREATED_AT)
+                .build();
+
+        PostCursor cursor = PostCursor.of(sort, last);
+        PostCursor decoded = PostCursor.decode(cursor.encode(), sort);
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.sortValue()).isEqualTo(switch (sort) {
+            case POPULAR -> 7;
+            case LOW_PRICE, HIGH_PRICE -> 15000;
+            case LATEST -> null;
+        });
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe() {
+        PostCursor cursor = new PostCursor(PostSort.POPULAR, 3, CREATED_AT, Long.MAX_VALUE);
+
+        assertThat(cursor.encode()).matches("[A-Za-z0-9_-]+");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "   "})
+    void blankCursorMeansFirstPage(String cursor) {
+        assertThat(PostCursor.decode(cursor, PostSort.LATEST)).isNull();
+        assertThat(PostCursor.decode(null, PostSort.LATEST)).isNull();
+    }
+
+    @Test
+    void cursorFromAnotherSortIsRejected() {
+        String cursor = new PostCursor(PostSort.LOW_PRICE, 1000, CREATED_AT, 1L).encode();
+
+        assertThatThrownBy(() -> PostCursor.decode(cursor, PostSort.HIGH_PRICE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "not base64!",                                   // base64url 아님
+            "2|LATEST||2025-03-01T12:30:15|1",               // 버전 불일치
+            "1|LATEST||2025-03-01T12:30:15",                 // 항목 수 부족
+            "1|LATEST||2025-03-01T12:30:15|1|extra",         // 항목 수 초과
+            "1|LATEST||yesterday|1",                         // 날짜 형식 오류
+            "1|LATEST||2025-03-01T12:30:15|abc",             // postId 숫자 아님
+            "1|LATEST|abc|2025-03-01T12:30:15|1"             // 정렬값 숫자 아님
+    })
+    void malformedCursorIsRejected(String raw) {
+        String cursor = raw.startsWith("not") ? raw : encodeRaw(raw);
+
+        assertThatThrownBy(() -> PostCursor.decode(cursor, PostSort.LATEST))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = PostSort.class, names = {"POPULAR", "LOW_PRICE", "HIGH_PRICE"})
+    void sortedCursorWithoutSortValueIsRejected(PostSort sort) {
+        String cursor = encodeRaw("1|" + sort.name() + "||2025-03-01T12:30:15|1");
+
+        assertThatThrownBy(() -> PostCursor.decode(cursor, sort))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
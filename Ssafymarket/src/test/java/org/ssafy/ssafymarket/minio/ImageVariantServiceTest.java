@@ -0,0 +1,72 @@
+package org.ssafy.ssafymarket.minio;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageVariantServiceTest {
+
+    private static final int RED = 0xff0000;
+
+    @Test
+    void readsOrientationInBothByteOrders() {
+        assertThat(ImageVariantService.exifOrientation(app1(ByteOrder.LITTLE_ENDIAN, 6))).isEqualTo(6);
+        assertThat(ImageVariantService.exifOrientation(app1(ByteOrder.BIG_ENDIAN, 8))).isEqualTo(8);
+    }
+
+    @Test
+    void ignoresNonExifOrTruncatedSegments() {
+        assertThat(ImageVariantService.exifOrientation(new byte[3])).isZero();
+        assertThat(ImageVariantService.exifOrientation("XMP-data-not-exif".getBytes(StandardCharsets.US_ASCII))).isZero();
+
+        byte[] truncated = app1(ByteOrder.BIG_ENDIAN, 6);
+        assertThat(ImageVariantService.exifOrientation(Arrays.copyOf(truncated, 20))).isZero();
+    }
+
+    /**
+     * 4x2 이미지의 왼쪽 위 픽셀이 방향 적용 후 있어야 할 위치
+     */
+    @ParameterizedTest
+    @CsvSource({
+            "1, 4, 2, 0, 0",
+            "2, 4, 2, 3, 0",
+            "3, 4, 2, 3, 1",
+            "4, 4, 2, 0, 1",
+            "5, 2, 4, 0, 0",
+            "6, 2, 4, 1, 0",
+            "7, 2, 4, 1, 3",
+            "8, 2, 4, 0, 3"
+    })
+    void appliesOrientation(int orientation, int width, int height, int x, int y) {
+        BufferedImage source = new BufferedImage(4, 2, BufferedImage.TYPE_INT_RGB);
+        source.setRGB(0, 0, RED);
+
+        BufferedImage oriented = ImageVariantService.applyOrientation(source, orientation);
+
+        assertThat(oriented.getWidth()).isEqualTo(width);
+        assertThat(oriented.getHeight()).isEqualTo(height);
+        assertThat(oriented.getRGB(x, y) & 0xffffff).isEqualTo(RED);
+    }
+
+    /**
+     * "Exif\0\0" + TIFF 헤더 + Orientation 항목 하나뿐인 IFD0
+     */
+    private static byte[] app1(ByteOrder order, int orientation) {
+        ByteBuffer buffer = ByteBuffer.allocate(6 + 8 + 2 + 12 + 4).order(order);
+        buffer.put("Exif".getBytes(StandardCharsets.US_ASCII)).put((byte) 0).put((byte) 0);
+        byte mark = order == ByteOrder.LITTLE_ENDIAN ? (byte) 'I' : (byte) 'M';
+        buffer.put(mark).put(mark).putShort((short) 42).putInt(8);
+        buffer.putShort((short) 1);
+        buffer.putShort((short) 0x0112).putShort((short) 3).putInt(1).putShort((short) orientation).putShort((short) 0);
+        buffer.putInt(0);
+        return buffer.array();
+    }
+}
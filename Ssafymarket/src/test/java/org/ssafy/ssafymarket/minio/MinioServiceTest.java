@@ -0,0 +1,77 @@
+package org.ssafy.ssafymarket.minio;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MinioServiceTest {
+
+    private static final String BUCKET = "ssafymarket";
+
+    @Test
+    void objectNameKeepsFolderAfterBucketPrefix() {
+        assertThat(MinioService.objectNameOf(BUCKET, "ssafymarket/images/abc.jpg"))
+                .isEqualTo("images/abc.jpg");
+        assertThat(MinioService.objectNameOf(BUCKET, "ssafymarket/images/abc_thumb.jpg"))
+                .isEqualTo("images/abc_thumb.jpg");
+        assertThat(MinioService.objectNameOf(BUCKET, "ssafymarket/uploads/20231234/abc.png"))
+                .isEqualTo("uploads/20231234/abc.png");
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {
+            "images/abc.jpg",                        // 버킷 접두어 없음
+            "other/images/abc.jpg",                  // 다른 버킷
+            "http://minio:9000/ssafymarket/images/abc.jpg",
+            "ssafymarket/abc.jpg",                   // 허용 폴더 밖
+            "ssafymarket/images/../secret.txt"
+    })
+    void rejectsUrlsOutsideBucketImageFolders(String imageUrl) {
+        assertThatThrownBy(() -> MinioService.objectNameOf(BUCKET, imageUrl))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void imageSignatureMustMatchContentType() {
+        byte[] jpeg = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0, 0, 0, 0, 0, 0, 0, 0, 0};
+        byte[] png = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0, 0, 0};
+        byte[] gif = {'G', 'I', 'F', '8', '9', 'a', 0, 0, 0, 0, 0, 0};
+        byte[] webp = {'R', 'I', 'F', 'F', 0, 0, 0, 0, 'W', 'E', 'B', 'P'};
+
+        assertThat(MinioService.matchesImageSignature("image/jpeg", jpeg)).isTrue();
+        assertThat(MinioService.matchesImageSignature("image/png", png)).isTrue();
+        assertThat(MinioService.matchesImageSignature("image/gif", gif)).isTrue();
+        assertThat(MinioService.matchesImageSignature("image/webp", webp)).isTrue();
+
+        // 형식 불일치, HTML, 잘린 파일, 지원하지 않는 형식
+        assertThat(MinioService.matchesImageSignature("image/png", jpeg)).isFalse();
+        assertThat(MinioService.matchesImageSignature("image/jpeg", "<html><script>".getBytes())).isFalse();
+        assertThat(MinioService.matchesImageSignature("image/webp", new byte[] {'R', 'I', 'F', 'F'})).isFalse();
+        assertThat(MinioService.matchesImageSignature("image/svg+xml", "<svg xmlns=".getBytes())).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "3f1c2b9e-8d4a-4b6f-9e21-0c5d7a8b9f10.jpg",
+            "3f1c2b9e-8d4a-4b6f-9e21-0c5d7a8b9f10.webp"
+    })
+    void acceptsIssuedUploadFileNames(String fileName) {
+        assertThat(MinioService.isIssuedUploadFileName(fileName)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "abc.jpg",                                          // UUID 아님
+            "../3f1c2b9e-8d4a-4b6f-9e21-0c5d7a8b9f10.jpg",     // 경로 포함
+            "3f1c2b9e-8d4a-4b6f-9e21-0c5d7a8b9f10.jpg/x",
+            "3f1c2b9e-8d4a-4b6f-9e21-0c5d7a8b9f10"              // 확장자 없음
+    })
+    void rejectsUnissuedUploadFileNames(String fileName) {
+        assertThat(MinioService.isIssuedUploadFileName(fileName)).isFalse();
+    }
+}
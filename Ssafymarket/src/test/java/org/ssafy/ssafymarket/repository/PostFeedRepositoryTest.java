@@ -0,0 +1,121 @@
+package org.ssafy.ssafymarket.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.ssafy.ssafymarket.dto.PostCursor;
+import org.ssafy.ssafymarket.dto.PostSort;
+import org.ssafy.ssafymarket.entity.Post;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * keyset 조건이 ORDER BY와 같은 (정렬값, createdAt, postId) 순서로 "커서 다음" 행만 고르는지 확인
+ */
+class PostFeedRepositoryTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 3, 1, 12, 0);
+    private static final PostFeedRepository.Filter NO_FILTER = new PostFeedRepository.Filter(null, null, null, null);
+
+    private EntityManager entityManager;
+    private TypedQuery<Post> query;
+    private PostFeedRepository repository;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        entityManager = mock(EntityManager.class);
+        query = mock(TypedQuery.class);
+        when(entityManager.createQuery(anyString(), eq(Post.class))).thenReturn(query);
+        when(query.setMaxResults(anyInt())).thenReturn(query);
+        when(query.getResultList()).thenReturn(List.of());
+        repository = new PostFeedRepository(entityManager);
+    }
+
+    @Test
+    void latestKeysetOnCreatedAtThenPostId() {
+        String jpql = scroll(PostSort.LATEST, new PostCursor(PostSort.LATEST, null, CREATED_AT, 10L));
+
+        assertThat(jpql).contains(" AND (p.createdAt < :cursorCreatedAt"
+                + " OR (p.createdAt = :cursorCreatedAt AND p.postId < :cursorPostId))");
+        assertThat(jpql).endsWith(" ORDER BY p.createdAt DESC, p.postId DESC");
+        verify(query).setParameter("cursorCreatedAt", CREATED_AT);
+        verify(query).setParameter("cursorPostId", 10L);
+        verify(query, never()).setParameter(eq("cursorValue"), any());
+    }
+
+    @Test
+    void popularKeysetOnLikeCountDescending() {
+        String jpql = scroll(PostSort.POPULAR, new PostCursor(PostSort.POPULAR, 5, CREATED_AT, 10L));
+
+        assertThat(jpql).contains(" AND (p.likeCount < :cursorValue OR (p.likeCount = :cursorValue AND"
+                + " (p.createdAt < :cursorCreatedAt OR (p.createdAt = :cursorCreatedAt AND p.postId < :cursorPostId))))");
+        assertThat(jpql).endsWith(" ORDER BY p.likeCount DESC, p.createdAt DESC, p.postId DESC");
+        verify(query).setParameter("cursorValue", 5);
+    }
+
+    @Test
+    void lowPriceKeysetOnPriceAscending() {
+        String jpql = scroll(PostSort.LOW_PRICE, new PostCursor(PostSort.LOW_PRICE, 3000, CREATED_AT, 10L));
+
+        assertThat(jpql).contains(" AND (p.price > :cursorValue OR (p.price = :cursorValue AND"
+                + " (p.createdAt > :cursorCreatedAt OR (p.createdAt = :cursorCreatedAt AND p.postId > :cursorPostId))))");
+        assertThat(jpql).endsWith(" ORDER BY p.price ASC, p.createdAt ASC, p.postId ASC");
+        verify(query).setParameter("cursorValue", 3000);
+    }
+
+    @Test
+    void highPriceKeysetOnPriceDescending() {
+        String jpql = scroll(PostSort.HIGH_PRICE, new PostCursor(PostSort.HIGH_PRICE, 3000, CREATED_AT, 10L));
+
+        assertThat(jpql).contains(" AND (p.price < :cursorValue OR (p.price = :cursorValue AND"
+                + " (p.createdAt < :cursorCreatedAt OR (p.createdAt = :cursorCreatedAt AND p.postId < :cursorPostId))))");
+        assertThat(jpql).endsWith(" ORDER BY p.price DESC, p.createdAt DESC, p.postId DESC");
+        verify(query).setParameter("cursorValue", 3000);
+    }
+
+    @Test
+    void firstPageHasNoKeyset() {
+        String jpql = scroll(PostSort.POPULAR, null);
+
+        assertThat(jpql).doesNotContain(":cursor");
+        verify(query).setMaxResults(20);
+    }
+
+    @Test
+    void filtersAreCombinedWithKeyset() {
+        PostFeedRepository.Filter filter = new PostFeedRepository.Filter(null, "전자기기", "노트북", Post.PostStatus.판매중);
+
+        repository.scroll(filter, PostSort.LATEST, new PostCursor(PostSort.LATEST, null, CREATED_AT, 10L), 20);
+        String jpql = capturedJpql();
+
+        assertThat(jpql).contains(" AND p.category = :category", " AND p.status = :status", ":keyword", ":cursorPostId");
+        verify(query).setParameter("category", "전자기기");
+        verify(query).setParameter("keyword", "노트북");
+        verify(query).setParameter("status", Post.PostStatus.판매중);
+    }
+
+    private String scroll(PostSort sort, PostCursor after) {
+        repository.scroll(NO_FILTER, sort, after, 20);
+        return capturedJpql();
+    }
+
+    private String capturedJpql() {
+        ArgumentCaptor<String> jpql = ArgumentCaptor.forClass(String.class);
+        verify(entityManager).createQuery(jpql.capture(), eq(Post.class));
+        return jpql.getValue();
+    }
+}
@@ -0,0 +1,170 @@
+package org.ssafy.ssafymarket.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.ssafy.ssafymarket.dto.PostCursor;
+import org.ssafy.ssafymarket.dto.PostSort;
+import org.ssafy.ssafymarket.entity.Post;
+import org.ssafy.ssafymarket.entity.User;
+import org.ssafy.ssafymarket.repository.PostRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InMemoryPostSearchEngineTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private PostRepository postRepository;
+    private InMemoryPostSearchEngine engine;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        // 색인이 고른 ID를 그대로 게시글로 돌려줌
+        when(postRepository.findAllById(any())).thenAnswer(invocation ->
+                StreamSupport.stream(((Iterable<Long>) invocation.getArgument(0)).spliterator(), false)
+                        .map(id -> Post.builder().postId(id).build())
+                        .toList());
+        engine = new InMemoryPostSearchEngine(postRepository, "simple");
+    }
+
+    @Test
+    void ngramCandidatesAreVerifiedBySubstring() {
+        // "가나다", "나다라" gram은 모두 있지만 "가나다라"는 부분 문자열이 아님
+        index(1L, "가나다 나다라", "", 0, 0, 0);
+        index(2L, "가나다라 팝니다", "", 0, 0, 1);
+
+        assertThat(search("가나다라", PostSort.LATEST)).containsExactly(2L);
+    }
+
+    @Test
+    void matchesTitleOrDescriptionButNotAcrossTheirBoundary() {
+        index(1L, "책상", "의자 포함", 0, 0, 0);
+        index(2L, "의자", "책상 포함", 0, 0, 1);
+
+        assertThat(search("의자", PostSort.LATEST)).containsExactly(2L, 1L);
+        // 제목 끝 + 설명 시작이 이어지는 일치는 없음
+        assertThat(search("상의", PostSort.LATEST)).isEmpty();
+    }
+
+    @Test
+    void searchIsCaseAndNormalizationInsensitive() {
+        index(1L, "MacBook Pro 판매", "", 0, 0, 0);
+
+        assertThat(search("macbook", PostSort.LATEST)).containsExactly(1L);
+    }
+
+    @Test
+    void resultsFollowSortThenCreatedAtThenPostId() {
+        index(1L, "노트북", "", 3000, 5, 0);
+        index(2L, "노트북", "", 1000, 5, 1);
+        index(3L, "노트북", "", 2000, 9, 1);
+        index(4L, "노트북", "", 1000, 0, 2);
+
+        assertThat(search("노트북", PostSort.LATEST)).containsExactly(4L, 3L, 2L, 1L);
+        assertThat(search("노트북", PostSort.POPULAR)).containsExactly(3L, 2L, 1L, 4L);
+        assertThat(search("노트북", PostSort.LOW_PRICE)).containsExactly(2L, 4L, 3L, 1L);
+        assertThat(search("노트북", PostSort.HIGH_PRICE)).containsExactly(1L, 3L, 4L, 2L);
+    }
+
+    @Test
+    void pagesAndCursorWalkTheSameOrder() {
+        for (long id = 1; id <= 7; id++) {
+            index(id, "모니터 " + id, "", (int) (id % 3) * 1000, 0, (int) id);
+        }
+        List<Long> all = search("모니터", PostSort.LOW_PRICE);
+
+        PostSearchQuery firstPage = new PostSearchQuery("모니터", null, null, "lowPrice", 0, 3);
+        PostSearchQuery secondPage = new PostSearchQuery("모니터", null, null, "lowPrice", 1, 3);
+        assertThat(ids(engine.search(firstPage).getContent())).isEqualTo(all.subList(0, 3));
+        assertThat(ids(engine.search(secondPage).getContent())).isEqualTo(all.subList(3, 6));
+        assertThat(engine.search(firstPage).getTotalElements()).isEqualTo(7);
+
+        long lastId = all.get(2);
+        PostCursor after = new PostCursor(PostSort.LOW_PRICE, (int) (lastId % 3) * 1000,
+                BASE.plusMinutes(lastId), lastId);
+        assertThat(ids(engine.scroll(firstPage, after))).isEqualTo(all.subList(3, 6));
+    }
+
+    @Test
+    void campusAndStatusFiltersApply() {
+        index(1L, "자전거", "", 0, 0, 0, User.Campus.SEOUL, Post.PostStatus.판매중);
+        index(2L, "자전거", "", 0, 0, 1, User.Campus.DAEJEON, Post.PostStatus.판매중);
+        index(3L, "자전거", "", 0, 0, 2, User.Campus.SEOUL, Post.PostStatus.판매완료);
+
+        PostSearchQuery query = new PostSearchQuery("자전거", User.Campus.SEOUL, Post.PostStatus.판매중, "latest", 0, 10);
+        assertThat(ids(engine.search(query).getContent())).containsExactly(1L);
+    }
+
+    @Test
+    void removedAndReindexedPostsAreReflected() {
+        index(1L, "키보드", "", 0, 0, 0);
+        index(2L, "마우스", "", 0, 0, 1);
+
+        engine.remove(1L);
+        assertThat(search("키보드", PostSort.LATEST)).isEmpty();
+
+        // 삭제로 비워진 doc 번호를 재사용해도 다른 게시글 결과에 섞이지 않음
+        index(3L, "키보드 새것", "", 0, 0, 2);
+        index(2L, "무선 마우스", "", 0, 0, 1);
+        assertThat(search("키보드", PostSort.LATEST)).containsExactly(3L);
+        assertThat(search("무선", PostSort.LATEST)).containsExactly(2L);
+        assertThat(search("마우스", PostSort.LATEST)).containsExactly(2L);
+    }
+
+    @Test
+    void rebuildDoesNotOverwritePostsChangedWhileRunning() {
+        when(postRepository.findSearchDocumentsAfter(anyLong(), any())).thenAnswer(invocation -> {
+            // 배치를 읽는 사이 커밋 후 반영된 수정/삭제/좋아요
+            index(1L, "새 제목", "", 0, 0, 0);
+            engine.remove(2L);
+            engine.updateLikeCount(3L, 7);
+            return List.of(
+                    new PostSearchDocument(1L, "옛 제목", "", User.Campus.SEOUL, Post.PostStatus.판매중, 0, 0, BASE),
+                    new PostSearchDocument(2L, "삭제된 글", "", User.Campus.SEOUL, Post.PostStatus.판매중, 0, 0, BASE),
+                    new PostSearchDocument(3L, "그대로", "", User.Campus.SEOUL, Post.PostStatus.판매중, 0, 0, BASE),
+                    new PostSearchDocument(4L, "그대로", "", User.Campus.SEOUL, Post.PostStatus.판매중, 0, 5,
+                            BASE.plusMinutes(1)));
+        });
+
+        engine.rebuild();
+
+        assertThat(search("새 제목", PostSort.LATEST)).containsExactly(1L);
+        assertThat(search("옛 제목", PostSort.LATEST)).isEmpty();
+        assertThat(search("삭제된", PostSort.LATEST)).isEmpty();
+        assertThat(search("그대로", PostSort.POPULAR)).containsExactly(3L, 4L);
+    }
+
+    private void index(long postId, String title, String description, int price, int likeCount, int minutes) {
+        index(postId, title, description, price, likeCount, minutes, User.Campus.SEOUL, Post.PostStatus.판매중);
+    }
+
+    private void index(long postId, String title, String description, int price, int likeCount, int minutes,
+                       User.Campus campus, Post.PostStatus status) {
+        engine.index(new PostSearchDocument(postId, title, description, campus, status,
+                price, likeCount, BASE.plusMinutes(minutes)));
+    }
+
+    private List<Long> search(String keyword, PostSort sort) {
+        String sortParam = switch (sort) {
+            case LATEST -> "latest";
+            case POPULAR -> "popular";
+            case LOW_PRICE -> "lowPrice";
+            case HIGH_PRICE -> "highPrice";
+        };
+        return ids(engine.search(new PostSearchQuery(keyword, null, null, sortParam, 0, 100)).getContent());
+    }
+
+    private static List<Long> ids(List<Post> posts) {
+        return posts.stream().map(Post::getPostId).toList();
+    }
+}
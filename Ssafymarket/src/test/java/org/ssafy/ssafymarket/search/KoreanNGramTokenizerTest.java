@@ -0,0 +1,61 @@
+package org.ssafy.ssafymarket.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KoreanNGramTokenizerTest {
+
+    @Test
+    void normalizeComposesJamoAndLowercases() {
+        String decomposed = Normalizer.normalize("맥북 PRO", Normalizer.Form.NFD);
+
+        assertThat(KoreanNGramTokenizer.normalize(decomposed)).isEqualTo("맥북 pro");
+        assertThat(KoreanNGramTokenizer.normalize(null)).isEmpty();
+    }
+
+    @Test
+    void indexGramsCoverOneToThreeCharactersWithinEachSegment() {
+        assertThat(KoreanNGramTokenizer.indexGrams("아이폰 15"))
+                .containsExactlyInAnyOrder(
+                        "아", "이", "폰", "아이", "이폰", "아이폰",
+                        "1", "5", "15");
+    }
+
+    @Test
+    void indexGramsNeverSpanWhitespace() {
+        assertThat(KoreanNGramTokenizer.indexGrams("중고 책상"))
+                .doesNotContain("고 ", " 책", "고책", "중고책")
+                .contains("중고", "책상");
+    }
+
+    @Test
+    void indexGramsKeepSupplementaryCharactersWhole() {
+        // 서로게이트 쌍은 한 글자로 취급
+        assertThat(KoreanNGramTokenizer.indexGrams("😀책"))
+                .containsExactlyInAnyOrder("😀", "책", "😀책");
+    }
+
+    @Test
+    void queryGramsUseLongestGramPerSegment() {
+        assertThat(KoreanNGramTokenizer.queryGrams("갤럭시탭 s9"))
+                .containsExactly("갤럭시", "럭시탭", "s9");
+    }
+
+    @Test
+    void queryGramsForShortKeywordUseWholeKeyword() {
+        assertThat(KoreanNGramTokenizer.queryGrams("책")).containsExactly("책");
+        assertThat(KoreanNGramTokenizer.queryGrams("")).isEmpty();
+    }
+
+    @Test
+    void everyQueryGramIsAnIndexGramOfMatchingText() {
+        String text = KoreanNGramTokenizer.normalize("삼성 갤럭시탭 S9 판매합니다");
+        String keyword = KoreanNGramTokenizer.normalize("갤럭시탭 s9");
+
+        assertThat(KoreanNGramTokenizer.indexGrams(text))
+                .containsAll(KoreanNGramTokenizer.queryGrams(keyword));
+    }
+}
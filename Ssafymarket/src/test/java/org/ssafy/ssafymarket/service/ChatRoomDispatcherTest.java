@@ -0,0 +1,109 @@
+package org.ssafy.ssafymarket.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChatRoomDispatcherTest {
+
+    private ChatRoomDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (dispatcher != null) {
+            dispatcher.stop();
+        }
+    }
+
+    @Test
+    void commandsForSameRoomRunInSubmissionOrder() throws InterruptedException {
+        dispatcher = new ChatRoomDispatcher(4, 10_000, 1000);
+        int roomCount = 8;
+        int perRoom = 500;
+        Map<Long, List<Integer>> executed = new ConcurrentHashMap<>();
+        CountDownLatch done = new CountDownLatch(roomCount * perRoom);
+
+        // 채팅방을 섞어가며 제출해도 채팅방별 순서는 유지되어야 함
+        for (int i = 0; i < perRoom; i++) {
+            for (long roomId = 1; roomId <= roomCount; roomId++) {
+                int order = i;
+                List<Integer> log = executed.computeIfAbsent(roomId, id -> Collections.synchronizedList(new ArrayList<>()));
+                dispatcher.execute(roomId, () -> {
+                    log.add(order);
+                    done.countDown();
+                });
+            }
+        }
+
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        for (List<Integer> log : executed.values()) {
+            assertThat(log).hasSize(perRoom).isSorted();
+        }
+    }
+
+    @Test
+    void failedCommandIsReportedAndLaterCommandsStillRun() throws InterruptedException {
+        dispatcher = new ChatRoomDispatcher(1, 100, 1000);
+        AtomicReference<RuntimeException> reported = new AtomicReference<>();
+        CountDownLatch next = new CountDownLatch(1);
+
+        dispatcher.execute(1L, () -> {
+            throw new IllegalArgumentException("잘못된 요청");
+        }, reported::set);
+        dispatcher.execute(1L, next::countDown);
+
+        assertThat(next.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(reported.get()).isInstanceOf(IllegalArgumentException.class).hasMessage("잘못된 요청");
+    }
+
+    @Test
+    void rejectedSubmissionIsReportedToErrorHandler() throws InterruptedException {
+        dispatcher = new ChatRoomDispatcher(1, 1, 10);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicReference<RuntimeException> reported = new AtomicReference<>();
+
+        // 레인을 막고 대기열(1칸)을 채운 뒤 다음 제출은 거부됨
+        dispatcher.execute(1L, () -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        dispatcher.execute(1L, () -> {
+        });
+        dispatcher.execute(1L, () -> {
+        }, reported::set);
+        release.countDown();
+
+        assertThat(reported.get()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void callReturnsResultAndRethrowsFailure() {
+        dispatcher = new ChatRoomDispatcher(2, 100, 1000);
+
+        assertThat(dispatcher.call(1L, () -> 42)).isEqualTo(42);
+        assertThatThrownBy(() -> dispatcher.call(1L, () -> {
+            throw new IllegalArgumentException("실패");
+        })).isInstanceOf(IllegalArgumentException.class).hasMessage("실패");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
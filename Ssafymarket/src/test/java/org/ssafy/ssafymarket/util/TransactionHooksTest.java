@@ -0,0 +1,72 @@
+package org.ssafy.ssafymarket.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionHooksTest {
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void outsideTransactionAfterCommitRunsImmediatelyAndAfterRollbackIsSkipped() {
+        AtomicInteger committed = new AtomicInteger();
+        AtomicInteger rolledBack = new AtomicInteger();
+
+        TransactionHooks.afterCommit(committed::incrementAndGet);
+        TransactionHooks.afterRollback(rolledBack::incrementAndGet);
+
+        assertThat(committed).hasValue(1);
+        assertThat(rolledBack).hasValue(0);
+    }
+
+    @Test
+    void commitRunsOnlyAfterCommitHooks() {
+        AtomicInteger committed = new AtomicInteger();
+        AtomicInteger rolledBack = new AtomicInteger();
+        TransactionSynchronizationManager.initSynchronization();
+
+        TransactionHooks.afterCommit(committed::incrementAndGet);
+        TransactionHooks.afterRollback(rolledBack::incrementAndGet);
+        assertThat(committed).hasValue(0);
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(committed).hasValue(1);
+        assertThat(rolledBack).hasValue(0);
+    }
+
+    @Test
+    void rollbackRunsOnlyAfterRollbackHooks() {
+        AtomicInteger committed = new AtomicInteger();
+        AtomicInteger rolledBack = new AtomicInteger();
+        TransactionSynchronizationManager.initSynchronization();
+
+        TransactionHooks.afterCommit(committed::incrementAndGet);
+        TransactionHooks.afterRollback(rolledBack::incrementAndGet);
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(committed).hasValue(0);
+        assertThat(rolledBack).hasValue(1);
+    }
+
+    // 트랜잭션 매니저가 완료 시 호출하는 순서를 흉내냄
+    private static void complete(int status) {
+        var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(s -> s.afterCompletion(status));
+    }
+}